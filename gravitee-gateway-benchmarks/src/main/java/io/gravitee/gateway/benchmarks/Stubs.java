@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory stubs for the gateway API interfaces. Unless an answer is given for a method name, every method of a
+ * stub returns <code>null</code> (or the default value of primitive and {@link Optional} return types).
+ *
+ * @author GraviteeSource Team
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    public static <T> T stub(Class<T> type) {
+        return stub(type, Collections.emptyMap());
+    }
+
+    public static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(
+                Stubs.class.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        switch (method.getName()) {
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            case "toString":
+                                return type.getSimpleName() + "Stub";
+                        }
+                    }
+
+                    if (answers.containsKey(method.getName())) {
+                        return answers.get(method.getName());
+                    }
+
+                    return defaultValue(method.getReturnType());
+                }));
+    }
+
+    /**
+     * Sets a (private) field of the given target, as done by Spring when autowiring a component.
+     */
+    public static void inject(Object target, String fieldName, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException nsfe) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException iae) {
+                throw new IllegalStateException(iae);
+            }
+        }
+
+        throw new IllegalArgumentException("No field " + fieldName + " in " + target.getClass());
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == Optional.class) {
+            return Optional.empty();
+        } else if (!type.isPrimitive() || type == void.class) {
+            return null;
+        } else if (type == boolean.class) {
+            return false;
+        } else if (type == char.class) {
+            return '\0';
+        } else if (type == long.class) {
+            return 0L;
+        } else if (type == float.class) {
+            return 0F;
+        } else if (type == double.class) {
+            return 0D;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        } else if (type == short.class) {
+            return (short) 0;
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.buffer;
+
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.buffer.BufferFactory;
+import io.gravitee.gateway.buffer.netty.BufferFactoryImpl;
+import io.gravitee.gateway.buffer.netty.BufferUtils;
+import io.gravitee.gateway.buffer.netty.PooledBufferFactoryImpl;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregates body chunks into a buffer (as done when logging or replaying a body) and copies the result, with the
+ * unpooled and pooled buffer factories.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BufferBenchmark {
+
+    private static final int CHUNKS = 16;
+
+    @Param({"unpooled", "pooled"})
+    public String factory;
+
+    @Param({"512", "8192"})
+    public int chunkSize;
+
+    private BufferFactory bufferFactory;
+    private BufferFactoryImpl wrapper;
+    private Buffer[] chunks;
+
+    @Setup
+    public void setup() {
+        bufferFactory = "pooled".equals(factory) ? new PooledBufferFactoryImpl() : new BufferFactoryImpl();
+        wrapper = new BufferFactoryImpl();
+
+        byte[] bytes = new byte[chunkSize];
+        Arrays.fill(bytes, (byte) 'a');
+
+        // Chunks are received from Vert.x and wrapped, without copy
+        chunks = new Buffer[CHUNKS];
+        for (int i = 0; i < CHUNKS; i++) {
+            chunks[i] = wrapper.wrap(Unpooled.wrappedBuffer(bytes));
+        }
+    }
+
+    @Benchmark
+    public int append() {
+        Buffer aggregate = bufferFactory.buffer();
+        for (Buffer chunk : chunks) {
+            aggregate.appendBuffer(chunk);
+        }
+
+        int length = aggregate.length();
+        BufferUtils.release(aggregate);
+        return length;
+    }
+
+    @Benchmark
+    public byte[] appendAndCopy() {
+        Buffer aggregate = bufferFactory.buffer();
+        for (Buffer chunk : chunks) {
+            aggregate.appendBuffer(chunk);
+        }
+
+        byte[] bytes = aggregate.getBytes();
+        BufferUtils.release(aggregate);
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] copy() {
+        return chunks[0].getBytes();
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.http;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.common.http.HttpVersion;
+import io.gravitee.common.util.LinkedMultiValueMap;
+import io.gravitee.common.util.MultiValueMap;
+import io.gravitee.common.utils.UUID;
+import io.gravitee.gateway.api.Request;
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.handler.Handler;
+import io.gravitee.reporter.api.http.Metrics;
+
+/**
+ * An in-memory {@link Request} without body.
+ *
+ * @author GraviteeSource Team
+ */
+public class StubRequest implements Request {
+
+    private final String id;
+    private final long timestamp;
+    private final String path;
+    private final HttpMethod method;
+    private final HttpHeaders headers;
+    private final MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
+    private final Metrics metrics;
+
+    private Handler<Void> endHandler;
+
+    public StubRequest(HttpMethod method, String path, HttpHeaders headers) {
+        this.id = UUID.toString(UUID.random());
+        this.timestamp = System.currentTimeMillis();
+        this.method = method;
+        this.path = path;
+        this.headers = headers;
+        this.metrics = Metrics.on(timestamp).build();
+        this.metrics.setRequestId(id);
+        this.metrics.setHttpMethod(method);
+        this.metrics.setUri(path);
+    }
+
+    @Override
+    public String id() {
+        return id;
+    }
+
+    @Override
+    public String transactionId() {
+        throw new IllegalStateException("Request not yet managed.");
+    }
+
+    @Override
+    public String uri() {
+        return path;
+    }
+
+    @Override
+    public String path() {
+        return path;
+    }
+
+    @Override
+    public String pathInfo() {
+        return path;
+    }
+
+    @Override
+    public String contextPath() {
+        throw new IllegalStateException("Request not yet managed.");
+    }
+
+    @Override
+    public MultiValueMap<String, String> parameters() {
+        return parameters;
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    @Override
+    public HttpMethod method() {
+        return method;
+    }
+
+    @Override
+    public String scheme() {
+        return "http";
+    }
+
+    @Override
+    public String rawMethod() {
+        return method.name();
+    }
+
+    @Override
+    public HttpVersion version() {
+        return HttpVersion.HTTP_1_1;
+    }
+
+    @Override
+    public long timestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String remoteAddress() {
+        return "127.0.0.1";
+    }
+
+    @Override
+    public String localAddress() {
+        return "127.0.0.1";
+    }
+
+    @Override
+    public Request bodyHandler(Handler<Buffer> bodyHandler) {
+        return this;
+    }
+
+    @Override
+    public Request endHandler(Handler<Void> endHandler) {
+        this.endHandler = endHandler;
+        return this;
+    }
+
+    @Override
+    public Request pause() {
+        return this;
+    }
+
+    @Override
+    public Request resume() {
+        if (endHandler != null) {
+            endHandler.handle(null);
+        }
+        return this;
+    }
+
+    @Override
+    public Metrics metrics() {
+        return metrics;
+    }
+}
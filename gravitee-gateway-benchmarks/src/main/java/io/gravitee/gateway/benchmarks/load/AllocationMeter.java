@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.load;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Vertx;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the bytes allocated by the event loop threads of the gateway, which handle the whole request path unless
+ * a policy blocks.
+ *
+ * @author GraviteeSource Team
+ */
+final class AllocationMeter {
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final long[] threadIds;
+
+    private AllocationMeter(com.sun.management.ThreadMXBean threadMXBean, long[] threadIds) {
+        this.threadMXBean = threadMXBean;
+        this.threadIds = threadIds;
+    }
+
+    static AllocationMeter of(Vertx vertx) throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadMXBean.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("Thread allocated memory is not supported by this JVM");
+        }
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        List<Long> ids = new ArrayList<>();
+        for (EventExecutor executor : vertx.nettyEventLoopGroup()) {
+            ids.add(executor.submit(() -> Thread.currentThread().getId()).get());
+        }
+
+        return new AllocationMeter(threadMXBean, ids.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    long allocatedBytes() {
+        long allocated = 0;
+        for (long bytes : threadMXBean.getThreadAllocatedBytes(threadIds)) {
+            // -1 for a thread which is no longer alive
+            if (bytes > 0) {
+                allocated += bytes;
+            }
+        }
+
+        return allocated;
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.load;
+
+import io.gravitee.common.utils.IdGenerator;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Credentials shared by the load generator, the in-memory repositories and the security policies of the load test.
+ *
+ * @author GraviteeSource Team
+ */
+public final class Fixtures {
+
+    public static final String API_KEY = "load-test-api-key";
+    public static final String API_KEY_PLAN = "api-key";
+    public static final String API_KEY_APPLICATION = "load-test-application";
+    public static final String API_KEY_SUBSCRIPTION = "load-test-api-key-subscription";
+
+    public static final String JWT_CLIENT_ID = "load-test-client";
+    public static final String JWT_PLAN = "jwt";
+    public static final String JWT_APPLICATION = "load-test-application";
+    public static final String JWT_SUBSCRIPTION = "load-test-jwt-subscription";
+
+    /**
+     * The API identifier given by the local registry to the API definition named <code>load-jwt</code>.
+     */
+    public static final String JWT_API = IdGenerator.generate("load-jwt");
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final byte[] JWT_SECRET = "gravitee-load-test-secret-of-at-least-256-bits".getBytes(StandardCharsets.UTF_8);
+
+    private Fixtures() {
+    }
+
+    public static Mac hmac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(JWT_SECRET, HMAC_ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException gse) {
+            throw new IllegalStateException(gse);
+        }
+    }
+
+    /**
+     * Returns a HS256 signed JWT for the given client, valid for one day.
+     */
+    public static String jwt(String clientId) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        long expiration = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + TimeUnit.DAYS.toSeconds(1);
+
+        String header = encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"client_id\":\"" + clientId + "\",\"exp\":" + expiration + '}')
+                .getBytes(StandardCharsets.UTF_8));
+        String signingInput = header + '.' + payload;
+
+        return signingInput + '.' + encoder.encodeToString(hmac().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
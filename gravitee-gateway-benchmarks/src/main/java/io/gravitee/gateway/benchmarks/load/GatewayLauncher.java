@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.load;
+
+import io.gravitee.gateway.benchmarks.load.policy.ApiKeyPolicy;
+import io.gravitee.gateway.benchmarks.load.policy.JwtPolicy;
+import io.gravitee.gateway.benchmarks.load.policy.PolicyPlugins;
+import io.gravitee.gateway.benchmarks.load.policy.TransformContentPolicy;
+import io.gravitee.gateway.benchmarks.policy.PassThroughPolicy;
+import io.gravitee.gateway.handlers.api.manager.ApiManager;
+import io.gravitee.gateway.services.localregistry.LocalApiDefinitionRegistry;
+import io.gravitee.gateway.standalone.GatewayContainer;
+import io.gravitee.plugin.core.api.ConfigurablePluginManager;
+import io.gravitee.plugin.policy.PolicyPlugin;
+import io.vertx.core.Vertx;
+import org.springframework.core.ResolvableType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Scanner;
+import java.util.stream.Stream;
+
+/**
+ * Boots a gateway in the current JVM, from a temporary <code>gravitee.home</code> whose API definitions are deployed
+ * by the {@link LocalApiDefinitionRegistry}.
+ *
+ * @author GraviteeSource Team
+ */
+final class GatewayLauncher {
+
+    private static final String RESOURCES = "/io/gravitee/gateway/benchmarks/load/";
+
+    private final int port;
+    private final int instances;
+    private final int backendPort;
+    private final Collection<Scenario> scenarios;
+
+    private Path home;
+    private GatewayContainer container;
+    private LocalApiDefinitionRegistry registry;
+
+    GatewayLauncher(int port, int instances, int backendPort, Collection<Scenario> scenarios) {
+        this.port = port;
+        this.instances = instances;
+        this.backendPort = backendPort;
+        this.scenarios = scenarios;
+    }
+
+    void start() throws Exception {
+        home = Files.createTempDirectory("gravitee-load-test");
+        Files.createDirectories(home.resolve("plugins"));
+        Path apis = Files.createDirectories(home.resolve("apis"));
+
+        write(Files.createDirectories(home.resolve("config")).resolve("gravitee.yml"), resource("gravitee.yml"));
+        for (Scenario scenario : scenarios) {
+            write(apis.resolve(scenario.id() + ".json"), resource("apis/" + scenario.id() + ".json"));
+        }
+
+        System.setProperty("gravitee.home", home.toString());
+        container = new GatewayContainer();
+        registerPolicies();
+        container.start();
+
+        registry = new LocalApiDefinitionRegistry(apis.toString());
+        registry.setEnabled(true);
+        registry.setApiManager(container.applicationContext().getBean(ApiManager.class));
+        registry.start();
+    }
+
+    Vertx vertx() {
+        return container.applicationContext().getBean(Vertx.class);
+    }
+
+    void stop() throws Exception {
+        if (registry != null) {
+            registry.stop();
+        }
+
+        if (container != null) {
+            container.stop();
+        }
+
+        if (home != null) {
+            try (Stream<Path> files = Files.walk(home)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+
+    private void registerPolicies() {
+        String[] beanNames = container.applicationContext().getBeanNamesForType(
+                ResolvableType.forClassWithGenerics(ConfigurablePluginManager.class, PolicyPlugin.class));
+
+        @SuppressWarnings("unchecked")
+        ConfigurablePluginManager<PolicyPlugin> policyPluginManager = (ConfigurablePluginManager<PolicyPlugin>)
+                container.applicationContext().getBean(beanNames[0]);
+
+        policyPluginManager.register(PolicyPlugins.of("key-less", PassThroughPolicy.class));
+        policyPluginManager.register(PolicyPlugins.of("api-key", ApiKeyPolicy.class));
+        policyPluginManager.register(PolicyPlugins.of("jwt", JwtPolicy.class));
+        policyPluginManager.register(PolicyPlugins.of("transform-content", TransformContentPolicy.class));
+    }
+
+    private String resource(String name) throws IOException {
+        try (InputStream in = GatewayLauncher.class.getResourceAsStream(RESOURCES + name);
+             Scanner scanner = new Scanner(in, StandardCharsets.UTF_8.name())) {
+            return scanner.useDelimiter("\\A").next()
+                    .replace("@gateway.port@", Integer.toString(port))
+                    .replace("@gateway.instances@", Integer.toString(instances))
+                    .replace("@backend.port@", Integer.toString(backendPort));
+        }
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
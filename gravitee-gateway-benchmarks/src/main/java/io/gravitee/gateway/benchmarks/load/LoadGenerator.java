@@ -0,0 +1,171 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.load;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An open-loop load generator: requests are sent at a constant arrival rate, whatever the response times are.
+ *
+ * The latency of a request is measured from the time it was <em>intended</em> to be sent, not from the time it was
+ * actually sent, so that a stall of the gateway (or of the generator) is accounted for by all the requests that
+ * should have been sent meanwhile. This avoids the coordinated omission of closed-loop load generators.
+ *
+ * @author GraviteeSource Team
+ */
+final class LoadGenerator {
+
+    private final List<HttpClient> clients = new ArrayList<>();
+    private final List<Context> contexts = new ArrayList<>();
+    private final int timeout;
+
+    private final Recorder recorder = new Recorder(3);
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    /**
+     * @param vertx the Vert.x instance of the generator, which should not be the one of the gateway.
+     * @param clients the number of HTTP clients, each of them being bound to its own event loop.
+     * @param connections the total number of connections to the gateway.
+     * @param timeout the request timeout, in milliseconds.
+     */
+    LoadGenerator(Vertx vertx, String host, int port, int clients, int connections, int timeout) {
+        this.timeout = timeout;
+
+        HttpClientOptions options = new HttpClientOptions()
+                .setDefaultHost(host)
+                .setDefaultPort(port)
+                .setKeepAlive(true)
+                .setPipelining(false)
+                .setMaxPoolSize(Math.max(1, connections / clients))
+                .setMaxWaitQueueSize(-1);
+
+        for (int i = 0; i < clients; i++) {
+            this.clients.add(vertx.createHttpClient(options));
+            this.contexts.add(vertx.getOrCreateContext());
+        }
+    }
+
+    Result run(Scenario scenario, int rate, int warmup, int duration, AllocationMeter allocationMeter) throws InterruptedException {
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+
+        // Warm-up, results are discarded
+        fire(scenario, interval, TimeUnit.SECONDS.toNanos(warmup));
+        drain();
+        reset();
+
+        long allocated = allocationMeter.allocatedBytes();
+        long start = System.nanoTime();
+
+        long sent = fire(scenario, interval, TimeUnit.SECONDS.toNanos(duration));
+        drain();
+
+        long elapsed = System.nanoTime() - start;
+        allocated = allocationMeter.allocatedBytes() - allocated;
+
+        Histogram histogram = recorder.getIntervalHistogram();
+        return new Result(scenario, rate, sent, succeeded.get(), failed.get(), elapsed, histogram, allocated);
+    }
+
+    void close() {
+        clients.forEach(HttpClient::close);
+    }
+
+    private long fire(Scenario scenario, long interval, long duration) {
+        long start = System.nanoTime();
+        long end = start + duration;
+        long sent = 0;
+
+        for (long intended = start; intended < end; intended += interval) {
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+
+            int idx = (int) (sent++ % clients.size());
+            HttpClient client = clients.get(idx);
+            long intendedStart = intended;
+            contexts.get(idx).runOnContext(v -> send(client, scenario, intendedStart));
+        }
+
+        return sent;
+    }
+
+    private void send(HttpClient client, Scenario scenario, long intendedStart) {
+        inFlight.incrementAndGet();
+        Exchange exchange = new Exchange(intendedStart);
+
+        HttpClientRequest request = client.request(scenario.method(), scenario.path(), response -> {
+            boolean success = response.statusCode() < 400;
+            response.exceptionHandler(t -> exchange.complete(false));
+            response.endHandler(v -> exchange.complete(success));
+        });
+
+        request.exceptionHandler(t -> exchange.complete(false));
+        request.setTimeout(timeout);
+        scenario.send(request);
+    }
+
+    private void drain() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void reset() {
+        recorder.reset();
+        succeeded.set(0);
+        failed.set(0);
+    }
+
+    /**
+     * A request and its response, which are always handled by the event loop of their client.
+     */
+    private final class Exchange {
+
+        private final long intendedStart;
+        private boolean completed;
+
+        private Exchange(long intendedStart) {
+            this.intendedStart = intendedStart;
+        }
+
+        private void complete(boolean success) {
+            if (completed) {
+                return;
+            }
+
+            completed = true;
+            recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart));
+            (success ? succeeded : failed).incrementAndGet();
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.load;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * End-to-end load test of a gateway running in the current JVM, in front of a local stub backend, over the loopback
+ * interface. The gateway, the backend and the load generator each use their own Vert.x instance.
+ *
+ * Options (all optional):
+ * <ul>
+ *     <li><code>--scenarios keyless,api-key,jwt,transform,streaming</code>: the scenarios to run, all by default.</li>
+ *     <li><code>--rate 1000</code>: the constant arrival rate, in requests per second.</li>
+ *     <li><code>--warmup 10</code>: the warm-up duration of each scenario, in seconds.</li>
+ *     <li><code>--duration 30</code>: the measurement duration of each scenario, in seconds.</li>
+ *     <li><code>--connections 64</code>: the number of connections opened by the load generator.</li>
+ *     <li><code>--clients 2</code>: the number of event loops of the load generator.</li>
+ *     <li><code>--timeout 10000</code>: the request timeout, in milliseconds.</li>
+ *     <li><code>--port 8082</code>: the port of the gateway.</li>
+ *     <li><code>--instances 0</code>: the number of gateway verticles, one per event loop by default.</li>
+ *     <li><code>--output dir</code>: a directory to write the latency distribution of each scenario to.</li>
+ * </ul>
+ *
+ * @author GraviteeSource Team
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+
+        Set<Scenario> scenarios = EnumSet.noneOf(Scenario.class);
+        if (options.containsKey("scenarios")) {
+            Arrays.stream(options.get("scenarios").split(",")).map(String::trim).map(Scenario::of).forEach(scenarios::add);
+        } else {
+            scenarios.addAll(EnumSet.allOf(Scenario.class));
+        }
+
+        int rate = intOption(options, "rate", 1000);
+        int warmup = intOption(options, "warmup", 10);
+        int duration = intOption(options, "duration", 30);
+        int connections = intOption(options, "connections", 64);
+        int clients = intOption(options, "clients", Math.max(1, Runtime.getRuntime().availableProcessors() / 4));
+        int timeout = intOption(options, "timeout", 10000);
+        int port = intOption(options, "port", 8082);
+        int instances = intOption(options, "instances", 0);
+        Path output = options.containsKey("output") ? Files.createDirectories(Paths.get(options.get("output"))) : null;
+
+        Vertx backendVertx = Vertx.vertx();
+        Vertx generatorVertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(clients));
+
+        StubBackend backend = new StubBackend(backendVertx, Math.max(1, Runtime.getRuntime().availableProcessors() / 4));
+        GatewayLauncher gateway = new GatewayLauncher(port, instances, backend.start(), scenarios);
+        LoadGenerator generator = null;
+
+        List<Result> results = new ArrayList<>();
+        try {
+            gateway.start();
+
+            AllocationMeter allocationMeter = AllocationMeter.of(gateway.vertx());
+            generator = new LoadGenerator(generatorVertx, "localhost", port, clients, connections, timeout);
+
+            for (Scenario scenario : scenarios) {
+                System.out.printf("Running %s: %d req/s, %ds warm-up, %ds measurement%n", scenario.id(), rate, warmup, duration);
+                results.add(generator.run(scenario, rate, warmup, duration, allocationMeter));
+            }
+        } finally {
+            if (generator != null) {
+                generator.close();
+            }
+            gateway.stop();
+            backend.stop();
+            generatorVertx.close();
+            backendVertx.close();
+        }
+
+        System.out.println();
+        Result.printHeader(System.out);
+        for (Result result : results) {
+            result.print(System.out);
+
+            if (output != null) {
+                try (PrintStream out = new PrintStream(output.resolve(result.scenario().id() + ".hgrm").toFile(), "UTF-8")) {
+                    result.printDistribution(out);
+                }
+            }
+        }
+
+        System.exit(0);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Expected --<option> <value>, got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+
+        return options;
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.get(name);
+        return (value == null) ? defaultValue : Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The outcome of a scenario. Latencies are recorded in microseconds and reported in milliseconds.
+ *
+ * @author GraviteeSource Team
+ */
+final class Result {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Scenario scenario;
+    private final int rate;
+    private final long sent;
+    private final long succeeded;
+    private final long failed;
+    private final long elapsed;
+    private final Histogram latencies;
+    private final long allocatedBytes;
+
+    Result(Scenario scenario, int rate, long sent, long succeeded, long failed, long elapsed, Histogram latencies,
+           long allocatedBytes) {
+        this.scenario = scenario;
+        this.rate = rate;
+        this.sent = sent;
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.elapsed = elapsed;
+        this.latencies = latencies;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    Scenario scenario() {
+        return scenario;
+    }
+
+    static void printHeader(PrintStream out) {
+        out.printf("%-10s %8s %10s %10s %8s %9s %9s %9s %9s %9s %12s%n",
+                "scenario", "rate", "achieved", "requests", "errors",
+                "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "pending", "alloc(B/req)");
+    }
+
+    void print(PrintStream out) {
+        long completed = succeeded + failed;
+        double achieved = completed / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+
+        out.printf("%-10s %8d %10.1f %10d %8d %9.3f %9.3f %9.3f %9.3f %9d %12d%n",
+                scenario.id(), rate, achieved, completed, failed,
+                percentile(50), percentile(99), percentile(99.9), latencies.getMaxValue() / MICROS_PER_MILLI,
+                sent - completed, (completed == 0) ? 0 : allocatedBytes / completed);
+    }
+
+    /**
+     * Writes the full latency distribution, in the HdrHistogram percentile format.
+     */
+    void printDistribution(PrintStream out) {
+        latencies.outputPercentileDistribution(out, MICROS_PER_MILLI);
+    }
+
+    private double percentile(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.load;
+
+import io.gravitee.common.http.GraviteeHttpHeader;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The load test scenarios. Each of them is served by the API definition <code>apis/&lt;id&gt;.json</code>, deployed
+ * through the local registry.
+ *
+ * @author GraviteeSource Team
+ */
+public enum Scenario {
+
+    /**
+     * Keyless plan, no policy.
+     */
+    KEYLESS("keyless", HttpMethod.GET) {
+        @Override
+        void send(HttpClientRequest request) {
+            request.end();
+        }
+    },
+
+    /**
+     * Api-key plan, the api-key being looked up from a cache.
+     */
+    API_KEY("api-key", HttpMethod.GET) {
+        @Override
+        void send(HttpClientRequest request) {
+            request.putHeader(GraviteeHttpHeader.X_GRAVITEE_API_KEY, Fixtures.API_KEY).end();
+        }
+    },
+
+    /**
+     * JWT plan: signature verification followed by the subscription check.
+     */
+    JWT("jwt", HttpMethod.GET) {
+        private final String authorization = "Bearer " + Fixtures.jwt(Fixtures.JWT_CLIENT_ID);
+
+        @Override
+        void send(HttpClientRequest request) {
+            request.putHeader(HttpHeaders.AUTHORIZATION, authorization).end();
+        }
+    },
+
+    /**
+     * Keyless plan, the request content (~1 KB of JSON) being buffered and rendered by the template engine.
+     */
+    TRANSFORM("transform", HttpMethod.POST) {
+        private final Buffer content = json(1024);
+
+        @Override
+        void send(HttpClientRequest request) {
+            request
+                    .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                    .end(content.slice());
+        }
+    },
+
+    /**
+     * Keyless plan, 1 MB request content streamed to the backend and echoed back.
+     */
+    STREAMING("streaming", HttpMethod.POST) {
+        private static final int CHUNK_SIZE = 16 * 1024;
+
+        private final Buffer content = random(1024 * 1024);
+
+        @Override
+        void send(HttpClientRequest request) {
+            request.setChunked(true).putHeader(HttpHeaders.CONTENT_TYPE, "application/octet-stream");
+            for (int start = 0; start < content.length(); start += CHUNK_SIZE) {
+                request.write(content.slice(start, Math.min(start + CHUNK_SIZE, content.length())));
+            }
+            request.end();
+        }
+    };
+
+    private final String id;
+    private final HttpMethod method;
+
+    Scenario(String id, HttpMethod method) {
+        this.id = id;
+        this.method = method;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public HttpMethod method() {
+        return method;
+    }
+
+    public String path() {
+        return '/' + id + '/';
+    }
+
+    /**
+     * Writes the headers and the content of the request, then ends it.
+     */
+    abstract void send(HttpClientRequest request);
+
+    public static Scenario of(String id) {
+        for (Scenario scenario : values()) {
+            if (scenario.id.equalsIgnoreCase(id)) {
+                return scenario;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown scenario: " + id);
+    }
+
+    private static Buffer json(int size) {
+        StringBuilder builder = new StringBuilder("{\"request\":\"{#request.id}\",\"items\":[");
+        for (int i = 0; builder.length() < size; i++) {
+            builder.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"name\":\"item-").append(i).append("\"}");
+        }
+
+        return Buffer.buffer(builder.append("]}").toString());
+    }
+
+    private static Buffer random(int size) {
+        byte[] bytes = new byte[size];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return Buffer.buffer(bytes);
+    }
+}
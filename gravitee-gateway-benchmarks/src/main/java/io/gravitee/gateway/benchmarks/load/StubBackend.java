@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.load;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.streams.Pump;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The backend of the load test APIs: <code>GET</code> requests get a small JSON document, other requests get their
+ * content echoed back as a stream.
+ *
+ * @author GraviteeSource Team
+ */
+final class StubBackend {
+
+    private static final Buffer PAYLOAD = Buffer.buffer("{\"status\":\"ok\"}");
+
+    private final Vertx vertx;
+    private final int instances;
+    private final List<HttpServer> servers = new ArrayList<>();
+
+    private int port;
+
+    StubBackend(Vertx vertx, int instances) {
+        this.vertx = vertx;
+        this.instances = instances;
+    }
+
+    /**
+     * Starts the backend on a random port, returned once all the servers are listening.
+     */
+    int start() throws Exception {
+        for (int i = 0; i < instances; i++) {
+            CompletableFuture<HttpServer> listening = new CompletableFuture<>();
+            vertx
+                    .createHttpServer(new HttpServerOptions().setHost("localhost").setPort(port))
+                    .requestHandler(request -> {
+                        HttpServerResponse response = request.response();
+                        if (request.method() == HttpMethod.GET) {
+                            response
+                                    .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+                                    .end(PAYLOAD.slice());
+                        } else {
+                            String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+                            if (contentType != null) {
+                                response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+                            }
+                            response.setChunked(true);
+                            Pump.pump(request, response).start();
+                            request.endHandler(v -> response.end());
+                        }
+                    })
+                    .listen(result -> {
+                        if (result.succeeded()) {
+                            listening.complete(result.result());
+                        } else {
+                            listening.completeExceptionally(result.cause());
+                        }
+                    });
+
+            // Further servers share the port of the first one, so that the connections are spread over event loops
+            HttpServer server = listening.get(10, TimeUnit.SECONDS);
+            servers.add(server);
+            port = server.actualPort();
+        }
+
+        return port;
+    }
+
+    void stop() {
+        servers.forEach(HttpServer::close);
+        servers.clear();
+    }
+}
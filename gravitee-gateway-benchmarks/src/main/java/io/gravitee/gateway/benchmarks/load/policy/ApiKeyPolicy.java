@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.load.policy;
+
+import io.gravitee.common.http.GraviteeHttpHeader;
+import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.gateway.api.ExecutionContext;
+import io.gravitee.gateway.api.Request;
+import io.gravitee.gateway.api.Response;
+import io.gravitee.policy.api.PolicyChain;
+import io.gravitee.policy.api.PolicyResult;
+import io.gravitee.policy.api.annotations.OnRequest;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiKeyRepository;
+import io.gravitee.repository.management.model.ApiKey;
+
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Validates the api-key of the request against the {@link ApiKeyRepository}, as done by the api-key policy plugin.
+ *
+ * @author GraviteeSource Team
+ */
+public class ApiKeyPolicy {
+
+    @OnRequest
+    public void onRequest(Request request, Response response, PolicyChain policyChain, ExecutionContext executionContext) {
+        String key = request.headers().getFirst(GraviteeHttpHeader.X_GRAVITEE_API_KEY);
+        if (key == null) {
+            policyChain.failWith(PolicyResult.failure(HttpStatusCode.UNAUTHORIZED_401, "Unauthorized"));
+            return;
+        }
+
+        try {
+            Optional<ApiKey> apiKey = executionContext.getComponent(ApiKeyRepository.class).findById(key);
+            if (apiKey.isPresent() && isValid(apiKey.get(), request, executionContext)) {
+                executionContext.setAttribute(ExecutionContext.ATTR_APPLICATION, apiKey.get().getApplication());
+                executionContext.setAttribute(ExecutionContext.ATTR_USER_ID, apiKey.get().getSubscription());
+                policyChain.doNext(request, response);
+            } else {
+                policyChain.failWith(PolicyResult.failure(HttpStatusCode.FORBIDDEN_403, "API Key is not valid"));
+            }
+        } catch (TechnicalException te) {
+            policyChain.failWith(PolicyResult.failure(HttpStatusCode.INTERNAL_SERVER_ERROR_500, te.getMessage()));
+        }
+    }
+
+    private boolean isValid(ApiKey apiKey, Request request, ExecutionContext executionContext) {
+        return !apiKey.isRevoked()
+                && apiKey.getPlan().equals(executionContext.getAttribute(ExecutionContext.ATTR_PLAN))
+                && (apiKey.getExpireAt() == null || apiKey.getExpireAt().after(new Date(request.timestamp())));
+    }
+}
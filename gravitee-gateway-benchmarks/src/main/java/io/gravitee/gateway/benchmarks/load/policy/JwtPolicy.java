@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.load.policy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.gateway.api.ExecutionContext;
+import io.gravitee.gateway.api.Request;
+import io.gravitee.gateway.api.Response;
+import io.gravitee.gateway.benchmarks.load.Fixtures;
+import io.gravitee.policy.api.PolicyChain;
+import io.gravitee.policy.api.PolicyResult;
+import io.gravitee.policy.api.annotations.OnRequest;
+
+import javax.crypto.Mac;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies the HS256 signature and the expiration of the bearer token, then exposes its <code>client_id</code> claim
+ * to the subscription check which follows the JWT policy plugin.
+ *
+ * @author GraviteeSource Team
+ */
+public class JwtPolicy {
+
+    private static final String CONTEXT_ATTRIBUTE_CLIENT_ID = "oauth.client_id";
+    private static final String BEARER = "Bearer ";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ThreadLocal<Mac> MAC = ThreadLocal.withInitial(Fixtures::hmac);
+
+    @OnRequest
+    public void onRequest(Request request, Response response, PolicyChain policyChain, ExecutionContext executionContext) {
+        String clientId = validate(request.headers().getFirst(HttpHeaders.AUTHORIZATION), request.timestamp());
+
+        if (clientId == null) {
+            policyChain.failWith(PolicyResult.failure(HttpStatusCode.UNAUTHORIZED_401, "Unauthorized"));
+        } else {
+            executionContext.setAttribute(CONTEXT_ATTRIBUTE_CLIENT_ID, clientId);
+            policyChain.doNext(request, response);
+        }
+    }
+
+    private String validate(String authorization, long timestamp) {
+        if (authorization == null || !authorization.startsWith(BEARER)) {
+            return null;
+        }
+
+        String token = authorization.substring(BEARER.length()).trim();
+        int payloadStart = token.indexOf('.');
+        int signatureStart = token.lastIndexOf('.');
+        if (payloadStart == -1 || payloadStart == signatureStart) {
+            return null;
+        }
+
+        try {
+            byte[] expected = MAC.get().doFinal(token.substring(0, signatureStart).getBytes(StandardCharsets.US_ASCII));
+            byte[] signature = Base64.getUrlDecoder().decode(token.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(expected, signature)) {
+                return null;
+            }
+
+            JsonNode claims = MAPPER.readTree(Base64.getUrlDecoder().decode(token.substring(payloadStart + 1, signatureStart)));
+            JsonNode expiration = claims.get("exp");
+            if (expiration != null && TimeUnit.SECONDS.toMillis(expiration.asLong()) < timestamp) {
+                return null;
+            }
+
+            JsonNode clientId = claims.has("client_id") ? claims.get("client_id") : claims.get("azp");
+            return (clientId == null) ? null : clientId.asText();
+        } catch (IllegalArgumentException | IOException ex) {
+            return null;
+        }
+    }
+}
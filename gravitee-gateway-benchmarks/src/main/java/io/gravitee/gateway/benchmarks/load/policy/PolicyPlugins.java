@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.load.policy;
+
+import io.gravitee.plugin.core.api.PluginManifest;
+import io.gravitee.plugin.policy.PolicyPlugin;
+
+import java.net.URL;
+import java.nio.file.Path;
+
+/**
+ * Builds {@link PolicyPlugin}s from classes of the classpath, so that the load test does not need any plugin archive.
+ *
+ * @author GraviteeSource Team
+ */
+public final class PolicyPlugins {
+
+    private PolicyPlugins() {
+    }
+
+    public static PolicyPlugin of(String id, Class<?> policy) {
+        return new PolicyPlugin() {
+            @Override
+            public Class<?> policy() {
+                return policy;
+            }
+
+            @Override
+            public Class configuration() {
+                return null;
+            }
+
+            @Override
+            public String id() {
+                return id;
+            }
+
+            @Override
+            public String clazz() {
+                return policy.getName();
+            }
+
+            @Override
+            public Path path() {
+                return null;
+            }
+
+            @Override
+            public PluginManifest manifest() {
+                return null;
+            }
+
+            @Override
+            public URL[] dependencies() {
+                return new URL[0];
+            }
+        };
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.load.repository;
+
+import io.gravitee.gateway.benchmarks.load.Fixtures;
+import io.gravitee.gateway.services.apikeyscache.ApiKeyIndex;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiKeyRepository;
+import io.gravitee.repository.management.api.search.ApiKeyCriteria;
+import io.gravitee.repository.management.model.ApiKey;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class InMemoryApiKeyRepository implements ApiKeyRepository {
+
+    private final ApiKeyIndex index;
+
+    InMemoryApiKeyRepository(ApiKeyIndex index) {
+        this.index = index;
+
+        ApiKey apiKey = new ApiKey();
+        apiKey.setKey(Fixtures.API_KEY);
+        apiKey.setPlan(Fixtures.API_KEY_PLAN);
+        apiKey.setApplication(Fixtures.API_KEY_APPLICATION);
+        apiKey.setSubscription(Fixtures.API_KEY_SUBSCRIPTION);
+        create(apiKey);
+    }
+
+    @Override
+    public Optional<ApiKey> findById(String apiKey) throws TechnicalException {
+        return Optional.ofNullable(index.get(apiKey));
+    }
+
+    @Override
+    public ApiKey create(ApiKey apiKey) {
+        index.save(apiKey);
+        return apiKey;
+    }
+
+    @Override
+    public Set<ApiKey> findBySubscription(String subscription) throws TechnicalException {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Set<ApiKey> findByPlan(String plan) throws TechnicalException {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public List<ApiKey> findByCriteria(ApiKeyCriteria filter) throws TechnicalException {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public ApiKey update(ApiKey apiKey) {
+        return create(apiKey);
+    }
+}
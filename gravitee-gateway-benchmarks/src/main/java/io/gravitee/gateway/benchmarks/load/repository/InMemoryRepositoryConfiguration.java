@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.load.repository;
+
+import io.gravitee.gateway.benchmarks.Stubs;
+import io.gravitee.gateway.services.apikeyscache.ApiKeyIndex;
+import io.gravitee.repository.management.api.ApiKeyRepository;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.SubscriptionRepository;
+import net.sf.ehcache.Cache;
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.config.CacheConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The repositories are backed by the same structures as the ones the api-keys and subscriptions cache services put in
+ * front of the management repository (an api-key index and an EHCache cache), so that a lookup costs what it costs in
+ * production.
+ *
+ * @author GraviteeSource Team
+ */
+@Configuration
+public class InMemoryRepositoryConfiguration {
+
+    private static final int CACHE_SIZE = 1000;
+
+    private final CacheManager cacheManager = CacheManager.newInstance(
+            new net.sf.ehcache.config.Configuration().name("gravitee-load-test"));
+
+    @Bean
+    public ApiRepository apiRepository() {
+        return Stubs.stub(ApiRepository.class);
+    }
+
+    @Bean
+    public ApiKeyRepository apiKeyRepository() {
+        return new InMemoryApiKeyRepository(new ApiKeyIndex());
+    }
+
+    @Bean
+    public SubscriptionRepository subscriptionRepository() {
+        return new InMemorySubscriptionRepository(cache("subscriptions"));
+    }
+
+    private Cache cache(String name) {
+        cacheManager.addCache(new Cache(new CacheConfiguration(name, CACHE_SIZE)));
+        return cacheManager.getCache(name);
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.load.repository;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.gateway.benchmarks.load.Fixtures;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.SubscriptionRepository;
+import io.gravitee.repository.management.api.search.Pageable;
+import io.gravitee.repository.management.api.search.SubscriptionCriteria;
+import io.gravitee.repository.management.model.Subscription;
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Subscriptions are indexed by API and client identifier, as done by the subscriptions cache service.
+ *
+ * @author GraviteeSource Team
+ */
+public class InMemorySubscriptionRepository implements SubscriptionRepository {
+
+    private final Ehcache cache;
+
+    InMemorySubscriptionRepository(Ehcache cache) {
+        this.cache = cache;
+
+        Subscription subscription = new Subscription();
+        subscription.setId(Fixtures.JWT_SUBSCRIPTION);
+        subscription.setApi(Fixtures.JWT_API);
+        subscription.setPlan(Fixtures.JWT_PLAN);
+        subscription.setApplication(Fixtures.JWT_APPLICATION);
+        subscription.setClientId(Fixtures.JWT_CLIENT_ID);
+        subscription.setStatus(Subscription.Status.ACCEPTED);
+        create(subscription);
+    }
+
+    @Override
+    public Optional<Subscription> findById(String id) throws TechnicalException {
+        return Optional.empty();
+    }
+
+    @Override
+    public Subscription create(Subscription subscription) {
+        cache.put(new Element(subscription.getApi() + '-' + subscription.getClientId(), subscription));
+        return subscription;
+    }
+
+    @Override
+    public Subscription update(Subscription subscription) {
+        return create(subscription);
+    }
+
+    @Override
+    public void delete(String id) throws TechnicalException {
+    }
+
+    @Override
+    public Page<Subscription> search(SubscriptionCriteria criteria, Pageable pageable) throws TechnicalException {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public List<Subscription> search(SubscriptionCriteria criteria) throws TechnicalException {
+        Element element = cache.get(criteria.getApis().iterator().next() + '-' + criteria.getClientId());
+        return (element != null) ?
+                Collections.singletonList((Subscription) element.getObjectValue()) :
+                null;
+    }
+}
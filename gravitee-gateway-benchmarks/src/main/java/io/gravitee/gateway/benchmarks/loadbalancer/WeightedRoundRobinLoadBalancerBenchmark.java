@@ -0,0 +1,186 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.loadbalancer;
+
+import io.gravitee.gateway.api.Connector;
+import io.gravitee.gateway.api.endpoint.Endpoint;
+import io.gravitee.gateway.core.loadbalancer.WeightedRoundRobinLoadBalancer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the weighted round-robin selection when event loops select endpoints concurrently, compared to the
+ * synchronized implementation it replaced.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeightedRoundRobinLoadBalancerBenchmark {
+
+    @Param({"3", "10"})
+    public int endpoints;
+
+    private WeightedRoundRobinLoadBalancer lockFree;
+    private SynchronizedWeightedRoundRobin synchronizedLoadBalancer;
+
+    @Setup
+    public void setup() {
+        List<Endpoint> list = new ArrayList<>(endpoints);
+        for (int i = 0; i < endpoints; i++) {
+            list.add(new StubEndpoint("endpoint" + i, 1 + (i % 3)));
+        }
+
+        lockFree = new WeightedRoundRobinLoadBalancer(list);
+        synchronizedLoadBalancer = new SynchronizedWeightedRoundRobin(list);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Endpoint lockFree_1() {
+        return lockFree.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Endpoint lockFree_4() {
+        return lockFree.next();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Endpoint lockFree_16() {
+        return lockFree.next();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Endpoint synchronized_1() {
+        return synchronizedLoadBalancer.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Endpoint synchronized_4() {
+        return synchronizedLoadBalancer.next();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Endpoint synchronized_16() {
+        return synchronizedLoadBalancer.next();
+    }
+
+    /**
+     * The selection previously done by <code>WeightedRoundRobinLoadBalancer</code>.
+     */
+    private static class SynchronizedWeightedRoundRobin {
+
+        private final Collection<Endpoint> endpoints;
+        private final int[] distribution;
+        private final int[] runtime;
+        private int counter;
+
+        SynchronizedWeightedRoundRobin(Collection<Endpoint> endpoints) {
+            this.endpoints = endpoints;
+            this.distribution = endpoints.stream().mapToInt(Endpoint::weight).toArray();
+            this.runtime = distribution.clone();
+        }
+
+        synchronized Endpoint next() {
+            List<Endpoint> endpoints = this.endpoints
+                    .stream()
+                    .filter(Endpoint::available)
+                    .collect(Collectors.toList());
+            if (endpoints.isEmpty()) {
+                return null;
+            }
+
+            boolean zeroed = true;
+            for (int weight : runtime) {
+                if (weight > 0) {
+                    zeroed = false;
+                }
+            }
+
+            if (zeroed) {
+                System.arraycopy(distribution, 0, runtime, 0, runtime.length);
+                counter = 0;
+            }
+
+            boolean found = false;
+            while (!found) {
+                if (counter >= runtime.length) {
+                    counter = 0;
+                }
+
+                if (runtime[counter] > 0) {
+                    runtime[counter]--;
+                    found = true;
+                } else {
+                    counter++;
+                }
+            }
+
+            return endpoints.get(counter++);
+        }
+    }
+
+    private static class StubEndpoint implements Endpoint {
+
+        private final String name;
+        private final int weight;
+
+        StubEndpoint(String name, int weight) {
+            this.name = name;
+            this.weight = weight;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public String target() {
+            return "http://localhost:8080/" + name;
+        }
+
+        @Override
+        public Connector connector() {
+            return null;
+        }
+
+        @Override
+        public boolean available() {
+            return true;
+        }
+
+        @Override
+        public int weight() {
+            return weight;
+        }
+    }
+}
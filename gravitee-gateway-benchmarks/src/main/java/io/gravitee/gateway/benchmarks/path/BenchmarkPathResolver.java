@@ -0,0 +1,42 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.path;
+
+import io.gravitee.gateway.handlers.api.path.Path;
+import io.gravitee.gateway.handlers.api.path.impl.AbstractPathResolver;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * A path resolver registering the given paths, without any rule.
+ *
+ * @author GraviteeSource Team
+ */
+public class BenchmarkPathResolver extends AbstractPathResolver {
+
+    public BenchmarkPathResolver(String contextPath, Collection<String> paths) {
+        super(contextPath);
+
+        for (String declaredPath : paths) {
+            Path path = new Path();
+            path.setResolvedPath(declaredPath);
+            path.setRules(Collections.emptyList());
+
+            register(path);
+        }
+    }
+}
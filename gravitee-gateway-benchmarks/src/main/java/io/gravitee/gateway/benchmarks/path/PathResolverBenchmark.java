@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.path;
+
+import io.gravitee.gateway.handlers.api.path.Path;
+import io.gravitee.gateway.handlers.api.path.PathResolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves request paths against the paths declared by an API, from a few flat paths to many parameterized ones.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathResolverBenchmark {
+
+    private static final String CONTEXT_PATH = "/store";
+
+    @Param({"5", "50", "200"})
+    public int declaredPaths;
+
+    private PathResolver pathResolver;
+    private String[] requestPaths;
+    private int index;
+
+    @Setup
+    public void setup() {
+        List<String> paths = new ArrayList<>(declaredPaths);
+        paths.add("/");
+        for (int i = 1; i < declaredPaths; i++) {
+            switch (i % 3) {
+                case 0:
+                    paths.add("/resources" + i);
+                    break;
+                case 1:
+                    paths.add("/resources" + i + "/:id");
+                    break;
+                default:
+                    paths.add("/resources" + i + "/:id/items/:item");
+            }
+        }
+
+        pathResolver = new BenchmarkPathResolver(CONTEXT_PATH, paths);
+
+        requestPaths = new String[declaredPaths];
+        for (int i = 0; i < declaredPaths; i++) {
+            requestPaths[i] = CONTEXT_PATH + "/resources" + i + "/" + i + "/items/" + (i * 7);
+        }
+    }
+
+    @Benchmark
+    public Path resolve() {
+        return pathResolver.resolve(requestPaths[index++ % requestPaths.length]);
+    }
+}
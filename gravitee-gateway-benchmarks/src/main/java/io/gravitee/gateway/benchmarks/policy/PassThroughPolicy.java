@@ -0,0 +1,41 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.policy;
+
+import io.gravitee.gateway.api.ExecutionContext;
+import io.gravitee.gateway.api.Request;
+import io.gravitee.gateway.api.Response;
+import io.gravitee.policy.api.PolicyChain;
+import io.gravitee.policy.api.annotations.OnRequest;
+import io.gravitee.policy.api.annotations.OnResponse;
+
+/**
+ * A policy which immediately continues the chain.
+ *
+ * @author GraviteeSource Team
+ */
+public class PassThroughPolicy {
+
+    @OnRequest
+    public void onRequest(Request request, Response response, PolicyChain policyChain) {
+        policyChain.doNext(request, response);
+    }
+
+    @OnResponse
+    public void onResponse(Request request, Response response, PolicyChain policyChain, ExecutionContext context) {
+        policyChain.doNext(request, response);
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.policy;
+
+import io.gravitee.gateway.api.ExecutionContext;
+import io.gravitee.gateway.api.Request;
+import io.gravitee.gateway.api.Response;
+import io.gravitee.gateway.policy.Policy;
+import io.gravitee.gateway.policy.PolicyMetadata;
+import io.gravitee.gateway.policy.impl.PolicyImpl;
+import io.gravitee.gateway.policy.impl.PolicyMetadataBuilder;
+import io.gravitee.policy.api.PolicyChain;
+import io.gravitee.policy.api.annotations.OnRequest;
+import io.gravitee.policy.api.annotations.OnResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.gravitee.gateway.benchmarks.Stubs.stub;
+
+/**
+ * Invokes a chain of 10 no-op policies through {@link PolicyImpl} and through the reflective mapping it replaced.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolicyInvocationBenchmark {
+
+    private static final int POLICIES = 10;
+
+    private Policy[] policies;
+    private Object[] targets;
+    private Method onRequest;
+    private Method onResponse;
+
+    private Request request;
+    private Response response;
+    private PolicyChain policyChain;
+    private ExecutionContext executionContext;
+
+    @Setup
+    public void setup() throws Exception {
+        onRequest = NoOpPolicy.class.getMethod("onRequest", Request.class, Response.class, PolicyChain.class);
+        onResponse = NoOpPolicy.class.getMethod("onResponse", ExecutionContext.class, PolicyChain.class);
+
+        Map<Class<? extends Annotation>, Method> methods = new HashMap<>();
+        methods.put(OnRequest.class, onRequest);
+        methods.put(OnResponse.class, onResponse);
+
+        PolicyMetadata metadata = new PolicyMetadataBuilder()
+                .setId("no-op")
+                .setPolicy(NoOpPolicy.class)
+                .setMethods(methods)
+                .build();
+
+        policies = new Policy[POLICIES];
+        targets = new Object[POLICIES];
+        for (int i = 0; i < POLICIES; i++) {
+            targets[i] = new NoOpPolicy();
+            policies[i] = PolicyImpl.target(targets[i]).definition(metadata).build();
+        }
+
+        request = stub(Request.class);
+        response = stub(Response.class);
+        policyChain = stub(PolicyChain.class);
+        executionContext = stub(ExecutionContext.class);
+    }
+
+    @Benchmark
+    public void invoker() throws Exception {
+        for (Policy policy : policies) {
+            policy.onRequest(request, response, policyChain, executionContext);
+            policy.onResponse(request, response, policyChain, executionContext);
+        }
+    }
+
+    @Benchmark
+    public void reflection() throws Exception {
+        for (Object target : targets) {
+            reflect(onRequest, target, request, response, policyChain, executionContext);
+            reflect(onResponse, target, request, response, policyChain, executionContext);
+        }
+    }
+
+    /**
+     * The invocation previously done by <code>PolicyImpl</code>.
+     */
+    private static Object reflect(Method invokedMethod, Object target, Object... args) throws Exception {
+        Class<?>[] parametersType = invokedMethod.getParameterTypes();
+        Object[] parameters = new Object[parametersType.length];
+
+        int idx = 0;
+
+        // Map parameters according to parameter's type
+        for (Class<?> paramType : parametersType) {
+            parameters[idx++] = getParameterAssignableTo(paramType, args);
+        }
+
+        return invokedMethod.invoke(target, parameters);
+    }
+
+    private static Object getParameterAssignableTo(Class<?> paramType, Object... args) {
+        for (Object arg : args) {
+            if (paramType.isAssignableFrom(arg.getClass())) {
+                return arg;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.policy;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.gateway.api.ExecutionContext;
+import io.gravitee.gateway.api.Request;
+import io.gravitee.gateway.api.Response;
+import io.gravitee.gateway.benchmarks.http.StubRequest;
+import io.gravitee.gateway.benchmarks.http.StubResponse;
+import io.gravitee.gateway.policy.Policy;
+import io.gravitee.gateway.policy.PolicyMetadata;
+import io.gravitee.gateway.policy.impl.PolicyImpl;
+import io.gravitee.gateway.policy.impl.PolicyMetadataBuilder;
+import io.gravitee.gateway.policy.impl.RequestPolicyChain;
+import io.gravitee.policy.api.PolicyChain;
+import io.gravitee.policy.api.annotations.OnRequest;
+import io.gravitee.policy.api.annotations.OnResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.gravitee.gateway.benchmarks.Stubs.stub;
+
+/**
+ * Runs a {@link RequestPolicyChain} of N pass-through policies, from the first policy to the result handler.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestPolicyChainBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int policies;
+
+    private List<Policy> chain;
+    private ExecutionContext executionContext;
+
+    @Setup
+    public void setup() throws Exception {
+        Map<Class<? extends Annotation>, Method> methods = new HashMap<>();
+        methods.put(OnRequest.class, PassThroughPolicy.class.getMethod("onRequest",
+                Request.class, Response.class, PolicyChain.class));
+        methods.put(OnResponse.class, PassThroughPolicy.class.getMethod("onResponse",
+                Request.class, Response.class, PolicyChain.class, ExecutionContext.class));
+
+        PolicyMetadata metadata = new PolicyMetadataBuilder()
+                .setId("pass-through")
+                .setPolicy(PassThroughPolicy.class)
+                .setMethods(methods)
+                .build();
+
+        chain = new ArrayList<>(policies);
+        for (int i = 0; i < policies; i++) {
+            chain.add(PolicyImpl.target(new PassThroughPolicy()).definition(metadata).build());
+        }
+
+        executionContext = stub(ExecutionContext.class);
+    }
+
+    @Benchmark
+    public void doNext(Blackhole blackhole) {
+        RequestPolicyChain policyChain = RequestPolicyChain.create(chain, executionContext);
+        policyChain
+                .handler(blackhole::consume)
+                .errorHandler(blackhole::consume);
+
+        policyChain.doNext(
+                new StubRequest(HttpMethod.GET, "/api/resources", new HttpHeaders()),
+                new StubResponse());
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.processor;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.gateway.api.ExecutionContext;
+import io.gravitee.gateway.benchmarks.http.StubRequest;
+import io.gravitee.gateway.benchmarks.http.StubResponse;
+import io.gravitee.gateway.core.processor.ProcessorContext;
+import io.gravitee.gateway.core.processor.ProcessorProvider;
+import io.gravitee.gateway.core.processor.ProviderProcessorChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.gravitee.gateway.benchmarks.Stubs.stub;
+
+/**
+ * Runs a {@link ProviderProcessorChain} made of pass-through processors, as done for each request and response.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessorChainBenchmark {
+
+    @Param({"3", "10"})
+    public int processors;
+
+    private List<ProcessorProvider> providers;
+    private ProcessorContext context;
+
+    @Setup
+    public void setup() {
+        providers = new ArrayList<>(processors);
+        for (int i = 0; i < processors; i++) {
+            providers.add((request, response, executionContext) -> new PassThroughProcessor());
+        }
+
+        context = ProcessorContext.from(
+                new StubRequest(HttpMethod.GET, "/api/resources", new HttpHeaders()),
+                new StubResponse(),
+                stub(ExecutionContext.class));
+    }
+
+    @Benchmark
+    public void process(Blackhole blackhole) {
+        ProviderProcessorChain chain = new ProviderProcessorChain(providers);
+        chain
+                .handler(blackhole::consume)
+                .errorHandler(blackhole::consume)
+                .process(context);
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.reactor;
+
+import io.gravitee.gateway.reactor.handler.ContextPathTree;
+import io.gravitee.gateway.reactor.handler.ReactorHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the context-path tree used by the reactor handler resolver with the linear
+ * <code>startsWith</code> scan it replaced.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactorHandlerResolverBenchmark {
+
+    private static final int REQUEST_PATHS = 1024;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int contextPaths;
+
+    private Collection<ReactorHandler> handlers;
+    private ContextPathTree tree;
+    private String[] requestPaths;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        List<ReactorHandler> list = new ArrayList<>(contextPaths);
+        for (int i = 0; i < contextPaths; i++) {
+            // Mix single and nested context paths, as seen on real gateways
+            String contextPath = (i % 3 == 0) ? "/team" + i + "/v" + (i % 5) + '/' : "/api" + i + '/';
+            list.add(new StubReactorHandler(contextPath));
+        }
+
+        handlers = list;
+        tree = ContextPathTree.build(handlers);
+
+        requestPaths = new String[REQUEST_PATHS];
+        for (int i = 0; i < REQUEST_PATHS; i++) {
+            String contextPath = list.get(random.nextInt(contextPaths)).contextPath();
+            requestPaths[i] = contextPath + "resources/" + random.nextInt(1000);
+        }
+    }
+
+    @Benchmark
+    public ReactorHandler linear() {
+        return linear(nextPath());
+    }
+
+    @Benchmark
+    public ReactorHandler tree() {
+        return tree.resolve(nextPath());
+    }
+
+    private String nextPath() {
+        return requestPaths[index++ & (REQUEST_PATHS - 1)];
+    }
+
+    /**
+     * The resolution previously done by <code>DefaultReactorHandlerResolver</code>.
+     */
+    private ReactorHandler linear(String requestPath) {
+        StringBuilder path = new StringBuilder(requestPath);
+
+        if (path.charAt(path.length() - 1) != '/') {
+            path.append('/');
+        }
+
+        String sPath = path.toString();
+
+        for (ReactorHandler reactorHandler : handlers) {
+            if (sPath.startsWith(reactorHandler.contextPath())) {
+                return reactorHandler;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.reactor;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.gateway.api.Response;
+import io.gravitee.gateway.benchmarks.http.StubRequest;
+import io.gravitee.gateway.benchmarks.http.StubResponse;
+import io.gravitee.gateway.env.GatewayConfiguration;
+import io.gravitee.gateway.reactor.handler.ContextPathTree;
+import io.gravitee.gateway.reactor.handler.ReactorHandler;
+import io.gravitee.gateway.reactor.handler.ReactorHandlerRegistry;
+import io.gravitee.gateway.reactor.handler.impl.DefaultReactorHandlerResolver;
+import io.gravitee.gateway.reactor.handler.transaction.TransactionHandlerFactory;
+import io.gravitee.gateway.reactor.impl.DefaultReactor;
+import io.gravitee.gateway.report.ReporterService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.gravitee.gateway.benchmarks.Stubs.inject;
+import static io.gravitee.gateway.benchmarks.Stubs.stub;
+
+/**
+ * Routes a request through {@link DefaultReactor}: transaction handler, handler resolution, response time and
+ * reporter handlers. The selected handler stands for a stubbed invoker and responds immediately.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReactorRouteBenchmark {
+
+    @Param({"10", "1000"})
+    public int apis;
+
+    private DefaultReactor reactor;
+    private String[] paths;
+    private int index;
+
+    @Setup
+    public void setup() {
+        List<ReactorHandler> handlers = new ArrayList<>(apis);
+        for (int i = 0; i < apis; i++) {
+            handlers.add(new StubReactorHandler("/api" + i + '/'));
+        }
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("getReactorHandlers", Collections.unmodifiableList(handlers));
+        values.put("getContextPathTree", ContextPathTree.build(handlers));
+        ReactorHandlerRegistry registry = stub(ReactorHandlerRegistry.class, values);
+
+        DefaultReactorHandlerResolver resolver = new DefaultReactorHandlerResolver();
+        inject(resolver, "handlerRegistry", registry);
+
+        reactor = new DefaultReactor();
+        inject(reactor, "reactorHandlerRegistry", registry);
+        inject(reactor, "reactorHandlerResolver", resolver);
+        inject(reactor, "reporterService", stub(ReporterService.class));
+        inject(reactor, "transactionHandlerFactory", new TransactionHandlerFactory());
+        inject(reactor, "gatewayConfiguration", stub(GatewayConfiguration.class));
+
+        paths = new String[apis];
+        for (int i = 0; i < apis; i++) {
+            paths[i] = "/api" + i + "/resources/" + i;
+        }
+    }
+
+    @Benchmark
+    public void route(Blackhole blackhole) {
+        String path = paths[index++ % paths.length];
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.HOST, "localhost:8082");
+        headers.set("Accept", "application/json");
+
+        reactor.route(new StubRequest(HttpMethod.GET, path, headers), new StubResponse(),
+                (Response response) -> blackhole.consume(response.status()));
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.reactor;
+
+import io.gravitee.common.component.AbstractLifecycleComponent;
+import io.gravitee.gateway.api.Request;
+import io.gravitee.gateway.api.Response;
+import io.gravitee.gateway.api.handler.Handler;
+import io.gravitee.gateway.reactor.Reactable;
+import io.gravitee.gateway.reactor.handler.ReactorHandler;
+
+/**
+ * A {@link ReactorHandler} which only exposes a context path.
+ *
+ * @author GraviteeSource Team
+ */
+public class StubReactorHandler extends AbstractLifecycleComponent<ReactorHandler> implements ReactorHandler {
+
+    private final String contextPath;
+
+    public StubReactorHandler(String contextPath) {
+        this.contextPath = contextPath;
+    }
+
+    @Override
+    public void handle(Request request, Response response, Handler<Response> handler) {
+        handler.handle(response);
+    }
+
+    @Override
+    public String contextPath() {
+        return contextPath;
+    }
+
+    @Override
+    public ClassLoader classloader() {
+        return getClass().getClassLoader();
+    }
+
+    @Override
+    public Reactable reactable() {
+        return null;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+    }
+}
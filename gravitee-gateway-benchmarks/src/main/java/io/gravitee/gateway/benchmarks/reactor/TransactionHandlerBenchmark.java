@@ -0,0 +1,60 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.benchmarks.reactor;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.gateway.benchmarks.http.StubRequest;
+import io.gravitee.gateway.benchmarks.http.StubResponse;
+import io.gravitee.gateway.reactor.handler.transaction.TransactionHandlerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sets the transaction identifier of requests, with and without an incoming transaction header.
+ *
+ * @author GraviteeSource Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionHandlerBenchmark {
+
+    private static final String TRANSACTION_HEADER = "X-Gravitee-Transaction-Id";
+
+    @Param({"false", "true"})
+    public boolean withTransactionHeader;
+
+    private final TransactionHandlerFactory transactionHandlerFactory = new TransactionHandlerFactory();
+
+    @Benchmark
+    public void handle(Blackhole blackhole) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.HOST, "localhost:8082");
+        if (withTransactionHeader) {
+            headers.set(TRANSACTION_HEADER, "4b1b8f6e-1f1e-4e4e-9b1b-8f6e1f1e4e4e");
+        }
+
+        transactionHandlerFactory
+                .create(request -> blackhole.consume(request.transactionId()), new StubResponse())
+                .handle(new StubRequest(HttpMethod.GET, "/api/resources", headers));
+    }
+}
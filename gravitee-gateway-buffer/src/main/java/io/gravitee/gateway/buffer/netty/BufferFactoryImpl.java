@@ -17,6 +17,7 @@ package io.gravitee.gateway.buffer.netty;
 
 import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.api.buffer.BufferFactory;
+import io.netty.buffer.ByteBuf;
 
 /**
  * @author David BRASSELY (david at gravitee.io)
@@ -47,4 +48,12 @@ public class BufferFactoryImpl implements BufferFactory  {
     public Buffer buffer(byte[] bytes) {
         return new BufferImpl(bytes);
     }
+
+    /**
+     * Creates a buffer backed by the given Netty buffer, without copying its readable bytes. This is used to forward
+     * body chunks received from Vert.x (which keeps the ownership of the native buffer) to the gateway.
+     */
+    public Buffer wrap(ByteBuf nativeBuffer) {
+        return new BufferImpl(nativeBuffer);
+    }
 }
@@ -19,6 +19,7 @@ import io.gravitee.gateway.api.buffer.Buffer;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.util.CharsetUtil;
+import io.netty.util.ReferenceCounted;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -28,20 +29,51 @@ import java.util.Objects;
  * @author David BRASSELY (david at gravitee.io)
  * @author GraviteeSource Team
  */
-public class BufferImpl implements Buffer {
+public class BufferImpl implements Buffer, ReferenceCounted {
 
     private ByteBuf buffer;
 
+    /**
+     * Whether the native buffer has been allocated from a pool and must be explicitly released by its last consumer.
+     */
+    private final boolean pooled;
+
+    /**
+     * Whether the native buffer is owned by another component (ie. Vert.x) and must be copied before any write.
+     */
+    private boolean wrapped;
+
     BufferImpl() {
         this(0);
     }
 
     BufferImpl(int initialSizeHint) {
         buffer = Unpooled.unreleasableBuffer(Unpooled.buffer(initialSizeHint, Integer.MAX_VALUE));
+        pooled = false;
     }
 
     BufferImpl(byte[] bytes) {
         buffer = Unpooled.unreleasableBuffer(Unpooled.buffer(bytes.length, Integer.MAX_VALUE)).writeBytes(bytes);
+        pooled = false;
+    }
+
+    /**
+     * Wraps the given native buffer without copying its content. The ownership of the native buffer is left to the
+     * caller: it is never released through this buffer, and it is copied on the first write.
+     */
+    BufferImpl(ByteBuf nativeBuffer) {
+        buffer = Unpooled.unreleasableBuffer(nativeBuffer.slice());
+        wrapped = true;
+        pooled = false;
+    }
+
+    /**
+     * Takes the ownership of a buffer allocated from a pool: the native buffer is given back to the pool once this
+     * buffer has been fully released.
+     */
+    BufferImpl(ByteBuf pooledBuffer, boolean pooled) {
+        buffer = pooledBuffer;
+        this.pooled = pooled;
     }
 
     BufferImpl(String str, String enc) {
@@ -59,6 +91,7 @@ public class BufferImpl implements Buffer {
     @Override
     public Buffer appendBuffer(Buffer buff) {
         ByteBuf cb = (ByteBuf) buff.getNativeBuffer();
+        ensureWritable(cb.readableBytes());
         buffer.writeBytes(cb);
         cb.readerIndex(0); // Need to reset readerindex since Netty write modifies readerIndex of source!
         return this;
@@ -76,10 +109,66 @@ public class BufferImpl implements Buffer {
 
     private Buffer append(String str, Charset charset) {
         byte[] bytes = str.getBytes(charset);
+        ensureWritable(bytes.length);
         buffer.writeBytes(bytes);
         return this;
     }
 
+    private void ensureWritable(int length) {
+        if (wrapped) {
+            int size = buffer.writerIndex();
+            buffer = Unpooled.unreleasableBuffer(Unpooled.buffer(size + length, Integer.MAX_VALUE)
+                    .writeBytes(buffer, 0, size));
+            wrapped = false;
+        }
+    }
+
+    /**
+     * Whether this buffer holds pooled memory, meaning that it must be released once consumed.
+     */
+    public boolean isPooled() {
+        return pooled;
+    }
+
+    @Override
+    public int refCnt() {
+        return buffer.refCnt();
+    }
+
+    @Override
+    public BufferImpl retain() {
+        buffer.retain();
+        return this;
+    }
+
+    @Override
+    public BufferImpl retain(int increment) {
+        buffer.retain(increment);
+        return this;
+    }
+
+    @Override
+    public BufferImpl touch() {
+        buffer.touch();
+        return this;
+    }
+
+    @Override
+    public BufferImpl touch(Object hint) {
+        buffer.touch(hint);
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        return buffer.release();
+    }
+
+    @Override
+    public boolean release(int decrement) {
+        return buffer.release(decrement);
+    }
+
     @Override
     public String toString() {
         return buffer.toString(StandardCharsets.UTF_8);
@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.buffer.netty;
+
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.buffer.BufferFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public final class BufferUtils {
+
+    private static volatile BufferFactory factory = new BufferFactoryImpl();
+
+    private BufferUtils() {
+    }
+
+    /**
+     * Defines the factory used to create the buffers owned by the gateway (see {@link #buffer()}). Buffers created by
+     * plugins through {@link Buffer#buffer()} are never affected and always remain unpooled.
+     */
+    public static void setFactory(BufferFactory bufferFactory) {
+        factory = bufferFactory;
+    }
+
+    /**
+     * Creates a buffer whose whole lifecycle is handled by the gateway itself (ie. the content kept to replay a
+     * request). Such a buffer may be pooled: it must be released once consumed, or detached before being written.
+     */
+    public static Buffer buffer() {
+        return factory.buffer();
+    }
+
+    /**
+     * Releases the given buffer if it is reference-counted. This is a no-op for unpooled buffers.
+     */
+    public static boolean release(Buffer buffer) {
+        return buffer != null && ReferenceCountUtil.release(buffer);
+    }
+
+    /**
+     * Increases the reference count of the given buffer, for a consumer which needs to keep it beyond the current
+     * call (ie. to replay it later).
+     */
+    public static Buffer retain(Buffer buffer) {
+        return ReferenceCountUtil.retain(buffer);
+    }
+
+    /**
+     * Returns a native buffer that can be handed over to a component which does not release it (ie. Vert.x). The
+     * content of a pooled buffer (only created through {@link #buffer()}) is copied and the pooled buffer is released,
+     * while other buffers are returned as-is.
+     */
+    public static ByteBuf detach(Buffer buffer) {
+        ByteBuf nativeBuffer = (ByteBuf) buffer.getNativeBuffer();
+        if (buffer instanceof BufferImpl && ((BufferImpl) buffer).isPooled()) {
+            ByteBuf copy = Unpooled.copiedBuffer(nativeBuffer);
+            ((BufferImpl) buffer).release();
+            return copy;
+        }
+
+        return nativeBuffer;
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.buffer.netty;
+
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.buffer.BufferFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A {@link BufferFactory} allocating reference-counted buffers from a {@link PooledByteBufAllocator}.
+ *
+ * Buffers created by this factory must be released by their last consumer (see {@link BufferUtils#release(Buffer)}),
+ * otherwise their memory is never given back to the pool.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class PooledBufferFactoryImpl implements BufferFactory {
+
+    private final ByteBufAllocator allocator;
+    private final boolean direct;
+
+    public PooledBufferFactoryImpl() {
+        this(false);
+    }
+
+    public PooledBufferFactoryImpl(boolean direct) {
+        this(PooledByteBufAllocator.DEFAULT, direct);
+    }
+
+    public PooledBufferFactoryImpl(ByteBufAllocator allocator, boolean direct) {
+        this.allocator = allocator;
+        this.direct = direct;
+    }
+
+    @Override
+    public Buffer buffer(int initialSizeHint) {
+        return new BufferImpl(allocate(initialSizeHint), true);
+    }
+
+    @Override
+    public Buffer buffer() {
+        return buffer(0);
+    }
+
+    @Override
+    public Buffer buffer(String str) {
+        return buffer(str.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Buffer buffer(String str, String enc) {
+        return buffer(str.getBytes(Charset.forName(Objects.requireNonNull(enc))));
+    }
+
+    @Override
+    public Buffer buffer(byte[] bytes) {
+        return new BufferImpl(allocate(bytes.length).writeBytes(bytes), true);
+    }
+
+    private ByteBuf allocate(int initialCapacity) {
+        return (direct) ?
+                allocator.directBuffer(initialCapacity, Integer.MAX_VALUE) :
+                allocator.heapBuffer(initialCapacity, Integer.MAX_VALUE);
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+}
@@ -15,7 +15,12 @@
  */
 package io.gravitee.gateway.core.endpoint.lifecycle;
 
+import io.gravitee.gateway.api.endpoint.Endpoint;
 import io.gravitee.gateway.api.lb.LoadBalancerStrategy;
+import io.gravitee.gateway.core.loadbalancer.LoadBalancer;
+
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -37,6 +42,26 @@ public class LoadBalancedEndpointGroup implements LoadBalancerStrategy {
         return strategy.next();
     }
 
+    /**
+     * To be called when the availability of an endpoint of the group has changed.
+     */
+    public void refresh() {
+        if (strategy instanceof LoadBalancer) {
+            ((LoadBalancer) strategy).refresh();
+        }
+    }
+
+    /**
+     * @return the endpoints of the group, or an empty collection if they are not known by its load balancer.
+     */
+    public Collection<Endpoint> endpoints() {
+        if (strategy instanceof LoadBalancer) {
+            return ((LoadBalancer) strategy).getEndpoints();
+        }
+
+        return Collections.emptyList();
+    }
+
     public String getName() {
         return name;
     }
@@ -30,6 +30,10 @@ import io.gravitee.gateway.core.endpoint.lifecycle.EndpointLifecycleManager;
 import io.gravitee.gateway.core.endpoint.lifecycle.LoadBalancedEndpointGroup;
 import io.gravitee.gateway.core.endpoint.ref.EndpointReference;
 import io.gravitee.gateway.core.endpoint.ref.ReferenceRegister;
+import io.gravitee.gateway.core.loadbalancer.EndpointStatisticsRegistry;
+import io.gravitee.gateway.core.loadbalancer.LeastRequestsLoadBalancer;
+import io.gravitee.gateway.core.loadbalancer.PeakEwmaLoadBalancer;
+import io.gravitee.gateway.core.loadbalancer.PowerOfTwoChoicesLoadBalancer;
 import io.gravitee.gateway.core.loadbalancer.RandomLoadBalancer;
 import io.gravitee.gateway.core.loadbalancer.RoundRobinLoadBalancer;
 import io.gravitee.gateway.core.loadbalancer.WeightedRandomLoadBalancer;
@@ -37,6 +41,8 @@ import io.gravitee.gateway.core.loadbalancer.WeightedRoundRobinLoadBalancer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
 
 import java.util.*;
 import java.util.function.Predicate;
@@ -59,6 +65,19 @@ public class EndpointGroupLifecycleManager extends AbstractLifecycleComponent<En
     @Autowired
     private ReferenceRegister referenceRegister;
 
+    @Autowired
+    private EndpointStatisticsRegistry endpointStatisticsRegistry;
+
+    @Autowired(required = false)
+    private Environment environment;
+
+    /**
+     * Load balancer applied to the groups of all the APIs, overriding the one defined by the API. It can be defined
+     * for a single API, and never applies to the groups whose endpoints are weighted.
+     */
+    @Value("${api.loadbalancer.type:#{null}}")
+    private String loadBalancerType;
+
     private final Map<String, io.gravitee.gateway.api.endpoint.Endpoint> endpointsByName = new LinkedHashMap<>();
     private final ObservableCollection<io.gravitee.gateway.api.endpoint.Endpoint> endpoints = new ObservableCollection<>(new ArrayList<>());
 
@@ -78,9 +97,21 @@ public class EndpointGroupLifecycleManager extends AbstractLifecycleComponent<En
         group.setEndpoints(endpoints);
 
         LoadBalancer loadBalancerDef = group.getLoadBalancer();
-        LoadBalancerStrategy strategy;
+        LoadBalancerStrategy strategy = null;
+
+        String type = resolveLoadBalancerType();
+        if (type != null) {
+            if (isWeighted(loadBalancerDef)) {
+                logger.info("Load balancer {} is not used for group {}, its endpoints are weighted",
+                        type, group.getName());
+            } else {
+                strategy = createStatisticsLoadBalancer(type);
+            }
+        }
 
-        if (loadBalancerDef != null) {
+        if (strategy != null) {
+            logger.info("Load balancer {} is used for group {}", type, group.getName());
+        } else if (loadBalancerDef != null) {
             switch (loadBalancerDef.getType()) {
                 case RANDOM:
                     strategy = new RandomLoadBalancer(this.endpoints);
@@ -99,6 +130,11 @@ public class EndpointGroupLifecycleManager extends AbstractLifecycleComponent<En
             strategy = new RoundRobinLoadBalancer(this.endpoints);
         }
 
+        if (strategy instanceof io.gravitee.gateway.core.loadbalancer.LoadBalancer) {
+            // Leave the endpoints ejected by the outlier detection out of the load balancing
+            ((io.gravitee.gateway.core.loadbalancer.LoadBalancer) strategy).setStatisticsRegistry(endpointStatisticsRegistry);
+        }
+
         lbGroup = new LoadBalancedEndpointGroup(group.getName(), strategy);
 
         endpoints
@@ -107,6 +143,45 @@ public class EndpointGroupLifecycleManager extends AbstractLifecycleComponent<En
                 .forEach(this::start);
     }
 
+    private String resolveLoadBalancerType() {
+        if (environment != null) {
+            String value = environment.getProperty("api.loadbalancer.apis." + api.getId() + ".type");
+            if (value != null) {
+                return value;
+            }
+        }
+
+        return loadBalancerType;
+    }
+
+    private static boolean isWeighted(LoadBalancer loadBalancerDef) {
+        if (loadBalancerDef == null) {
+            return false;
+        }
+
+        switch (loadBalancerDef.getType()) {
+            case WEIGHTED_RANDOM:
+            case WEIGHTED_ROUND_ROBIN:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private LoadBalancerStrategy createStatisticsLoadBalancer(String type) {
+        switch (type.trim().toLowerCase()) {
+            case "least_requests":
+                return new LeastRequestsLoadBalancer(this.endpoints, endpointStatisticsRegistry);
+            case "power_of_two_choices":
+                return new PowerOfTwoChoicesLoadBalancer(this.endpoints, endpointStatisticsRegistry);
+            case "peak_ewma":
+                return new PeakEwmaLoadBalancer(this.endpoints, endpointStatisticsRegistry);
+            default:
+                logger.warn("Unknown load balancer type [{}], the load balancer of the API is used", type);
+                return null;
+        }
+    }
+
     @Override
     protected void doStop() throws Exception {
         Iterator<io.gravitee.gateway.api.endpoint.Endpoint> ite = endpointsByName.values().iterator();
@@ -155,6 +230,7 @@ public class EndpointGroupLifecycleManager extends AbstractLifecycleComponent<En
             try {
                 endpoints.remove(endpoint);
                 referenceRegister.remove(EndpointReference.REFERENCE_PREFIX + endpoint.name());
+                endpointStatisticsRegistry.unregister(endpoint);
                 endpoint.connector().stop();
             } catch (Exception ex) {
                 logger.error("Unexpected error while closing endpoint connector", ex);
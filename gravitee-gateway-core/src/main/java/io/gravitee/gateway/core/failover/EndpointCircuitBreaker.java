@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.failover;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker of a single endpoint.
+ *
+ * The circuit opens when the failure rate of the last <code>windowSize</code> calls reaches <code>failureRate</code>
+ * percent. Once the reset timeout has elapsed, the circuit is half-open: <code>probes</code> calls are let through and
+ * the circuit closes if all of them succeed, or opens again as soon as one fails.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class EndpointCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureRate;
+    private final long resetTimeout;
+    private final int probes;
+    private final LongSupplier clock;
+
+    /**
+     * Outcomes of the last calls, <code>true</code> for a failure.
+     */
+    private final boolean[] window;
+    private int index;
+    private int calls;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long stateTime;
+    private int permits;
+    private int successes;
+
+    /**
+     * @param resetTimeout time spent in open state, in milliseconds, before letting probe calls through.
+     */
+    public EndpointCircuitBreaker(int windowSize, int failureRate, long resetTimeout, int probes) {
+        this(windowSize, failureRate, resetTimeout, probes, System::nanoTime);
+    }
+
+    EndpointCircuitBreaker(int windowSize, int failureRate, long resetTimeout, int probes, LongSupplier clock) {
+        this.window = new boolean[Math.max(windowSize, 1)];
+        this.failureRate = failureRate;
+        this.resetTimeout = TimeUnit.MILLISECONDS.toNanos(resetTimeout);
+        this.probes = Math.max(probes, 1);
+        this.clock = clock;
+    }
+
+    /**
+     * @return <code>true</code> if a call can be sent to the endpoint. A call which has been allowed must be followed by
+     * either {@link #onSuccess()} or {@link #onFailure()}.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+
+        // A half-open circuit whose probes never completed is probed again after the reset timeout
+        if (clock.getAsLong() - stateTime >= resetTimeout) {
+            transition(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN && permits < probes) {
+            permits++;
+            return true;
+        }
+
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++successes >= probes) {
+                transition(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transition(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+
+            if (calls == window.length && failures * 100L >= (long) failureRate * calls) {
+                transition(State.OPEN);
+            }
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (calls == window.length) {
+            if (window[index]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+
+        window[index] = failure;
+        if (failure) {
+            failures++;
+        }
+
+        index = (index + 1) % window.length;
+    }
+
+    private void transition(State state) {
+        this.state = state;
+        this.stateTime = clock.getAsLong();
+        this.permits = 0;
+        this.successes = 0;
+
+        if (state == State.CLOSED) {
+            index = 0;
+            calls = 0;
+            failures = 0;
+        }
+    }
+}
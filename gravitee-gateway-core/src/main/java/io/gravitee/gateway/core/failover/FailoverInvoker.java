@@ -21,73 +21,251 @@ import io.gravitee.definition.model.Failover;
 import io.gravitee.gateway.api.ExecutionContext;
 import io.gravitee.gateway.api.Request;
 import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.endpoint.Endpoint;
 import io.gravitee.gateway.api.handler.Handler;
 import io.gravitee.gateway.api.proxy.ProxyConnection;
 import io.gravitee.gateway.api.proxy.ProxyResponse;
 import io.gravitee.gateway.api.stream.ReadStream;
 import io.gravitee.gateway.api.stream.WriteStream;
+import io.gravitee.gateway.core.endpoint.ref.EndpointReference;
+import io.gravitee.gateway.core.endpoint.ref.Reference;
+import io.gravitee.gateway.core.endpoint.ref.ReferenceRegister;
+import io.gravitee.gateway.core.endpoint.resolver.EndpointResolver;
 import io.gravitee.gateway.core.invoker.EndpointInvoker;
-import io.vertx.circuitbreaker.CircuitBreaker;
-import io.vertx.circuitbreaker.CircuitBreakerOptions;
-import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 /**
+ * Retries a failing request on other endpoints. Each endpoint has its own circuit breaker so that a failing endpoint
+ * is no longer selected while the others keep serving the requests.
+ *
+ * Only the requests whose method is retryable are retried, their content being kept to be sent again. A request
+ * whose content has not been fully received, or is too large to be kept, fails without being retried.
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
 public class FailoverInvoker extends EndpointInvoker implements InitializingBean {
 
+    /**
+     * Maximum number of endpoints asked to the load balancer when looking for an endpoint which has not been attempted
+     * yet and whose circuit is not open.
+     */
+    private static final int MAX_SELECTIONS = 8;
+
     @Autowired
     private Vertx vertx;
 
-    private CircuitBreaker circuitBreaker;
+    @Autowired
+    private ReferenceRegister referenceRegister;
+
+    /**
+     * Number of calls over which the failure rate of an endpoint is computed.
+     */
+    @Value("${api.failover.circuit_breaker.window_size:10}")
+    private int windowSize;
+
+    /**
+     * Percentage of failed calls from which the circuit of an endpoint opens.
+     */
+    @Value("${api.failover.circuit_breaker.failure_rate:50}")
+    private int failureRate;
+
+    /**
+     * Time spent in open state, in milliseconds, before probing the endpoint again.
+     */
+    @Value("${api.failover.circuit_breaker.reset_timeout:10000}")
+    private long resetTimeout;
+
+    /**
+     * Number of successful probe calls required to close the circuit of an endpoint.
+     */
+    @Value("${api.failover.circuit_breaker.probes:1}")
+    private int probes;
+
+    /**
+     * Methods of the requests which are retried, the idempotent ones by default.
+     */
+    @Value("${api.failover.retryable_methods:GET,HEAD,OPTIONS,PUT,DELETE,TRACE}")
+    private String[] retryableMethods;
+
+    /**
+     * Size of the content, in bytes, kept in memory to replay a request. Above, the content is written to a
+     * memory-mapped temporary file.
+     */
+    @Value("${api.failover.replay.memory_threshold:65536}")
+    private int replayMemoryThreshold;
+
+    /**
+     * Maximum size of the content, in bytes, of a request which can be retried.
+     */
+    @Value("${api.failover.replay.max_size:10485760}")
+    private int replayMaxSize;
+
+    private Set<String> retryableMethodNames;
+
+    private final ConcurrentMap<Endpoint, EndpointCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    private int maxAttempts;
+
+    private long retryTimeout;
 
     @Override
     public Request invoke(ExecutionContext executionContext, Request serverRequest, ReadStream<Buffer> stream, Handler<ProxyConnection> connectionHandler) {
-        final Request failoverServerRequest = new FailoverRequest(serverRequest);
-
-        circuitBreaker.execute(new io.vertx.core.Handler<Future<ProxyConnection>>() {
-            @Override
-            public void handle(Future<ProxyConnection> event) {
-                FailoverInvoker.super.invoke(executionContext, failoverServerRequest, stream, proxyConnection -> {
-                    proxyConnection.exceptionHandler(event::fail);
-                    proxyConnection.responseHandler(
-                            response -> event.complete(new FailoverProxyConnection(proxyConnection, response)));
-                });
+        boolean retryable = maxAttempts > 0 && retryableMethodNames.contains(serverRequest.method().name());
+        final FailoverRequest failoverServerRequest = new FailoverRequest(serverRequest,
+                (retryable) ? new ReplayBuffer(vertx, replayMemoryThreshold, replayMaxSize) : null);
+
+        attempt(executionContext, failoverServerRequest, stream, connectionHandler, 0);
+
+        return failoverServerRequest;
+    }
+
+    private void attempt(ExecutionContext executionContext, FailoverRequest failoverServerRequest,
+                         ReadStream<Buffer> stream, Handler<ProxyConnection> connectionHandler, int attempt) {
+        final Future<ProxyConnection> future = Future.future();
+        final ProxyConnection[] connection = new ProxyConnection[1];
+
+        // Consider a failure if the attempt does not succeed in time
+        long timerId = (retryTimeout > 0) ? vertx.setTimer(retryTimeout, timer -> {
+            if (future.tryFail(new TimeoutException()) && connection[0] != null) {
+                connection[0].cancel();
             }
-        }).setHandler(new io.vertx.core.Handler<AsyncResult<ProxyConnection>>() {
-            @Override
-            public void handle(AsyncResult<ProxyConnection> event) {
-                if (event.failed()) {
-                    FailoverConnection connection = new FailoverConnection();
-                    connectionHandler.handle(connection);
-                    connection.sendBadGatewayResponse();
+        }) : -1;
+
+        super.invoke(executionContext, failoverServerRequest, stream, proxyConnection -> {
+            connection[0] = proxyConnection;
+            proxyConnection.exceptionHandler(future::tryFail);
+            proxyConnection.responseHandler(
+                    response -> future.tryComplete(new FailoverProxyConnection(proxyConnection, response)));
+        });
+
+        // The endpoint has been selected while invoking, before any response
+        final EndpointCircuitBreaker circuitBreaker = failoverServerRequest.circuitBreaker();
+
+        future.setHandler(event -> {
+            if (timerId != -1) {
+                vertx.cancelTimer(timerId);
+            }
+
+            if (event.failed()) {
+                if (circuitBreaker != null) {
+                    circuitBreaker.onFailure();
+                }
+
+                if (attempt < maxAttempts && failoverServerRequest.isReplayable()) {
+                    attempt(executionContext, failoverServerRequest, stream, connectionHandler, attempt + 1);
                 } else {
-                    FailoverProxyConnection proxyConnection = (FailoverProxyConnection) event.result();
-                    connectionHandler.handle(proxyConnection);
-                    proxyConnection.sendResponse();
+                    failoverServerRequest.release();
+
+                    FailoverConnection failoverConnection = new FailoverConnection();
+                    connectionHandler.handle(failoverConnection);
+                    failoverConnection.sendBadGatewayResponse();
                 }
+            } else {
+                if (circuitBreaker != null) {
+                    circuitBreaker.onSuccess();
+                }
+
+                failoverServerRequest.release();
+
+                FailoverProxyConnection proxyConnection = (FailoverProxyConnection) event.result();
+                connectionHandler.handle(proxyConnection);
+                proxyConnection.sendResponse();
             }
         });
+    }
 
-        return failoverServerRequest;
+    /**
+     * Prefers an endpoint which has not been attempted yet for the request, and skips the endpoints whose circuit is
+     * open. An endpoint already attempted is only selected again when there is no other choice.
+     */
+    @Override
+    protected EndpointResolver.ResolvedEndpoint resolve(ExecutionContext executionContext, Request serverRequest) {
+        FailoverRequest failoverServerRequest = (FailoverRequest) serverRequest;
+        failoverServerRequest.attempt(null, null);
+
+        final Endpoint[] seen = new Endpoint[MAX_SELECTIONS];
+        EndpointResolver.ResolvedEndpoint attempted = null;
+
+        for (int i = 0; i < MAX_SELECTIONS; i++) {
+            EndpointResolver.ResolvedEndpoint endpoint = super.resolve(executionContext, serverRequest);
+
+            // No available endpoint
+            if (endpoint == null) {
+                break;
+            }
+
+            // A load balancer may select the same endpoint again, whatever its strategy
+            if (isSeen(seen, i, endpoint.getEndpoint())) {
+                continue;
+            }
+            seen[i] = endpoint.getEndpoint();
+
+            if (failoverServerRequest.isAttempted(endpoint.getEndpoint())) {
+                if (attempted == null) {
+                    attempted = endpoint;
+                }
+            } else if (acquire(failoverServerRequest, endpoint)) {
+                return endpoint;
+            }
+        }
+
+        return (attempted != null && acquire(failoverServerRequest, attempted)) ? attempted : null;
+    }
+
+    private static boolean isSeen(Endpoint[] seen, int count, Endpoint endpoint) {
+        for (int i = 0; i < count; i++) {
+            if (seen[i] == endpoint) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean acquire(FailoverRequest failoverServerRequest, EndpointResolver.ResolvedEndpoint endpoint) {
+        EndpointCircuitBreaker circuitBreaker = circuitBreakers.get(endpoint.getEndpoint());
+
+        if (circuitBreaker == null) {
+            // A new endpoint may replace a removed one: forget the circuit breakers of the removed endpoints
+            circuitBreakers.keySet().removeIf(this::isRemoved);
+            circuitBreaker = circuitBreakers.computeIfAbsent(endpoint.getEndpoint(),
+                    key -> new EndpointCircuitBreaker(windowSize, failureRate, resetTimeout, probes));
+        }
+
+        if (circuitBreaker.tryAcquire()) {
+            failoverServerRequest.attempt(endpoint.getEndpoint(), circuitBreaker);
+            return true;
+        }
+
+        return false;
+    }
+
+    private boolean isRemoved(Endpoint endpoint) {
+        Reference reference = referenceRegister.get(EndpointReference.REFERENCE_PREFIX + endpoint.name());
+        return reference == null || reference.endpoint() != endpoint;
     }
 
     @Override
     public void afterPropertiesSet() throws Exception {
         Failover failover = api.getProxy().getFailover();
 
-        circuitBreaker = CircuitBreaker.create("cb-" + api.getId(),
-                vertx,
-                new CircuitBreakerOptions()
-                        .setMaxRetries(failover.getMaxAttempts()) // number of failure before opening the circuit
-                        .setTimeout(failover.getRetryTimeout()) // consider a failure if the operation does not succeed in time
-                        .setResetTimeout(10000L) // time spent in open state before attempting to re-try
-                        .setNotificationAddress(null));
+        maxAttempts = failover.getMaxAttempts();
+        retryTimeout = failover.getRetryTimeout();
+        retryableMethodNames = Arrays.stream(retryableMethods)
+                .map(method -> method.trim().toUpperCase())
+                .collect(Collectors.toSet());
     }
 
     private class FailoverConnection implements ProxyConnection {
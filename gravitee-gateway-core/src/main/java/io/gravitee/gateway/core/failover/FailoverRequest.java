@@ -18,22 +18,33 @@ package io.gravitee.gateway.core.failover;
 import io.gravitee.gateway.api.Request;
 import io.gravitee.gateway.api.RequestWrapper;
 import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.endpoint.Endpoint;
 import io.gravitee.gateway.api.handler.Handler;
 import io.gravitee.gateway.api.stream.ReadStream;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
 class FailoverRequest extends RequestWrapper {
 
-    private Buffer buffer;
+    private ReplayBuffer replayBuffer;
     private boolean resumed = false;
+    private boolean ended = false;
     private Handler<Buffer> bodyHandler;
     private Handler<Void> endHandler;
+    private List<Endpoint> attemptedEndpoints;
+    private EndpointCircuitBreaker circuitBreaker;
 
-    FailoverRequest(Request request) {
+    /**
+     * @param replayBuffer the buffer keeping the content to replay, or <code>null</code> if the request is not retried.
+     */
+    FailoverRequest(Request request, ReplayBuffer replayBuffer) {
         super(request);
+        this.replayBuffer = replayBuffer;
     }
 
     @Override
@@ -41,10 +52,9 @@ class FailoverRequest extends RequestWrapper {
         this.bodyHandler = bodyHandler;
 
         request.bodyHandler(result -> {
-            if (buffer == null) {
-                buffer = Buffer.buffer();
+            if (replayBuffer != null) {
+                replayBuffer.append(result);
             }
-            buffer.appendBuffer(result);
             bodyHandler.handle(result);
         });
 
@@ -55,7 +65,10 @@ class FailoverRequest extends RequestWrapper {
     public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
         this.endHandler = endHandler;
 
-        request.endHandler(endHandler);
+        request.endHandler(result -> {
+            ended = true;
+            endHandler.handle(result);
+        });
         return this;
     }
 
@@ -65,12 +78,55 @@ class FailoverRequest extends RequestWrapper {
             request.resume();
             resumed = true;
         } else {
-            if (bodyHandler != null && buffer != null) {
-                bodyHandler.handle(buffer);
+            if (bodyHandler != null && replayBuffer != null) {
+                replayBuffer.replay(bodyHandler);
             }
             endHandler.handle(null);
         }
 
         return this;
     }
+
+    /**
+     * Records the endpoint selected for the current attempt, and its circuit breaker.
+     */
+    void attempt(Endpoint endpoint, EndpointCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+
+        if (endpoint != null) {
+            if (attemptedEndpoints == null) {
+                attemptedEndpoints = new ArrayList<>(2);
+            }
+            attemptedEndpoints.add(endpoint);
+        }
+    }
+
+    boolean isAttempted(Endpoint endpoint) {
+        return attemptedEndpoints != null && attemptedEndpoints.contains(endpoint);
+    }
+
+    /**
+     * @return the circuit breaker of the endpoint selected for the current attempt, if any.
+     */
+    EndpointCircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * @return <code>true</code> if the whole content of the request has been received and kept, so that it can be sent
+     * again to another endpoint.
+     */
+    boolean isReplayable() {
+        return replayBuffer != null && ended && !replayBuffer.isOverflowed();
+    }
+
+    /**
+     * Releases the content kept to replay the request, once no more attempt will be made.
+     */
+    void release() {
+        if (replayBuffer != null) {
+            replayBuffer.release();
+            replayBuffer = null;
+        }
+    }
 }
@@ -0,0 +1,236 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.failover;
+
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.handler.Handler;
+import io.gravitee.gateway.buffer.netty.BufferUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.internal.PlatformDependent;
+import io.vertx.core.Vertx;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Keeps the content of a request to replay it to another endpoint.
+ *
+ * The content is kept in memory up to <code>memoryThreshold</code> bytes, the next chunks are written to a
+ * memory-mapped temporary file. Above <code>maxSize</code> bytes, the content is dropped and the request can not be
+ * replayed anymore: sending a partial content would be worse than not retrying.
+ *
+ * The temporary file is created and closed by a worker thread, the chunks received meanwhile are kept in memory.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+class ReplayBuffer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplayBuffer.class);
+
+    /**
+     * Size of the chunks read from the temporary file when replaying.
+     */
+    private static final int REPLAY_CHUNK_SIZE = 64 * 1024;
+
+    private final Vertx vertx;
+    private final int memoryThreshold;
+    private final int maxSize;
+
+    private Buffer memory;
+    private int length;
+    private boolean overflowed;
+    private boolean released;
+
+    /**
+     * Content received while the temporary file is being created.
+     */
+    private Buffer pending;
+    private SpillFile file;
+
+    ReplayBuffer(Vertx vertx, int memoryThreshold, int maxSize) {
+        this.vertx = vertx;
+        this.memoryThreshold = memoryThreshold;
+        this.maxSize = maxSize;
+    }
+
+    void append(Buffer chunk) {
+        if (overflowed || released) {
+            return;
+        }
+
+        int chunkLength = chunk.length();
+        if (length + (long) chunkLength > maxSize) {
+            overflow();
+            return;
+        }
+
+        if (file != null) {
+            file.write(chunk);
+        } else if (pending == null && length + chunkLength <= memoryThreshold) {
+            if (memory == null) {
+                memory = BufferUtils.buffer();
+            }
+            memory.appendBuffer(chunk);
+        } else if (pending == null) {
+            pending = BufferUtils.buffer();
+            pending.appendBuffer(chunk);
+            spill(maxSize - length);
+        } else {
+            pending.appendBuffer(chunk);
+        }
+
+        length += chunkLength;
+    }
+
+    private void spill(int size) {
+        vertx.<SpillFile>executeBlocking(future -> {
+            try {
+                future.complete(SpillFile.create(size));
+            } catch (IOException ioe) {
+                future.fail(ioe);
+            }
+        }, result -> {
+            if (result.failed()) {
+                LOGGER.error("Unable to write the request content to a temporary file", result.cause());
+                overflow();
+            } else if (released) {
+                close(result.result());
+            } else {
+                file = result.result();
+                file.write(pending);
+                ReferenceCountUtil.release(pending);
+                pending = null;
+            }
+        });
+    }
+
+    private void overflow() {
+        overflowed = true;
+        release();
+    }
+
+    /**
+     * @return <code>true</code> if the content has been dropped because it is too large to be replayed.
+     */
+    boolean isOverflowed() {
+        return overflowed;
+    }
+
+    int length() {
+        return length;
+    }
+
+    void replay(Handler<Buffer> bodyHandler) {
+        // The replayed content is released by the connection, keep it for the next attempts
+        if (memory != null) {
+            bodyHandler.handle(ReferenceCountUtil.retain(memory));
+        }
+
+        if (file != null) {
+            file.replay(bodyHandler);
+        }
+
+        if (pending != null) {
+            bodyHandler.handle(ReferenceCountUtil.retain(pending));
+        }
+    }
+
+    /**
+     * Releases the content, once no more attempt will be made.
+     */
+    void release() {
+        released = true;
+
+        ReferenceCountUtil.release(memory);
+        memory = null;
+        ReferenceCountUtil.release(pending);
+        pending = null;
+
+        if (file != null) {
+            close(file);
+            file = null;
+        }
+    }
+
+    private void close(SpillFile file) {
+        // Do not wait for the garbage collector to release the mapping
+        PlatformDependent.freeDirectBuffer(file.mapped);
+
+        vertx.executeBlocking(future -> {
+            try {
+                // The file is deleted on close
+                file.channel.close();
+            } catch (IOException ioe) {
+                LOGGER.warn("Unable to delete the temporary file of a request content", ioe);
+            }
+            future.complete();
+        }, null);
+    }
+
+    private static class SpillFile {
+
+        private final FileChannel channel;
+        private final MappedByteBuffer mapped;
+
+        private SpillFile(FileChannel channel, MappedByteBuffer mapped) {
+            this.channel = channel;
+            this.mapped = mapped;
+        }
+
+        private static SpillFile create(int size) throws IOException {
+            Path path = Files.createTempFile("gravitee-replay-", ".tmp");
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+
+            try {
+                return new SpillFile(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            } catch (IOException ioe) {
+                channel.close();
+                throw ioe;
+            }
+        }
+
+        private void write(Buffer chunk) {
+            Object nativeBuffer = chunk.getNativeBuffer();
+            if (nativeBuffer instanceof ByteBuf) {
+                ByteBuf buf = (ByteBuf) nativeBuffer;
+                mapped.put(buf.nioBuffer(buf.readerIndex(), buf.readableBytes()));
+            } else {
+                mapped.put(chunk.getBytes());
+            }
+        }
+
+        private void replay(Handler<Buffer> bodyHandler) {
+            ByteBuffer content = mapped.duplicate();
+            content.flip();
+
+            while (content.hasRemaining()) {
+                byte[] bytes = new byte[Math.min(content.remaining(), REPLAY_CHUNK_SIZE)];
+                content.get(bytes);
+                bodyHandler.handle(Buffer.buffer(bytes));
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.hedging;
+
+import io.gravitee.gateway.api.Request;
+import io.gravitee.gateway.api.RequestWrapper;
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.endpoint.Endpoint;
+import io.gravitee.gateway.api.stream.ReadStream;
+
+/**
+ * A request sent to an endpoint, either the first one or the hedged one. The hedged request does not resume the
+ * incoming request, which has already been resumed by the first one.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+class HedgedRequest extends RequestWrapper {
+
+    private final boolean hedge;
+    private final Endpoint excludedEndpoint;
+    private Endpoint endpoint;
+
+    HedgedRequest(Request request) {
+        this(request, false, null);
+    }
+
+    /**
+     * @param excludedEndpoint the endpoint of the first request, not to be selected for the hedged one.
+     */
+    HedgedRequest(Request request, Endpoint excludedEndpoint) {
+        this(request, true, excludedEndpoint);
+    }
+
+    private HedgedRequest(Request request, boolean hedge, Endpoint excludedEndpoint) {
+        super(request);
+        this.hedge = hedge;
+        this.excludedEndpoint = excludedEndpoint;
+    }
+
+    @Override
+    public ReadStream<Buffer> resume() {
+        if (!hedge) {
+            request.resume();
+        }
+
+        return this;
+    }
+
+    Endpoint excludedEndpoint() {
+        return excludedEndpoint;
+    }
+
+    Endpoint endpoint() {
+        return endpoint;
+    }
+
+    void endpoint(Endpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+}
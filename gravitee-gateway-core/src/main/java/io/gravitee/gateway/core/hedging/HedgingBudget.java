@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.hedging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the extra load caused by hedged requests: each request earns <code>percent</code> hundredths of a hedged
+ * request, and a hedged request can only be sent if a whole one has been earned.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+class HedgingBudget {
+
+    private static final long HEDGE_COST = 100;
+
+    /**
+     * Hedged requests which can be earned in advance, to absorb a burst of slow responses.
+     */
+    private static final long MAX_HEDGES = 10;
+
+    private final AtomicLong credits = new AtomicLong();
+    private final int percent;
+
+    HedgingBudget(int percent) {
+        this.percent = percent;
+    }
+
+    void deposit() {
+        // May slightly exceed the maximum under contention, which does not matter
+        if (credits.get() < MAX_HEDGES * HEDGE_COST) {
+            credits.addAndGet(percent);
+        }
+    }
+
+    boolean tryWithdraw() {
+        long current;
+        do {
+            current = credits.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+        } while (!credits.compareAndSet(current, current - HEDGE_COST));
+
+        return true;
+    }
+}
@@ -0,0 +1,281 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.hedging;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.gateway.api.ExecutionContext;
+import io.gravitee.gateway.api.Request;
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.handler.Handler;
+import io.gravitee.gateway.api.proxy.ProxyConnection;
+import io.gravitee.gateway.api.proxy.ProxyResponse;
+import io.gravitee.gateway.api.stream.ReadStream;
+import io.gravitee.gateway.core.endpoint.resolver.EndpointResolver;
+import io.gravitee.gateway.core.invoker.EndpointInvoker;
+import io.gravitee.gateway.core.proxy.DirectProxyConnection;
+import io.vertx.core.Vertx;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Sends a second, hedged, request to another endpoint when the first one has not responded within a percentile of
+ * the recent response times. The first response is kept and the other request is canceled.
+ *
+ * Only the requests without content, whose method is configured, are hedged. The extra load is limited by a budget,
+ * as a percentage of the requests.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class HedgingInvoker extends EndpointInvoker implements InitializingBean {
+
+    /**
+     * Maximum number of endpoints asked to the load balancer when looking for an endpoint other than the one of the
+     * first request.
+     */
+    private static final int MAX_SELECTIONS = 8;
+
+    private static final long WINDOW = 10000;
+
+    private static final int MIN_SAMPLES = 100;
+
+    /**
+     * The content of a hedged request, which has already been ended.
+     */
+    private static final ReadStream<Buffer> EMPTY_STREAM = new ReadStream<Buffer>() {
+        @Override
+        public ReadStream<Buffer> bodyHandler(Handler<Buffer> bodyHandler) {
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
+            endHandler.handle(null);
+            return this;
+        }
+    };
+
+    @Autowired
+    private Vertx vertx;
+
+    @Value("${api.hedging.methods:GET,HEAD,OPTIONS}")
+    private String[] methods;
+
+    /**
+     * Percentile of the recent response times after which a hedged request is sent.
+     */
+    @Value("${api.hedging.percentile:95}")
+    private double percentile;
+
+    /**
+     * Maximum percentage of hedged requests.
+     */
+    @Value("${api.hedging.budget:5}")
+    private int budgetPercent;
+
+    private Set<String> methodNames;
+
+    private LatencyTracker latencyTracker;
+
+    private HedgingBudget budget;
+
+    @Override
+    public Request invoke(ExecutionContext executionContext, Request serverRequest, ReadStream<Buffer> stream, Handler<ProxyConnection> connectionHandler) {
+        if (!methodNames.contains(serverRequest.method().name()) || hasContent(serverRequest)) {
+            return super.invoke(executionContext, serverRequest, stream, connectionHandler);
+        }
+
+        final HedgedRequest request = new HedgedRequest(serverRequest);
+        final Hedging hedging = new Hedging(serverRequest, connectionHandler);
+
+        super.invoke(executionContext, request, stream, connection -> hedging.register(connection, false));
+        budget.deposit();
+
+        long delay = latencyTracker.value();
+        if (delay > 0 && !hedging.isCompleted()) {
+            hedging.timerId = vertx.setTimer(Math.max(TimeUnit.NANOSECONDS.toMillis(delay), 1), timerId -> {
+                if (!hedging.isCompleted() && budget.tryWithdraw()) {
+                    super.invoke(executionContext, new HedgedRequest(serverRequest, request.endpoint()), EMPTY_STREAM,
+                            connection -> hedging.register(connection, true));
+                }
+            });
+        }
+
+        return request;
+    }
+
+    /**
+     * A hedged request is sent without content: the content of the incoming request is only read by the first one.
+     */
+    private static boolean hasContent(Request serverRequest) {
+        HttpHeaders headers = serverRequest.headers();
+        if (headers == null) {
+            return false;
+        }
+
+        if (headers.containsKey(HttpHeaders.TRANSFER_ENCODING)) {
+            return true;
+        }
+
+        String contentLength = headers.getFirst(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength == null) {
+            return false;
+        }
+
+        try {
+            return Long.parseLong(contentLength.trim()) > 0;
+        } catch (NumberFormatException nfe) {
+            // Let the first request fail on its own
+            return true;
+        }
+    }
+
+    /**
+     * Selects, for a hedged request, an endpoint other than the one of the first request.
+     */
+    @Override
+    protected EndpointResolver.ResolvedEndpoint resolve(ExecutionContext executionContext, Request serverRequest) {
+        if (!(serverRequest instanceof HedgedRequest)) {
+            return super.resolve(executionContext, serverRequest);
+        }
+
+        HedgedRequest request = (HedgedRequest) serverRequest;
+        for (int i = 0; i < MAX_SELECTIONS; i++) {
+            EndpointResolver.ResolvedEndpoint endpoint = super.resolve(executionContext, serverRequest);
+
+            if (endpoint == null) {
+                return null;
+            } else if (request.excludedEndpoint() == null || endpoint.getEndpoint() != request.excludedEndpoint()) {
+                request.endpoint(endpoint.getEndpoint());
+                return endpoint;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        methodNames = Arrays.stream(methods)
+                .map(method -> method.trim().toUpperCase())
+                .collect(Collectors.toSet());
+        latencyTracker = new LatencyTracker(percentile, WINDOW, MIN_SAMPLES);
+        budget = new HedgingBudget(budgetPercent);
+    }
+
+    /**
+     * The requests sent for an incoming request, racing for the first response.
+     */
+    private class Hedging {
+
+        private final Request serverRequest;
+        private final Handler<ProxyConnection> connectionHandler;
+        private final long start = System.nanoTime();
+        private final List<ProxyConnection> connections = new ArrayList<>(2);
+        private int failures;
+        private boolean completed;
+        private volatile long timerId = -1;
+
+        Hedging(Request serverRequest, Handler<ProxyConnection> connectionHandler) {
+            this.serverRequest = serverRequest;
+            this.connectionHandler = connectionHandler;
+        }
+
+        void register(ProxyConnection connection, boolean hedge) {
+            synchronized (this) {
+                if (completed) {
+                    // Lost the race before being sent
+                    connection.cancel();
+                    return;
+                }
+                connections.add(connection);
+            }
+
+            // The endpoint of the request has just been set by the invoker
+            final String endpoint = serverRequest.metrics().getEndpoint();
+
+            connection.exceptionHandler(failure -> fail());
+            connection.responseHandler(response -> {
+                if (hedge && response instanceof DirectProxyConnection.DirectResponse) {
+                    // No other endpoint to send the hedged request to
+                    fail();
+                } else {
+                    complete(connection, response, endpoint);
+                }
+            });
+        }
+
+        synchronized boolean isCompleted() {
+            return completed;
+        }
+
+        private void complete(ProxyConnection winner, ProxyResponse response, String endpoint) {
+            synchronized (this) {
+                if (completed) {
+                    winner.cancel();
+                    return;
+                }
+                completed = true;
+            }
+
+            cancelTimer();
+            for (ProxyConnection connection : connections) {
+                if (connection != winner) {
+                    connection.cancel();
+                }
+            }
+
+            latencyTracker.record(System.nanoTime() - start);
+            serverRequest.metrics().setEndpoint(endpoint);
+
+            HedgedProxyConnection proxyConnection = new HedgedProxyConnection(winner, response);
+            connectionHandler.handle(proxyConnection);
+            proxyConnection.sendResponse();
+        }
+
+        private void fail() {
+            synchronized (this) {
+                // Wait for the other request, if any
+                if (completed || ++failures < connections.size()) {
+                    return;
+                }
+                completed = true;
+            }
+
+            cancelTimer();
+
+            DirectProxyConnection proxyConnection = new DirectProxyConnection(HttpStatusCode.BAD_GATEWAY_502);
+            connectionHandler.handle(proxyConnection);
+            proxyConnection.sendResponse();
+        }
+
+        private void cancelTimer() {
+            long timerId = this.timerId;
+            if (timerId != -1) {
+                vertx.cancelTimer(timerId);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.hedging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks a percentile of the recent response times.
+ *
+ * Response times are counted in a histogram of logarithmic buckets (4 buckets per power of two, so that a value is
+ * known within 25%), which is replaced at the end of each window. The percentile is computed once per window, from
+ * the histogram of the previous one.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+class LatencyTracker {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = Long.SIZE * SUB_BUCKETS;
+
+    private final double percentile;
+    private final long window;
+    private final int minSamples;
+    private final LongSupplier clock;
+
+    private volatile AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private volatile long windowStart;
+    private volatile long value = -1;
+
+    /**
+     * @param percentile the percentile to track, between 0 and 100.
+     * @param window the duration of a window, in milliseconds.
+     * @param minSamples the minimum number of response times in a window to compute the percentile.
+     */
+    LatencyTracker(double percentile, long window, int minSamples) {
+        this(percentile, window, minSamples, System::nanoTime);
+    }
+
+    LatencyTracker(double percentile, long window, int minSamples, LongSupplier clock) {
+        this.percentile = percentile;
+        this.window = TimeUnit.MILLISECONDS.toNanos(window);
+        this.minSamples = minSamples;
+        this.clock = clock;
+        this.windowStart = clock.getAsLong();
+    }
+
+    /**
+     * @param responseTime the response time, in nanoseconds.
+     */
+    void record(long responseTime) {
+        counts.incrementAndGet(index(TimeUnit.NANOSECONDS.toMicros(responseTime)));
+
+        long now = clock.getAsLong();
+        if (now - windowStart >= window) {
+            rotate(now);
+        }
+    }
+
+    /**
+     * @return the percentile of the response times of the last complete window, in nanoseconds, or <code>-1</code>
+     * if there has not been enough response times yet.
+     */
+    long value() {
+        return value;
+    }
+
+    private synchronized void rotate(long now) {
+        if (now - windowStart < window) {
+            return;
+        }
+
+        AtomicLongArray counts = this.counts;
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.windowStart = now;
+
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+
+        // Keep the previous value when the traffic is too low to compute a meaningful one
+        if (total >= minSamples && total > 0) {
+            long rank = (long) Math.ceil(total * percentile / 100);
+            long cumulated = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                cumulated += counts.get(i);
+                if (cumulated >= rank) {
+                    value = TimeUnit.MICROSECONDS.toNanos(upperBound(i));
+                    break;
+                }
+            }
+        }
+    }
+
+    static int index(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(micros, 0);
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return exponent * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @return the upper bound, exclusive, of the values of a bucket.
+     */
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index + 1;
+        }
+
+        int exponent = index / SUB_BUCKETS;
+        int subBucket = index % SUB_BUCKETS;
+        long bound = (long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS);
+        return (bound > 0) ? bound : Long.MAX_VALUE;
+    }
+}
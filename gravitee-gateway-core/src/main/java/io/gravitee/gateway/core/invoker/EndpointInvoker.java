@@ -29,8 +29,13 @@ import io.gravitee.gateway.api.proxy.ProxyRequest;
 import io.gravitee.gateway.api.proxy.builder.ProxyRequestBuilder;
 import io.gravitee.gateway.api.stream.ReadStream;
 import io.gravitee.gateway.core.endpoint.resolver.EndpointResolver;
+import io.gravitee.gateway.core.loadbalancer.EndpointStatistics;
+import io.gravitee.gateway.core.loadbalancer.EndpointStatisticsRegistry;
+import io.gravitee.gateway.core.loadbalancer.OutlierDetector;
 import io.gravitee.gateway.core.logging.LoggableProxyConnection;
+import io.gravitee.gateway.core.logging.LoggingContext;
 import io.gravitee.gateway.core.proxy.DirectProxyConnection;
+import io.gravitee.gateway.core.proxy.MeasuredProxyConnection;
 import io.netty.handler.codec.http.QueryStringEncoder;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -54,9 +59,15 @@ public class EndpointInvoker implements Invoker {
     @Autowired
     private EndpointResolver endpointResolver;
 
+    @Autowired
+    private EndpointStatisticsRegistry endpointStatisticsRegistry;
+
+    @Autowired
+    private OutlierDetector outlierDetector;
+
     @Override
     public Request invoke(ExecutionContext executionContext, Request serverRequest, ReadStream<Buffer> stream, Handler<ProxyConnection> connectionHandler) {
-        EndpointResolver.ResolvedEndpoint endpoint = endpointResolver.resolve(serverRequest, executionContext);
+        EndpointResolver.ResolvedEndpoint endpoint = resolve(executionContext, serverRequest);
 
         // Endpoint can be null if none endpoint can be selected or if the selected endpoint is unavailable
         if (endpoint == null) {
@@ -89,10 +100,23 @@ public class EndpointInvoker implements Invoker {
 
                 ProxyConnection proxyConnection = endpoint.getConnector().request(proxyRequest);
 
+                // Measure the endpoint for the load balancers relying on statistics and for the outlier detection
+                boolean outlierDetection = outlierDetector.isEnabled();
+                EndpointStatistics statistics = (outlierDetection) ?
+                        endpointStatisticsRegistry.register(endpoint.getEndpoint()) :
+                        endpointStatisticsRegistry.get(endpoint.getEndpoint());
+                if (statistics != null) {
+                    proxyConnection = new MeasuredProxyConnection(proxyConnection, endpoint.getEndpoint(), statistics,
+                            (outlierDetection) ? outlierDetector : null);
+                }
+
                 // Enable logging at proxy level
                 Object loggingAttr = executionContext.getAttribute(ExecutionContext.ATTR_PREFIX + "logging.proxy");
                 if (loggingAttr != null && ((boolean) loggingAttr)) {
-                    proxyConnection = new LoggableProxyConnection(proxyConnection, proxyRequest);
+                    LoggingContext loggingContext = (LoggingContext) executionContext.getAttribute(
+                            ExecutionContext.ATTR_PREFIX + LoggingContext.ATTR_LOGGING_CONTEXT);
+                    proxyConnection = new LoggableProxyConnection(proxyConnection, proxyRequest,
+                            (loggingContext != null) ? loggingContext : LoggingContext.DEFAULT);
                 }
 
                 connectionHandler.handle(proxyConnection);
@@ -119,6 +143,13 @@ public class EndpointInvoker implements Invoker {
         return serverRequest;
     }
 
+    /**
+     * Selects the endpoint to which the request is sent.
+     */
+    protected EndpointResolver.ResolvedEndpoint resolve(ExecutionContext executionContext, Request serverRequest) {
+        return endpointResolver.resolve(serverRequest, executionContext);
+    }
+
     private URI encodeQueryParameters(String uri, MultiValueMap<String, String> parameters) throws MalformedURLException, URISyntaxException {
         if (parameters != null && !parameters.isEmpty()) {
             QueryStringEncoder encoder = new QueryStringEncoder(uri);
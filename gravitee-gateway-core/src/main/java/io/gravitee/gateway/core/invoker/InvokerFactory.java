@@ -19,7 +19,9 @@ import io.gravitee.common.spring.factory.AbstractAutowiringFactoryBean;
 import io.gravitee.definition.model.Api;
 import io.gravitee.gateway.api.Invoker;
 import io.gravitee.gateway.core.failover.FailoverInvoker;
+import io.gravitee.gateway.core.hedging.HedgingInvoker;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -30,6 +32,12 @@ public class InvokerFactory extends AbstractAutowiringFactoryBean<Invoker> {
     @Autowired
     private Api api;
 
+    /**
+     * Hedges the requests of the APIs for which failover is not enabled.
+     */
+    @Value("${api.hedging.enabled:false}")
+    private boolean hedgingEnabled;
+
     @Override
     public Class<?> getObjectType() {
         return Invoker.class;
@@ -41,6 +49,10 @@ public class InvokerFactory extends AbstractAutowiringFactoryBean<Invoker> {
             return new FailoverInvoker();
         }
 
+        if (hedgingEnabled) {
+            return new HedgingInvoker();
+        }
+
         return new EndpointInvoker();
     }
 }
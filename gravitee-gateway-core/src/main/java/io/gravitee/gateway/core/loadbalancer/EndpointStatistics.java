@@ -0,0 +1,257 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.loadbalancer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Load of an endpoint, as seen by the gateway: the number of outstanding requests and a peak-sensitive moving
+ * average of the response time.
+ *
+ * The response time average goes up immediately to a slower response time, and decays exponentially towards faster
+ * response times, as well as over time when the endpoint does not respond anymore.
+ *
+ * When outlier detection is enabled, the outcome of the last requests is also counted over a sliding window, made of
+ * {@link #BUCKETS} buckets of one second.
+ *
+ * Statistics are updated by every event-loop sending requests to the endpoint, without locking: the moving average
+ * is updated with compare-and-set, and the counters of a bucket are packed into a single long. A few outcomes may be
+ * lost when a bucket is recycled concurrently, which does not matter to rates computed over many requests.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class EndpointStatistics {
+
+    private static final double DECAY_TIME = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Cost given to an endpoint which is processing requests without having responded yet.
+     */
+    private static final double PENALTY = TimeUnit.SECONDS.toNanos(1);
+
+    static final int BUCKETS = 10;
+
+    private static final long BUCKET_TIME = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    /**
+     * Layout of the counters of a bucket: requests on the highest 22 bits, then errors and slow responses on 21 bits.
+     */
+    private static final int ERRORS_SHIFT = 21;
+    private static final int REQUESTS_SHIFT = 42;
+    private static final long COUNTER_MASK = (1L << 21) - 1;
+    private static final long REQUESTS_MASK = (1L << 22) - 1;
+
+    private final AtomicLongArray bucketEpochs = new AtomicLongArray(BUCKETS);
+
+    private final AtomicLongArray bucketCounters = new AtomicLongArray(BUCKETS);
+
+    private final AtomicBoolean ejected = new AtomicBoolean();
+
+    private volatile int ejections;
+
+    private volatile long totalEjections;
+
+    private volatile long readmission;
+
+    private final LongSupplier clock;
+
+    private final AtomicLong stamp;
+
+    /**
+     * Bits of the moving average of the response time.
+     */
+    private final AtomicLong cost = new AtomicLong(Double.doubleToRawLongBits(0));
+
+    public EndpointStatistics() {
+        this(System::nanoTime);
+    }
+
+    EndpointStatistics(LongSupplier clock) {
+        this.clock = clock;
+        this.stamp = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * A request has been sent to the endpoint.
+     */
+    public void start() {
+        outstanding.incrementAndGet();
+    }
+
+    /**
+     * A request sent to the endpoint is over, successfully or not.
+     */
+    public void end() {
+        outstanding.decrementAndGet();
+    }
+
+    /**
+     * @param responseTime the time taken by the endpoint to respond, in nanoseconds.
+     */
+    public void observe(long responseTime) {
+        long now = clock.getAsLong();
+        double elapsed = Math.max(now - stamp.getAndSet(now), 0);
+        double weight = Math.exp(-elapsed / DECAY_TIME);
+
+        long bits;
+        double next;
+        do {
+            bits = cost.get();
+            double current = Double.longBitsToDouble(bits);
+            next = (responseTime > current) ? responseTime : current * weight + responseTime * (1 - weight);
+        } while (!cost.compareAndSet(bits, Double.doubleToRawLongBits(next)));
+    }
+
+    /**
+     * Counts the outcome of a request in the sliding window.
+     */
+    public void record(boolean error, boolean slow) {
+        long epoch = Math.floorDiv(clock.getAsLong(), BUCKET_TIME);
+        int bucket = (int) Math.floorMod(epoch, BUCKETS);
+
+        long bucketEpoch = bucketEpochs.get(bucket);
+        if (bucketEpoch != epoch && bucketEpochs.compareAndSet(bucket, bucketEpoch, epoch)) {
+            bucketCounters.set(bucket, 0);
+        }
+
+        bucketCounters.addAndGet(bucket, (1L << REQUESTS_SHIFT) |
+                (error ? 1L << ERRORS_SHIFT : 0) |
+                (slow ? 1L : 0));
+    }
+
+    /**
+     * @return the number of requests in the sliding window.
+     */
+    public int windowRequests() {
+        return sum(REQUESTS_SHIFT, REQUESTS_MASK);
+    }
+
+    /**
+     * @return the number of errors in the sliding window.
+     */
+    public int windowErrors() {
+        return sum(ERRORS_SHIFT, COUNTER_MASK);
+    }
+
+    /**
+     * @return the number of slow responses in the sliding window.
+     */
+    public int windowSlowResponses() {
+        return sum(0, COUNTER_MASK);
+    }
+
+    private int sum(int shift, long mask) {
+        long epoch = Math.floorDiv(clock.getAsLong(), BUCKET_TIME);
+        int sum = 0;
+
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            if (epoch - bucketEpochs.get(bucket) < BUCKETS) {
+                sum += (int) ((bucketCounters.get(bucket) >>> shift) & mask);
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * Forgets the outcome of the previous requests.
+     */
+    public void resetWindow() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            bucketCounters.set(bucket, 0);
+        }
+    }
+
+    /**
+     * Ejects the endpoint, the consecutive ejections being forgotten once the endpoint has been admitted for more than
+     * <code>decayTime</code> nanoseconds.
+     *
+     * @return the number of consecutive ejections, or <code>0</code> if the endpoint was already ejected.
+     */
+    int eject(long decayTime) {
+        if (!ejected.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        if (ejections > 0 && clock.getAsLong() - readmission > decayTime) {
+            ejections = 0;
+        }
+
+        totalEjections++;
+        return ++ejections;
+    }
+
+    void readmit() {
+        readmission = clock.getAsLong();
+        resetWindow();
+        ejected.set(false);
+    }
+
+    /**
+     * @return <code>true</code> if the endpoint is excluded from the load balancing because of its errors.
+     */
+    public boolean isEjected() {
+        return ejected.get();
+    }
+
+    /**
+     * @return the number of consecutive ejections of the endpoint.
+     */
+    public int ejections() {
+        return ejections;
+    }
+
+    /**
+     * @return the number of times the endpoint has been ejected.
+     */
+    public long totalEjections() {
+        return totalEjections;
+    }
+
+    public int outstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * @return the moving average of the response time, in nanoseconds.
+     */
+    public double cost() {
+        double elapsed = Math.max(clock.getAsLong() - stamp.get(), 0);
+        return Double.longBitsToDouble(cost.get()) * Math.exp(-elapsed / DECAY_TIME);
+    }
+
+    /**
+     * @return the expected time to process a new request, considering the requests already sent.
+     */
+    public double load() {
+        int outstanding = outstanding();
+        double cost = cost();
+
+        if (cost == 0 && outstanding != 0) {
+            return PENALTY + outstanding;
+        }
+
+        return cost * (outstanding + 1);
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.loadbalancer;
+
+import io.gravitee.gateway.api.endpoint.Endpoint;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Statistics of the endpoints of an API. Only the endpoints of the load balancers relying on statistics, or all of
+ * them when outlier detection is enabled, are registered: the requests sent to the other endpoints are not measured.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class EndpointStatisticsRegistry {
+
+    private final ConcurrentMap<Endpoint, EndpointStatistics> statistics = new ConcurrentHashMap<>();
+
+    public EndpointStatistics register(Endpoint endpoint) {
+        EndpointStatistics endpointStatistics = statistics.get(endpoint);
+        if (endpointStatistics == null) {
+            EndpointStatistics created = new EndpointStatistics();
+            endpointStatistics = statistics.putIfAbsent(endpoint, created);
+            if (endpointStatistics == null) {
+                endpointStatistics = created;
+            }
+        }
+
+        return endpointStatistics;
+    }
+
+    /**
+     * Forgets the statistics of an endpoint, once it has been stopped.
+     */
+    public void unregister(Endpoint endpoint) {
+        statistics.remove(endpoint);
+    }
+
+    /**
+     * @return the statistics of the endpoint, or <code>null</code> if the endpoint is not measured.
+     */
+    public EndpointStatistics get(Endpoint endpoint) {
+        return statistics.get(endpoint);
+    }
+
+    /**
+     * @return <code>true</code> if the endpoint has been ejected by the outlier detection.
+     */
+    public boolean isEjected(Endpoint endpoint) {
+        EndpointStatistics endpointStatistics = statistics.get(endpoint);
+        return endpointStatistics != null && endpointStatistics.isEjected();
+    }
+
+    public Map<Endpoint, EndpointStatistics> statistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+}
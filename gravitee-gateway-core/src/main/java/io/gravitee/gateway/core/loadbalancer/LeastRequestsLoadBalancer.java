@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.loadbalancer;
+
+import io.gravitee.gateway.api.endpoint.Endpoint;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selects the endpoint with the least outstanding requests. Endpoints with the same number of outstanding requests
+ * are selected in turn.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class LeastRequestsLoadBalancer extends StatisticsLoadBalancer {
+
+    private final AtomicInteger counter = new AtomicInteger(0);
+
+    public LeastRequestsLoadBalancer(Collection<Endpoint> endpoints, EndpointStatisticsRegistry registry) {
+        super(endpoints, registry);
+    }
+
+    @Override
+    int select(EndpointStatistics[] statistics, int size) {
+        int start = (counter.getAndIncrement() & Integer.MAX_VALUE) % size;
+
+        int selected = start;
+        int least = statistics[start].outstanding();
+
+        for (int i = 1; i < size && least > 0; i++) {
+            int index = (start + i) % size;
+            int outstanding = statistics[index].outstanding();
+            if (outstanding < least) {
+                selected = index;
+                least = outstanding;
+            }
+        }
+
+        return selected;
+    }
+
+    @Override
+    public String toString() {
+        return "LeastRequestsLoadBalancer";
+    }
+}
@@ -15,34 +15,103 @@
  */
 package io.gravitee.gateway.core.loadbalancer;
 
+import io.gravitee.common.util.ChangeListener;
+import io.gravitee.common.util.ObservableCollection;
 import io.gravitee.gateway.api.endpoint.Endpoint;
 import io.gravitee.gateway.api.lb.LoadBalancerStrategy;
 
 import java.util.Collection;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-public abstract class LoadBalancer implements LoadBalancerStrategy {
+public abstract class LoadBalancer implements LoadBalancerStrategy, ChangeListener<Endpoint> {
+
+    private static final Endpoint[] EMPTY = new Endpoint[0];
 
     protected Collection<Endpoint> endpoints;
 
+    /**
+     * Snapshot of the available endpoints, replaced each time the endpoints or their availability change so that
+     * selecting an endpoint does not have to filter them.
+     */
+    private volatile Endpoint[] availableEndpoints = EMPTY;
+
+    /**
+     * Statistics of the endpoints, used to leave the endpoints ejected by the outlier detection out of the snapshot.
+     */
+    private EndpointStatisticsRegistry statisticsRegistry;
+
     LoadBalancer(Collection<Endpoint> endpoints) {
         this.endpoints = endpoints;
+        if (endpoints instanceof ObservableCollection) {
+            ((ObservableCollection<Endpoint>) endpoints).addListener(this);
+        }
+
+        this.availableEndpoints = snapshot();
     }
 
     /**
      * Select only available endpoints
      * @return
      */
-    protected List<Endpoint> endpoints() {
+    protected Endpoint[] endpoints() {
+        return availableEndpoints;
+    }
+
+    /**
+     * Called when the availability of the endpoints has changed.
+     *
+     * Concurrent refreshes are serialized so that an older snapshot never replaces a newer one: overriding methods
+     * must be <code>synchronized</code> as well.
+     */
+    public synchronized void refresh() {
+        this.availableEndpoints = snapshot();
+    }
+
+    private Endpoint[] snapshot() {
+        EndpointStatisticsRegistry statisticsRegistry = this.statisticsRegistry;
+
         return endpoints
                 .stream()
                 .filter(Endpoint::available)
-                .collect(Collectors.toList());
+                .filter(endpoint -> statisticsRegistry == null || !statisticsRegistry.isEjected(endpoint))
+                .toArray(Endpoint[]::new);
+    }
+
+    /**
+     * @return all the endpoints of the load balancer, including the unavailable ones.
+     */
+    public Collection<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setStatisticsRegistry(EndpointStatisticsRegistry statisticsRegistry) {
+        this.statisticsRegistry = statisticsRegistry;
+        this.refresh();
+    }
+
+    @Override
+    public boolean preAdd(Endpoint object) {
+        return false;
+    }
+
+    @Override
+    public boolean preRemove(Endpoint object) {
+        return false;
+    }
+
+    @Override
+    public boolean postAdd(Endpoint object) {
+        this.refresh();
+        return false;
+    }
+
+    @Override
+    public boolean postRemove(Endpoint object) {
+        this.refresh();
+        return false;
     }
 
     @Override
@@ -0,0 +1,236 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.loadbalancer;
+
+import io.gravitee.gateway.api.endpoint.Endpoint;
+import io.gravitee.gateway.core.endpoint.GroupManager;
+import io.gravitee.gateway.core.endpoint.lifecycle.LoadBalancedEndpointGroup;
+import io.vertx.core.Vertx;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Passive outlier detection: the outcome of the requests sent to an endpoint is counted over a sliding window and the
+ * endpoint is ejected from the load balancers as soon as its error rate, or its rate of slow responses, breaches the
+ * configured threshold.
+ *
+ * An ejected endpoint is re-admitted after an ejection time which doubles with each consecutive ejection, up to a
+ * maximum. No more than a given percentage of the endpoints of a group can be ejected at the same time.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class OutlierDetector {
+
+    private final Logger logger = LoggerFactory.getLogger(OutlierDetector.class);
+
+    @Autowired
+    private EndpointStatisticsRegistry endpointStatisticsRegistry;
+
+    @Autowired
+    private GroupManager groupManager;
+
+    @Autowired
+    private Vertx vertx;
+
+    @Value("${api.outlier_detection.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * Minimum number of requests in the sliding window before evaluating an endpoint.
+     */
+    @Value("${api.outlier_detection.min_requests:20}")
+    private int minRequests;
+
+    /**
+     * Percentage of 5xx responses and connection failures from which an endpoint is ejected.
+     */
+    @Value("${api.outlier_detection.error_rate:50}")
+    private int errorRate;
+
+    /**
+     * Response time, in milliseconds, from which a response is considered as slow. <code>0</code> disables the
+     * detection of slow endpoints.
+     */
+    @Value("${api.outlier_detection.slow_response_time:0}")
+    private long slowResponseTime;
+
+    /**
+     * Percentage of slow responses from which an endpoint is ejected.
+     */
+    @Value("${api.outlier_detection.slow_rate:50}")
+    private int slowRate;
+
+    @Value("${api.outlier_detection.base_ejection_time:30000}")
+    private long baseEjectionTime;
+
+    @Value("${api.outlier_detection.max_ejection_time:300000}")
+    private long maxEjectionTime;
+
+    @Value("${api.outlier_detection.max_ejected_percent:50}")
+    private int maxEjectedPercent;
+
+    /**
+     * Timers of the pending re-admissions.
+     */
+    private final Set<Long> readmissions = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean stopped;
+
+    public OutlierDetector() {
+    }
+
+    OutlierDetector(EndpointStatisticsRegistry endpointStatisticsRegistry, GroupManager groupManager, Vertx vertx,
+                    int minRequests, int errorRate, long slowResponseTime, int slowRate,
+                    long baseEjectionTime, long maxEjectionTime, int maxEjectedPercent) {
+        this.endpointStatisticsRegistry = endpointStatisticsRegistry;
+        this.groupManager = groupManager;
+        this.vertx = vertx;
+        this.enabled = true;
+        this.minRequests = minRequests;
+        this.errorRate = errorRate;
+        this.slowResponseTime = slowResponseTime;
+        this.slowRate = slowRate;
+        this.baseEjectionTime = baseEjectionTime;
+        this.maxEjectionTime = maxEjectionTime;
+        this.maxEjectedPercent = maxEjectedPercent;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param responseTime the time to receive the response headers, in nanoseconds.
+     */
+    public void onResponse(Endpoint endpoint, EndpointStatistics statistics, int status, long responseTime) {
+        statistics.record(status >= 500,
+                slowResponseTime > 0 && responseTime >= TimeUnit.MILLISECONDS.toNanos(slowResponseTime));
+        evaluate(endpoint, statistics);
+    }
+
+    public void onFailure(Endpoint endpoint, EndpointStatistics statistics) {
+        statistics.record(true, false);
+        evaluate(endpoint, statistics);
+    }
+
+    private void evaluate(Endpoint endpoint, EndpointStatistics statistics) {
+        if (statistics.isEjected()) {
+            return;
+        }
+
+        int requests = statistics.windowRequests();
+        if (requests < minRequests || requests == 0) {
+            return;
+        }
+
+        boolean failing = statistics.windowErrors() * 100L >= (long) errorRate * requests;
+        boolean slow = !failing && slowResponseTime > 0 &&
+                statistics.windowSlowResponses() * 100L >= (long) slowRate * requests;
+
+        if ((failing || slow) && canEject(endpoint)) {
+            eject(endpoint, statistics, failing ? "error rate" : "slow responses rate");
+        }
+    }
+
+    /**
+     * The endpoints of a group are ejected independently of the other groups: the maximum percentage of ejected
+     * endpoints applies to the group of the endpoint.
+     */
+    private boolean canEject(Endpoint endpoint) {
+        for (LoadBalancedEndpointGroup group : groupManager.groups()) {
+            Collection<Endpoint> endpoints = group.endpoints();
+            if (endpoints.contains(endpoint)) {
+                int ejected = 0;
+                for (Endpoint member : endpoints) {
+                    if (endpointStatisticsRegistry.isEjected(member)) {
+                        ejected++;
+                    }
+                }
+
+                return (ejected + 1) * 100L <= (long) maxEjectedPercent * endpoints.size();
+            }
+        }
+
+        // The endpoint has been stopped meanwhile
+        return false;
+    }
+
+    private void eject(Endpoint endpoint, EndpointStatistics statistics, String reason) {
+        int ejections = statistics.eject(TimeUnit.MILLISECONDS.toNanos(maxEjectionTime));
+        if (ejections == 0) {
+            // Already ejected by a concurrent request
+            return;
+        }
+
+        long ejectionTime = ejectionTime(ejections);
+        logger.warn("Endpoint {} is ejected for {} ms because of its {}", endpoint.name(), ejectionTime, reason);
+
+        refreshLoadBalancers();
+
+        long timerId = vertx.setTimer(ejectionTime, id -> {
+            readmissions.remove(id);
+            readmit(endpoint, statistics);
+        });
+        readmissions.add(timerId);
+
+        if (stopped) {
+            // Stopped while ejecting
+            cancelReadmissions();
+        }
+    }
+
+    /**
+     * Cancels the pending re-admissions, to be called when the API is stopped.
+     */
+    public void stop() {
+        stopped = true;
+        cancelReadmissions();
+    }
+
+    private void cancelReadmissions() {
+        for (Long timerId : readmissions) {
+            if (readmissions.remove(timerId)) {
+                vertx.cancelTimer(timerId);
+            }
+        }
+    }
+
+    void readmit(Endpoint endpoint, EndpointStatistics statistics) {
+        logger.info("Endpoint {} is re-admitted", endpoint.name());
+
+        statistics.readmit();
+        refreshLoadBalancers();
+    }
+
+    long ejectionTime(int ejections) {
+        long ejectionTime = baseEjectionTime << Math.min(ejections - 1, 30);
+        return (ejectionTime <= 0) ? maxEjectionTime : Math.min(ejectionTime, maxEjectionTime);
+    }
+
+    private void refreshLoadBalancers() {
+        for (LoadBalancedEndpointGroup group : groupManager.groups()) {
+            group.refresh();
+        }
+    }
+}
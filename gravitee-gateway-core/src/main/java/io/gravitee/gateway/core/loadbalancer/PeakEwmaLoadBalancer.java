@@ -0,0 +1,44 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.loadbalancer;
+
+import io.gravitee.gateway.api.endpoint.Endpoint;
+
+import java.util.Collection;
+
+/**
+ * Power of two choices, where the load of an endpoint is its expected response time: the peak exponentially
+ * weighted moving average of its response time, multiplied by the number of outstanding requests.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class PeakEwmaLoadBalancer extends PowerOfTwoChoicesLoadBalancer {
+
+    public PeakEwmaLoadBalancer(Collection<Endpoint> endpoints, EndpointStatisticsRegistry registry) {
+        super(endpoints, registry);
+    }
+
+    @Override
+    double load(EndpointStatistics statistics) {
+        return statistics.load();
+    }
+
+    @Override
+    public String toString() {
+        return "PeakEwmaLoadBalancer";
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.loadbalancer;
+
+import io.gravitee.gateway.api.endpoint.Endpoint;
+
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks two distinct endpoints at random and selects the least loaded one, which avoids the herd behavior of always
+ * selecting the least loaded endpoint when statistics are not up to date.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class PowerOfTwoChoicesLoadBalancer extends StatisticsLoadBalancer {
+
+    public PowerOfTwoChoicesLoadBalancer(Collection<Endpoint> endpoints, EndpointStatisticsRegistry registry) {
+        super(endpoints, registry);
+    }
+
+    @Override
+    int select(EndpointStatistics[] statistics, int size) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        return (load(statistics[second]) < load(statistics[first])) ? second : first;
+    }
+
+    /**
+     * @return the load of an endpoint, the number of outstanding requests by default.
+     */
+    double load(EndpointStatistics statistics) {
+        return statistics.outstanding();
+    }
+
+    @Override
+    public String toString() {
+        return "PowerOfTwoChoicesLoadBalancer";
+    }
+}
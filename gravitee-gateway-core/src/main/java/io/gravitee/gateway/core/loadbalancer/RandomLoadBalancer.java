@@ -18,8 +18,7 @@ package io.gravitee.gateway.core.loadbalancer;
 import io.gravitee.gateway.api.endpoint.Endpoint;
 
 import java.util.Collection;
-import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -27,26 +26,22 @@ import java.util.Random;
  */
 public class RandomLoadBalancer extends LoadBalancer {
 
-    private transient int index;
-    private static final Random RANDOM = new Random();
-
     public RandomLoadBalancer(Collection<Endpoint> endpoints) {
         super(endpoints);
     }
 
     @Override
-    public synchronized Endpoint nextEndpoint() {
-        List<Endpoint> endpoints = endpoints();
-        int size = endpoints.size();
+    public Endpoint nextEndpoint() {
+        Endpoint[] endpoints = endpoints();
+        int size = endpoints.length;
         if (size == 0) {
             return null;
         } else if (size == 1) {
             // There is only 1
-            return endpoints.get(0);
+            return endpoints[0];
         }
 
-        index = RANDOM.nextInt(size);
-        return endpoints().get(index);
+        return endpoints[ThreadLocalRandom.current().nextInt(size)];
     }
 
     @Override
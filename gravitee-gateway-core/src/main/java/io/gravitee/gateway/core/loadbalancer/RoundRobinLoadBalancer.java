@@ -18,7 +18,6 @@ package io.gravitee.gateway.core.loadbalancer;
 import io.gravitee.gateway.api.endpoint.Endpoint;
 
 import java.util.Collection;
-import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -35,13 +34,13 @@ public class RoundRobinLoadBalancer extends LoadBalancer {
 
     @Override
     public Endpoint nextEndpoint() {
-        List<Endpoint> endpoints = endpoints();
-        int size = endpoints.size();
+        Endpoint[] endpoints = endpoints();
+        int size = endpoints.length;
         if (size == 0) {
             return null;
         }
 
-        return endpoints.get(Math.abs(counter.getAndIncrement() % size));
+        return endpoints[Math.abs(counter.getAndIncrement() % size)];
     }
 
     @Override
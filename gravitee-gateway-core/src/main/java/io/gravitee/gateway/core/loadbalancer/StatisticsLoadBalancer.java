@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.loadbalancer;
+
+import io.gravitee.gateway.api.endpoint.Endpoint;
+
+import java.util.Collection;
+
+/**
+ * Base class of the load balancers selecting endpoints from their statistics.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public abstract class StatisticsLoadBalancer extends LoadBalancer {
+
+    private static final Snapshot EMPTY = new Snapshot(new Endpoint[0], new EndpointStatistics[0]);
+
+    private final EndpointStatisticsRegistry registry;
+
+    /**
+     * The available endpoints and their statistics, published together so that an endpoint is never scored with the
+     * statistics of another one while refreshing.
+     */
+    private volatile Snapshot snapshot = EMPTY;
+
+    StatisticsLoadBalancer(Collection<Endpoint> endpoints, EndpointStatisticsRegistry registry) {
+        super(endpoints);
+        this.registry = registry;
+        setStatisticsRegistry(registry);
+    }
+
+    @Override
+    public synchronized void refresh() {
+        super.refresh();
+
+        if (registry != null) {
+            Endpoint[] endpoints = endpoints();
+            EndpointStatistics[] statistics = new EndpointStatistics[endpoints.length];
+            for (int i = 0; i < endpoints.length; i++) {
+                statistics[i] = registry.register(endpoints[i]);
+            }
+
+            this.snapshot = new Snapshot(endpoints, statistics);
+        }
+    }
+
+    /**
+     * @return the statistics of the available endpoints, in the same order than the selected endpoints.
+     */
+    EndpointStatistics[] statistics() {
+        return snapshot.statistics;
+    }
+
+    @Override
+    public Endpoint nextEndpoint() {
+        Snapshot snapshot = this.snapshot;
+        Endpoint[] endpoints = snapshot.endpoints;
+
+        int size = endpoints.length;
+        if (size == 0) {
+            return null;
+        } else if (size == 1) {
+            return endpoints[0];
+        }
+
+        return endpoints[select(snapshot.statistics, size)];
+    }
+
+    /**
+     * @return the index of the endpoint to select, among the <code>size</code> first ones.
+     */
+    abstract int select(EndpointStatistics[] statistics, int size);
+
+    private static final class Snapshot {
+        private final Endpoint[] endpoints;
+        private final EndpointStatistics[] statistics;
+
+        private Snapshot(Endpoint[] endpoints, EndpointStatistics[] statistics) {
+            this.endpoints = endpoints;
+            this.statistics = statistics;
+        }
+    }
+}
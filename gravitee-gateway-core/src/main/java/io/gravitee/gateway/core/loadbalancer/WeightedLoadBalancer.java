@@ -15,8 +15,6 @@
  */
 package io.gravitee.gateway.core.loadbalancer;
 
-import io.gravitee.common.util.ChangeListener;
-import io.gravitee.common.util.ObservableCollection;
 import io.gravitee.gateway.api.endpoint.Endpoint;
 
 import java.util.ArrayList;
@@ -27,7 +25,7 @@ import java.util.List;
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-public abstract class WeightedLoadBalancer extends LoadBalancer implements ChangeListener<Endpoint> {
+public abstract class WeightedLoadBalancer extends LoadBalancer {
 
     transient int lastIndex;
 
@@ -35,12 +33,11 @@ public abstract class WeightedLoadBalancer extends LoadBalancer implements Chang
 
     WeightedLoadBalancer(Collection<Endpoint> endpoints) {
         super(endpoints);
-        if (endpoints instanceof ObservableCollection) {
-            ((ObservableCollection<Endpoint>) endpoints).addListener(this);
-        }
     }
 
-    protected void refresh() {
+    @Override
+    public synchronized void refresh() {
+        super.refresh();
         this.loadRuntimeRatios();
     }
 
@@ -54,46 +51,7 @@ public abstract class WeightedLoadBalancer extends LoadBalancer implements Chang
         }
     }
 
-    boolean isRuntimeRatiosZeroed() {
-        boolean cleared = true;
-
-        for (WeightRatio runtimeRatio : runtimeRatios) {
-            if (runtimeRatio.getRuntime() > 0) {
-                cleared = false;
-            }
-        }
-        return cleared;
-    }
-
-    void resetRuntimeRatios() {
-        for (WeightRatio runtimeRatio : runtimeRatios) {
-            runtimeRatio.setRuntime(runtimeRatio.getDistribution());
-        }
-    }
-
     List<WeightRatio> getRuntimeRatios() {
         return runtimeRatios;
     }
-
-    @Override
-    public boolean preAdd(Endpoint object) {
-        return false;
-    }
-
-    @Override
-    public boolean preRemove(Endpoint object) {
-        return false;
-    }
-
-    @Override
-    public boolean postAdd(Endpoint object) {
-        this.refresh();
-        return false;
-    }
-
-    @Override
-    public boolean postRemove(Endpoint object) {
-        this.refresh();
-        return false;
-    }
 }
@@ -18,7 +18,6 @@ package io.gravitee.gateway.core.loadbalancer;
 import io.gravitee.gateway.api.endpoint.Endpoint;
 
 import java.util.Collection;
-import java.util.List;
 import java.util.Random;
 
 /**
@@ -33,10 +32,11 @@ public class WeightedRandomLoadBalancer extends WeightedLoadBalancer {
 
     public WeightedRandomLoadBalancer(Collection<Endpoint> endpoints) {
         super(endpoints);
+        refresh();
     }
 
     @Override
-    protected void refresh() {
+    public synchronized void refresh() {
         super.refresh();
         this.loadRatios();
     }
@@ -54,14 +54,14 @@ public class WeightedRandomLoadBalancer extends WeightedLoadBalancer {
 
     @Override
     public synchronized Endpoint nextEndpoint() {
-        List<Endpoint> endpoints = endpoints();
-        if (endpoints.isEmpty()) {
+        Endpoint[] endpoints = endpoints();
+        if (endpoints.length == 0) {
             return null;
         }
 
         int index = selectProcessIndex();
         lastIndex = index;
-        return endpoints.get(index);
+        return endpoints[index];
     }
 
     private int selectProcessIndex() {
@@ -17,50 +17,136 @@ package io.gravitee.gateway.core.loadbalancer;
 
 import io.gravitee.gateway.api.endpoint.Endpoint;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Smooth weighted round-robin, as done by nginx: an endpoint with a weight of 5 among two endpoints with a weight
+ * of 1 is selected as <code>a a b a c a a</code> rather than <code>a a a a a b c</code>.
+ *
+ * The selection sequence is computed once for each snapshot of the available endpoints, so that selecting an
+ * endpoint is a lock-free increment of a counter. The snapshot is replaced when the endpoints change or when their
+ * availability changes.
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
 public class WeightedRoundRobinLoadBalancer extends WeightedLoadBalancer {
 
-    private int counter;
+    /**
+     * Above this length, weights are scaled down to keep the selection sequence small.
+     */
+    static final int MAX_SEQUENCE_LENGTH = 1 << 16;
+
+    private static final Endpoint[] EMPTY = new Endpoint[0];
+
+    private final AtomicInteger counter = new AtomicInteger(0);
+
+    private volatile Endpoint[] sequence = EMPTY;
 
     public WeightedRoundRobinLoadBalancer(Collection<Endpoint> endpoints) {
         super(endpoints);
+        refresh();
     }
 
     @Override
-    public synchronized Endpoint nextEndpoint() {
-        List<Endpoint> endpoints = endpoints();
-        if (endpoints.isEmpty()) {
+    public Endpoint nextEndpoint() {
+        Endpoint[] sequence = this.sequence;
+        if (sequence.length == 0) {
             return null;
         }
 
-        if (isRuntimeRatiosZeroed())  {
-            resetRuntimeRatios();
-            counter = 0;
+        int index = (counter.getAndIncrement() & Integer.MAX_VALUE) % sequence.length;
+        for (int i = 0; i < sequence.length; i++) {
+            Endpoint endpoint = sequence[(index + i) % sequence.length];
+            if (endpoint.available()) {
+                return endpoint;
+            }
+
+            // The endpoint has been marked as down since the last snapshot: the snapshot is replaced by the
+            // lifecycle once the status change is propagated, meanwhile the next endpoint of the sequence is used.
+        }
+
+        return null;
+    }
+
+    /**
+     * Replaces the snapshot of the available endpoints. To be called when the availability of an endpoint changes.
+     */
+    @Override
+    public synchronized void refresh() {
+        super.refresh();
+        this.sequence = sequence(endpoints());
+    }
+
+    static Endpoint[] sequence(Endpoint[] endpoints) {
+        int size = endpoints.length;
+        if (size == 0) {
+            return EMPTY;
+        }
+
+        int[] weights = new int[size];
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            weights[i] = Math.max(endpoints[i].weight(), 0);
+            total += weights[i];
+        }
+
+        if (total == 0) {
+            // No weight at all, fallback to a plain round-robin
+            return endpoints;
+        }
+
+        int gcd = 0;
+        for (int weight : weights) {
+            gcd = gcd(gcd, weight);
         }
 
-        boolean found = false;
-        while (!found) {
-            if (counter >= getRuntimeRatios().size()) {
-                counter = 0;
+        total = 0;
+        for (int i = 0; i < size; i++) {
+            weights[i] /= gcd;
+            total += weights[i];
+        }
+
+        if (total > MAX_SEQUENCE_LENGTH) {
+            long scaled = 0;
+            for (int i = 0; i < size; i++) {
+                if (weights[i] > 0) {
+                    weights[i] = (int) Math.max(1, (long) weights[i] * MAX_SEQUENCE_LENGTH / total);
+                    scaled += weights[i];
+                }
             }
+            total = scaled;
+        }
 
-            if (getRuntimeRatios().get(counter).getRuntime() > 0) {
-                getRuntimeRatios().get(counter).setRuntime((getRuntimeRatios().get(counter).getRuntime()) - 1);
-                found = true;
-            } else {
-                counter++;
+        // Play the nginx algorithm once for the whole cycle
+        List<Endpoint> sequence = new ArrayList<>((int) total);
+        long[] current = new long[size];
+        for (int n = 0; n < total; n++) {
+            int selected = -1;
+            for (int i = 0; i < size; i++) {
+                current[i] += weights[i];
+                if (weights[i] > 0 && (selected == -1 || current[i] > current[selected])) {
+                    selected = i;
+                }
             }
+
+            current[selected] -= total;
+            sequence.add(endpoints[selected]);
         }
 
-        lastIndex = counter;
+        return sequence.toArray(EMPTY);
+    }
 
-        return endpoints.get(counter++);
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
     }
 
     @Override
@@ -0,0 +1,173 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.logging;
+
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.netty.buffer.ByteBuf;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Captures a body, chunk by chunk, within a bounded number of bytes: the head of the body is kept, along with its
+ * tail once the limit is exceeded. The captured bytes are only decoded when the body is read, so that it does not
+ * happen on the event loop.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class BodyCapture {
+
+    private static final int INITIAL_SIZE = 256;
+
+    private final int headLimit;
+    private final int tailLimit;
+
+    private byte[] head;
+    private int headLength;
+
+    /**
+     * The last bytes of the body, as a ring.
+     */
+    private byte[] tail;
+    private int tailPosition;
+
+    private long length;
+
+    /**
+     * @param maxSize max number of bytes kept, -1 for no limit.
+     */
+    public BodyCapture(int maxSize) {
+        if (maxSize < 0) {
+            this.headLimit = Integer.MAX_VALUE - 8;
+            this.tailLimit = 0;
+        } else {
+            this.tailLimit = maxSize / 2;
+            this.headLimit = maxSize - tailLimit;
+        }
+    }
+
+    public void append(Buffer chunk) {
+        Object nativeBuffer = chunk.getNativeBuffer();
+
+        if (nativeBuffer instanceof ByteBuf) {
+            ByteBuf buf = (ByteBuf) nativeBuffer;
+            append(buf, null, buf.readerIndex(), buf.readableBytes());
+        } else {
+            byte[] bytes = chunk.getBytes();
+            append(null, bytes, 0, bytes.length);
+        }
+    }
+
+    private void append(ByteBuf buf, byte[] bytes, int offset, int length) {
+        this.length += length;
+
+        // Fill the head first
+        int count = Math.min(length, headLimit - headLength);
+        if (count > 0) {
+            ensureHeadCapacity(headLength + count);
+            copy(buf, bytes, offset, head, headLength, count);
+            headLength += count;
+            offset += count;
+            length -= count;
+        }
+
+        if (length == 0 || tailLimit == 0) {
+            return;
+        }
+
+        if (tail == null) {
+            tail = new byte[tailLimit];
+        }
+
+        // Only the last bytes are kept
+        if (length > tailLimit) {
+            offset += length - tailLimit;
+            length = tailLimit;
+        }
+
+        int first = Math.min(length, tailLimit - tailPosition);
+        copy(buf, bytes, offset, tail, tailPosition, first);
+        copy(buf, bytes, offset + first, tail, 0, length - first);
+        tailPosition = (tailPosition + length) % tailLimit;
+    }
+
+    private void ensureHeadCapacity(int capacity) {
+        if (head == null) {
+            head = new byte[Math.min(headLimit, Math.max(capacity, INITIAL_SIZE))];
+        } else if (head.length < capacity) {
+            head = Arrays.copyOf(head, (int) Math.min(headLimit, Math.max(capacity, (long) head.length << 1)));
+        }
+    }
+
+    private static void copy(ByteBuf buf, byte[] bytes, int offset, byte[] dest, int destOffset, int length) {
+        if (length == 0) {
+            return;
+        }
+
+        if (buf != null) {
+            buf.getBytes(offset, dest, destOffset, length);
+        } else {
+            System.arraycopy(bytes, offset, dest, destOffset, length);
+        }
+    }
+
+    /**
+     * @return the number of bytes of the body, including the truncated ones.
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * @return the captured body, with a marker in place of the truncated bytes if any.
+     */
+    @Override
+    public String toString() {
+        if (head == null) {
+            return "";
+        }
+
+        if (tail == null) {
+            return new String(head, 0, headLength, StandardCharsets.UTF_8);
+        }
+
+        int tailLength = (int) Math.min(tailLimit, length - headLength);
+        long truncated = length - headLength - tailLength;
+
+        // Keep the head and the tail together when nothing has been truncated, not to split a character
+        int tailOffset = (truncated == 0) ? headLength : 0;
+        byte[] ordered = new byte[tailOffset + tailLength];
+        if (tailOffset > 0) {
+            System.arraycopy(head, 0, ordered, 0, headLength);
+        }
+
+        if (tailLength < tailLimit) {
+            System.arraycopy(tail, 0, ordered, tailOffset, tailLength);
+        } else {
+            System.arraycopy(tail, tailPosition, ordered, tailOffset, tailLimit - tailPosition);
+            System.arraycopy(tail, 0, ordered, tailOffset + tailLimit - tailPosition, tailPosition);
+        }
+
+        if (truncated == 0) {
+            return new String(ordered, StandardCharsets.UTF_8);
+        }
+
+        return new String(head, 0, headLength, StandardCharsets.UTF_8) +
+                "\n[... " + truncated + " bytes truncated ...]\n" +
+                new String(ordered, StandardCharsets.UTF_8);
+    }
+}
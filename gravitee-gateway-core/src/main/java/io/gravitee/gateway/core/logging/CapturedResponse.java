@@ -0,0 +1,45 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.logging;
+
+/**
+ * A logged response whose body is decoded from its capture the first time it is read.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+class CapturedResponse extends io.gravitee.reporter.api.common.Response {
+
+    private BodyCapture capture;
+
+    CapturedResponse(int status) {
+        super(status);
+    }
+
+    void setCapture(BodyCapture capture) {
+        this.capture = capture;
+    }
+
+    @Override
+    public synchronized String getBody() {
+        if (capture != null) {
+            setBody(capture.toString());
+            capture = null;
+        }
+
+        return super.getBody();
+    }
+}
@@ -30,9 +30,13 @@ import io.gravitee.reporter.api.log.Log;
 public class LoggableClientRequest extends RequestWrapper {
 
     private final Log log;
-    private Buffer buffer;
+    private final BodyCapture capture;
 
     public LoggableClientRequest(final Request request) {
+        this(request, LoggingContext.DEFAULT);
+    }
+
+    public LoggableClientRequest(final Request request, final LoggingContext loggingContext) {
         super(request);
         this.log = new Log(request.metrics().timestamp().toEpochMilli());
         this.log.setRequestId(request.id());
@@ -41,19 +45,20 @@ public class LoggableClientRequest extends RequestWrapper {
         this.request.metrics().setLog(log);
 
         // Create a copy of HTTP request headers
-        log.setClientRequest(new io.gravitee.reporter.api.common.Request());
+        log.setClientRequest(new CapturedRequest());
         log.getClientRequest().setMethod(this.method());
         log.getClientRequest().setUri(this.uri());
         log.getClientRequest().setHeaders(new HttpHeaders(this.headers()));
+
+        this.capture = loggingContext.capture(this.headers());
     }
 
     @Override
     public ReadStream<Buffer> bodyHandler(Handler<Buffer> bodyHandler) {
         request.bodyHandler(chunk -> {
-            if (buffer == null) {
-                buffer = Buffer.buffer();
+            if (capture != null) {
+                capture.append(chunk);
             }
-            buffer.appendBuffer(chunk);
             bodyHandler.handle(chunk);
         });
 
@@ -63,8 +68,8 @@ public class LoggableClientRequest extends RequestWrapper {
     @Override
     public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
         request.endHandler(result -> {
-            if (buffer != null) {
-                log.getClientRequest().setBody(buffer.toString());
+            if (capture != null && capture.length() > 0) {
+                ((CapturedRequest) log.getClientRequest()).setCapture(capture);
             }
 
             endHandler.handle(result);
@@ -19,6 +19,7 @@ import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.gateway.api.Request;
 import io.gravitee.gateway.api.Response;
 import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.handler.Handler;
 import io.gravitee.gateway.api.stream.WriteStream;
 import io.gravitee.reporter.api.log.Log;
 
@@ -31,25 +32,40 @@ public class LoggableClientResponse implements Response {
     private final Response response;
     private final Request request;
     private final Log log;
-    private Buffer buffer;
+    private final LoggingContext loggingContext;
+    private BodyCapture capture;
+    private boolean captureStarted;
 
     public LoggableClientResponse(final Request request, final Response response) {
+        this(request, response, LoggingContext.DEFAULT);
+    }
+
+    public LoggableClientResponse(final Request request, final Response response,
+                                  final LoggingContext loggingContext) {
         this.request = request;
         this.response = response;
+        this.loggingContext = loggingContext;
         this.log = this.request.metrics().getLog();
     }
 
     @Override
     public WriteStream<Buffer> write(Buffer content) {
-        if (buffer == null) {
-            buffer = Buffer.buffer();
-        }
-
-        buffer.appendBuffer(content);
+        capture(content);
 
         return response.write(content);
     }
 
+    @Override
+    public WriteStream<Buffer> drainHandler(Handler<Void> drainHandler) {
+        response.drainHandler(drainHandler);
+        return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+        return response.writeQueueFull();
+    }
+
     @Override
     public Response status(int statusCode) {
         log.setClientResponse(new io.gravitee.reporter.api.common.Response(statusCode));
@@ -58,24 +74,52 @@ public class LoggableClientResponse implements Response {
 
     @Override
     public void end() {
-        calculate(buffer);
+        calculate();
         response.end();
     }
 
     @Override
     public void end(Buffer buffer) {
-        calculate(buffer);
+        if (buffer != null) {
+            capture(buffer);
+        }
+
+        calculate();
         response.end(buffer);
     }
 
-    private void calculate(Buffer buffer) {
+    private void capture(Buffer content) {
+        // Headers are sent along with the first chunk, the content type is known from here
+        if (!captureStarted) {
+            captureStarted = true;
+
+            // The status is known from here: do not buffer a body which will not be logged
+            if (loggingContext.isLogged(status())) {
+                capture = loggingContext.capture(headers());
+            }
+        }
+
+        if (capture != null) {
+            capture.append(content);
+        }
+    }
+
+    private void calculate() {
+        if (!loggingContext.isLogged(status())) {
+            // Detach the log, it must not be reported
+            request.metrics().setLog(null);
+            return;
+        }
+
         // Here we are sure that headers has been full processed by policies
-        log.setClientResponse(new io.gravitee.reporter.api.common.Response(status()));
-        log.getClientResponse().setHeaders(headers());
+        CapturedResponse clientResponse = new CapturedResponse(status());
+        clientResponse.setHeaders(headers());
 
-        if (buffer != null) {
-            log.getClientResponse().setBody(buffer.toString());
+        if (capture != null && capture.length() > 0) {
+            clientResponse.setCapture(capture);
         }
+
+        log.setClientResponse(clientResponse);
     }
 
     @Override
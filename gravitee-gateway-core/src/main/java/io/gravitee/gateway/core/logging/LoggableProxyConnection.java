@@ -23,8 +23,6 @@ import io.gravitee.gateway.api.proxy.ProxyRequest;
 import io.gravitee.gateway.api.proxy.ProxyResponse;
 import io.gravitee.gateway.api.stream.ReadStream;
 import io.gravitee.gateway.api.stream.WriteStream;
-import io.gravitee.reporter.api.common.Request;
-import io.gravitee.reporter.api.common.Response;
 import io.gravitee.reporter.api.log.Log;
 
 /**
@@ -34,15 +32,26 @@ import io.gravitee.reporter.api.log.Log;
 public class LoggableProxyConnection implements ProxyConnection {
 
     private final ProxyConnection proxyConnection;
+    private final ProxyRequest proxyRequest;
     private final Log log;
-    private Buffer buffer;
+    private final boolean proxyOnly;
+    private final LoggingContext loggingContext;
+    private final BodyCapture capture;
 
     public LoggableProxyConnection(final ProxyConnection proxyConnection, final ProxyRequest proxyRequest) {
+        this(proxyConnection, proxyRequest, LoggingContext.DEFAULT);
+    }
+
+    public LoggableProxyConnection(final ProxyConnection proxyConnection, final ProxyRequest proxyRequest,
+                                   final LoggingContext loggingContext) {
         this.proxyConnection = proxyConnection;
+        this.proxyRequest = proxyRequest;
+        this.loggingContext = loggingContext;
         Log log = proxyRequest.metrics().getLog();
 
         // If log is enable only for 'Proxy only' mode, the log structure is not yet created
-        if (log == null) {
+        this.proxyOnly = (log == null);
+        if (proxyOnly) {
             log = new Log(proxyRequest.metrics().timestamp().toEpochMilli());
             log.setRequestId(proxyRequest.metrics().getRequestId());
 
@@ -51,10 +60,12 @@ public class LoggableProxyConnection implements ProxyConnection {
         }
 
         this.log = log;
-        this.log.setProxyRequest(new Request());
+        this.log.setProxyRequest(new CapturedRequest());
         this.log.getProxyRequest().setUri(proxyRequest.uri().toString());
         this.log.getProxyRequest().setMethod(proxyRequest.method());
         this.log.getProxyRequest().setHeaders(proxyRequest.headers());
+
+        this.capture = loggingContext.capture(proxyRequest.headers());
     }
 
     @Override
@@ -74,8 +85,8 @@ public class LoggableProxyConnection implements ProxyConnection {
 
     @Override
     public void end() {
-        if (buffer != null) {
-            this.log.getProxyRequest().setBody(buffer.toString());
+        if (capture != null && capture.length() > 0) {
+            ((CapturedRequest) this.log.getProxyRequest()).setCapture(capture);
         }
 
         proxyConnection.end();
@@ -83,14 +94,24 @@ public class LoggableProxyConnection implements ProxyConnection {
 
     @Override
     public WriteStream<Buffer> write(Buffer chunk) {
-        if (buffer == null) {
-            buffer = Buffer.buffer();
+        if (capture != null) {
+            capture.append(chunk);
         }
-        buffer.appendBuffer(chunk);
 
         return proxyConnection.write(chunk);
     }
 
+    @Override
+    public WriteStream<Buffer> drainHandler(Handler<Void> drainHandler) {
+        proxyConnection.drainHandler(drainHandler);
+        return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+        return proxyConnection.writeQueueFull();
+    }
+
     class LoggableProxyResponseHandler implements Handler<ProxyResponse> {
         private final Handler<ProxyResponse> responseHandler;
 
@@ -107,23 +128,34 @@ public class LoggableProxyConnection implements ProxyConnection {
     class LoggableProxyResponse implements ProxyResponse {
 
         private final ProxyResponse proxyResponse;
-        private Buffer buffer;
+        private final BodyCapture capture;
 
         LoggableProxyResponse(final ProxyResponse proxyResponse) {
             this.proxyResponse = proxyResponse;
 
-            log.setProxyResponse(new Response(proxyResponse.status()));
+            boolean logged = loggingContext.isLogged(proxyResponse.status());
+
+            // In 'Proxy only' mode, the decision to log the request is taken from the proxy response status
+            if (proxyOnly && !logged) {
+                proxyRequest.metrics().setLog(null);
+                this.capture = null;
+                return;
+            }
+
+            log.setProxyResponse(new CapturedResponse(proxyResponse.status()));
             log.getProxyResponse().setHeaders(proxyResponse.headers());
+
+            // Do not buffer a body which will not be logged
+            this.capture = (logged) ? loggingContext.capture(proxyResponse.headers()) : null;
         }
 
         @Override
         public ReadStream<Buffer> bodyHandler(Handler<Buffer> bodyHandler) {
             return proxyResponse.bodyHandler(chunk -> {
-                if (buffer == null) {
-                    buffer = Buffer.buffer();
+                if (capture != null) {
+                    capture.append(chunk);
                 }
 
-                buffer.appendBuffer(chunk);
                 bodyHandler.handle(chunk);
             });
         }
@@ -131,8 +163,8 @@ public class LoggableProxyConnection implements ProxyConnection {
         @Override
         public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
             return proxyResponse.endHandler(result -> {
-                if (buffer != null) {
-                    log.getProxyResponse().setBody(buffer.toString());
+                if (capture != null && capture.length() > 0) {
+                    ((CapturedResponse) log.getProxyResponse()).setCapture(capture);
                 }
 
                 endHandler.handle(result);
@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.logging;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.gateway.core.logging.sampling.LoggingSampler;
+
+import java.util.regex.Pattern;
+
+/**
+ * Which requests are logged and how their bodies are captured when logging is enabled.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class LoggingContext {
+
+    /**
+     * Execution context attribute holding the logging context of the current request.
+     */
+    public static final String ATTR_LOGGING_CONTEXT = "logging.context";
+
+    public static final int DEFAULT_MAX_BODY_SIZE = 1024 * 1024;
+
+    public static final String DEFAULT_EXCLUDED_CONTENT_TYPES =
+            "image/.*|audio/.*|video/.*|font/.*|application/octet-stream|application/pdf|application/zip|" +
+                    "application/gzip|application/grpc.*";
+
+    public static final LoggingContext DEFAULT =
+            new LoggingContext(DEFAULT_MAX_BODY_SIZE, DEFAULT_EXCLUDED_CONTENT_TYPES);
+
+    private final int maxBodySize;
+
+    private final Pattern excludedContentTypes;
+
+    private final LoggingSampler sampler;
+
+    private final int errorStatus;
+
+    /**
+     * @param maxBodySize max number of bytes kept for each body, -1 for no limit. Beyond, the head and the tail of
+     *                    the body are kept.
+     * @param excludedContentTypes regular expression matching the content types whose body must not be captured.
+     */
+    public LoggingContext(int maxBodySize, String excludedContentTypes) {
+        this(maxBodySize, excludedContentTypes, LoggingSampler.ALWAYS, 0);
+    }
+
+    /**
+     * @param maxBodySize max number of bytes kept for each body, -1 for no limit. Beyond, the head and the tail of
+     *                    the body are kept.
+     * @param excludedContentTypes regular expression matching the content types whose body must not be captured.
+     * @param sampler sampler applied to the requests matching the logging condition.
+     * @param errorStatus if strictly positive, only the requests whose response status is greater or equal to this
+     *                    one are logged.
+     */
+    public LoggingContext(int maxBodySize, String excludedContentTypes, LoggingSampler sampler, int errorStatus) {
+        this.maxBodySize = maxBodySize;
+        this.sampler = sampler;
+        this.errorStatus = errorStatus;
+        this.excludedContentTypes = (excludedContentTypes == null || excludedContentTypes.isEmpty()) ?
+                null : Pattern.compile(excludedContentTypes, Pattern.CASE_INSENSITIVE);
+    }
+
+    public int getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    public boolean sample() {
+        return sampler.sample();
+    }
+
+    /**
+     * @return <code>true</code> if a request answered with the given status must be logged.
+     */
+    public boolean isLogged(int status) {
+        return errorStatus <= 0 || status >= errorStatus;
+    }
+
+    /**
+     * @return a capture of the body described by the given headers, or <code>null</code> if it must not be captured.
+     */
+    public BodyCapture capture(HttpHeaders headers) {
+        if (maxBodySize == 0) {
+            return null;
+        }
+
+        if (excludedContentTypes != null && headers != null) {
+            String contentType = headers.getFirst(HttpHeaders.CONTENT_TYPE);
+            if (contentType != null) {
+                int separator = contentType.indexOf(';');
+                String mediaType = ((separator == -1) ? contentType : contentType.substring(0, separator)).trim();
+
+                if (excludedContentTypes.matcher(mediaType).matches()) {
+                    return null;
+                }
+            }
+        }
+
+        return new BodyCapture(maxBodySize);
+    }
+}
@@ -23,12 +23,16 @@ import io.gravitee.gateway.api.ExecutionContext;
  */
 public class EvaluableExecutionContext {
 
-    private final ExecutionContext executionContext;
+    private ExecutionContext executionContext;
 
     EvaluableExecutionContext(final ExecutionContext executionContext) {
         this.executionContext = executionContext;
     }
 
+    void setExecutionContext(final ExecutionContext executionContext) {
+        this.executionContext = executionContext;
+    }
+
     public String getPlan() {
         return (String) executionContext.getAttribute(ExecutionContext.ATTR_PLAN);
     }
@@ -25,12 +25,16 @@ import io.gravitee.gateway.api.Request;
  */
 public class EvaluableRequest {
 
-    private final Request request;
+    private Request request;
 
     EvaluableRequest(final Request request) {
         this.request = request;
     }
 
+    void setRequest(final Request request) {
+        this.request = request;
+    }
+
     public long getTimestamp() {
         return request.timestamp();
     }
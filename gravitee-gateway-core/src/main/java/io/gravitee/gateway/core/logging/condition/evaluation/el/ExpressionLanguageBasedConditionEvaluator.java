@@ -19,10 +19,19 @@ import io.gravitee.gateway.api.ExecutionContext;
 import io.gravitee.gateway.api.Request;
 import io.gravitee.gateway.core.logging.condition.evaluation.ConditionEvaluator;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
+import java.util.function.Predicate;
+
 /**
+ * Evaluates a logging condition. A condition is parsed once and, unless it is simple enough to be evaluated
+ * without the expression language (see {@link SimpleCondition}), compiled to bytecode as soon as possible.
+ *
+ * Evaluation contexts are reused by the thread evaluating the condition, usually an event loop.
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
@@ -31,24 +40,58 @@ public class ExpressionLanguageBasedConditionEvaluator implements ConditionEvalu
     private static final String EXPRESSION_REGEX = "\\{([^#|T|(])";
     private static final String EXPRESSION_REGEX_SUBSTITUTE = "{'{'}$1";
 
+    private static final ThreadLocal<ConditionContext> CONTEXTS = ThreadLocal.withInitial(ConditionContext::new);
+
     private Expression expression;
 
+    private Predicate<Request> predicate;
+
     public ExpressionLanguageBasedConditionEvaluator(final String condition) {
         if (condition != null) {
-            this.expression = new SpelExpressionParser().parseExpression(
-                    condition.replaceAll(EXPRESSION_REGEX, EXPRESSION_REGEX_SUBSTITUTE));
+            this.predicate = SimpleCondition.parse(condition);
+
+            if (predicate == null) {
+                this.expression = new SpelExpressionParser(new SpelParserConfiguration(
+                        SpelCompilerMode.IMMEDIATE, getClass().getClassLoader()))
+                        .parseExpression(condition.replaceAll(EXPRESSION_REGEX, EXPRESSION_REGEX_SUBSTITUTE));
+            }
         }
     }
 
     @Override
     public boolean evaluate(Request request, ExecutionContext executionContext) {
+        if (predicate != null) {
+            return predicate.test(request);
+        }
+
         if (expression != null) {
-            StandardEvaluationContext context = new StandardEvaluationContext();
-            context.setVariable("request", new EvaluableRequest(request));
-            context.setVariable("context", new EvaluableExecutionContext(executionContext));
-            return this.expression.getValue(context, Boolean.class);
+            ConditionContext context = CONTEXTS.get();
+            context.request.setRequest(request);
+            context.executionContext.setExecutionContext(executionContext);
+
+            try {
+                return this.expression.getValue(context.evaluationContext, Boolean.class);
+            } finally {
+                // Do not retain the request once evaluated
+                context.request.setRequest(null);
+                context.executionContext.setExecutionContext(null);
+            }
         }
 
         return true;
     }
+
+    private static class ConditionContext {
+
+        private final EvaluableRequest request = new EvaluableRequest(null);
+
+        private final EvaluableExecutionContext executionContext = new EvaluableExecutionContext(null);
+
+        private final StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+
+        private ConditionContext() {
+            evaluationContext.setVariable("request", request);
+            evaluationContext.setVariable("context", executionContext);
+        }
+    }
 }
@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.logging.condition.evaluation.el;
+
+import io.gravitee.gateway.api.Request;
+
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Recognizes the most common logging conditions, so that they can be evaluated without the expression language:
+ * <ul>
+ *     <li><code>#request.headers['X-Header'] != null</code> (or <code>== null</code>), also for <code>params</code></li>
+ *     <li><code>#request.timestamp &lt;= 1577836800000l</code> (or any other comparison operator)</li>
+ *     <li>a conjunction of the above with <code>&amp;&amp;</code></li>
+ * </ul>
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+final class SimpleCondition {
+
+    private static final Pattern AND = Pattern.compile("&&");
+
+    private static final Pattern NULL_CHECK = Pattern.compile(
+            "#request\\.(headers|params)\\[\\s*(['\"])([^'\"&]*)\\2\\s*]\\s*(==|!=)\\s*null");
+
+    private static final Pattern TIMESTAMP = Pattern.compile(
+            "#request\\.timestamp\\s*(<=|<|>=|>|==|!=)\\s*(\\d{1,19})([lL]?)");
+
+    private SimpleCondition() {
+    }
+
+    /**
+     * @return the predicate equivalent to the given condition, or <code>null</code> if it is not recognized.
+     */
+    static Predicate<Request> parse(String condition) {
+        Predicate<Request> predicate = null;
+
+        for (String term : AND.split(condition.trim(), -1)) {
+            Predicate<Request> termPredicate = parseTerm(term.trim());
+            if (termPredicate == null) {
+                return null;
+            }
+
+            predicate = (predicate == null) ? termPredicate : predicate.and(termPredicate);
+        }
+
+        return predicate;
+    }
+
+    private static Predicate<Request> parseTerm(String term) {
+        Matcher matcher = NULL_CHECK.matcher(term);
+        if (matcher.matches()) {
+            String name = matcher.group(3);
+            boolean isNull = "==".equals(matcher.group(4));
+
+            if ("headers".equals(matcher.group(1))) {
+                return request -> (request.headers().get(name) == null) == isNull;
+            } else {
+                return request -> (request.parameters().get(name) == null) == isNull;
+            }
+        }
+
+        matcher = TIMESTAMP.matcher(term);
+        if (matcher.matches()) {
+            long value;
+            try {
+                value = Long.parseLong(matcher.group(2));
+            } catch (NumberFormatException nfe) {
+                return null;
+            }
+
+            // Without suffix, the expression language only accepts an int literal
+            if (matcher.group(3).isEmpty() && value > Integer.MAX_VALUE) {
+                return null;
+            }
+
+            switch (matcher.group(1)) {
+                case "<=":
+                    return request -> request.timestamp() <= value;
+                case "<":
+                    return request -> request.timestamp() < value;
+                case ">=":
+                    return request -> request.timestamp() >= value;
+                case ">":
+                    return request -> request.timestamp() > value;
+                case "==":
+                    return request -> request.timestamp() == value;
+                default:
+                    return request -> request.timestamp() != value;
+            }
+        }
+
+        return null;
+    }
+}
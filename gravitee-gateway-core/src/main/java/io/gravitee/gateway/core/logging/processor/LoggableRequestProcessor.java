@@ -17,6 +17,7 @@ package io.gravitee.gateway.core.logging.processor;
 
 import io.gravitee.gateway.core.logging.LoggableClientRequest;
 import io.gravitee.gateway.core.logging.LoggableClientResponse;
+import io.gravitee.gateway.core.logging.LoggingContext;
 import io.gravitee.gateway.core.logging.condition.evaluation.ConditionEvaluator;
 import io.gravitee.gateway.core.processor.AbstractProcessor;
 import io.gravitee.gateway.core.processor.ProcessorContext;
@@ -33,8 +34,15 @@ public class LoggableRequestProcessor extends AbstractProcessor {
 
     private final ConditionEvaluator evaluator;
 
+    protected final LoggingContext loggingContext;
+
     public LoggableRequestProcessor(final ConditionEvaluator evaluator) {
+        this(evaluator, LoggingContext.DEFAULT);
+    }
+
+    public LoggableRequestProcessor(final ConditionEvaluator evaluator, final LoggingContext loggingContext) {
         this.evaluator = evaluator;
+        this.loggingContext = loggingContext;
     }
 
     @Override
@@ -43,8 +51,9 @@ public class LoggableRequestProcessor extends AbstractProcessor {
             boolean condition = evaluate(context);
 
             if (condition) {
-                context.setRequest(new LoggableClientRequest(context.getRequest()));
-                context.setResponse(new LoggableClientResponse(context.getRequest(), context.getResponse()));
+                context.setRequest(new LoggableClientRequest(context.getRequest(), loggingContext));
+                context.setResponse(new LoggableClientResponse(context.getRequest(), context.getResponse(),
+                        loggingContext));
             }
         } catch (Exception ex) {
             logger.warn("Unexpected error while evaluating logging condition: {}", ex.getMessage());
@@ -54,6 +63,7 @@ public class LoggableRequestProcessor extends AbstractProcessor {
     }
 
     protected boolean evaluate(ProcessorContext context) throws Exception {
-        return evaluator.evaluate(context.getRequest(), context.getContext());
+        // Sampling is applied last so that only the requests matching the condition consume the sampling budget
+        return evaluator.evaluate(context.getRequest(), context.getContext()) && loggingContext.sample();
     }
 }
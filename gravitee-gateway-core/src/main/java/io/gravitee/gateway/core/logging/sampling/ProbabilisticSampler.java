@@ -0,0 +1,45 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.logging.sampling;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs a given proportion of the requests, picked at random.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class ProbabilisticSampler implements LoggingSampler {
+
+    private final double probability;
+
+    /**
+     * @param probability the probability for a request to be logged, between 0 and 1.
+     */
+    public ProbabilisticSampler(double probability) {
+        if (probability < 0 || probability > 1) {
+            throw new IllegalArgumentException("Logging sampling probability must be between 0 and 1: " + probability);
+        }
+
+        this.probability = probability;
+    }
+
+    @Override
+    public boolean sample() {
+        return probability >= 1 || (probability > 0 && ThreadLocalRandom.current().nextDouble() < probability);
+    }
+}
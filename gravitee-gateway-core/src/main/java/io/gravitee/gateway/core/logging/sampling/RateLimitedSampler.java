@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.logging.sampling;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Logs at most a given number of requests per second.
+ *
+ * This is a token bucket implemented as a generic cell rate algorithm: a single timestamp tells when the bucket is
+ * expected to be full again, so that sampling is a lock-free compare-and-set. The bucket holds one second of logs,
+ * bursts of up to <code>logsPerSecond</code> requests are logged.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class RateLimitedSampler implements LoggingSampler {
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final LongSupplier clock;
+
+    private final long interval;
+
+    private final long tolerance;
+
+    private final AtomicLong theoreticalArrivalTime;
+
+    public RateLimitedSampler(int logsPerSecond) {
+        this(logsPerSecond, System::nanoTime);
+    }
+
+    RateLimitedSampler(int logsPerSecond, LongSupplier clock) {
+        if (logsPerSecond <= 0) {
+            throw new IllegalArgumentException("Logging sampling rate must be strictly positive: " + logsPerSecond);
+        }
+
+        this.clock = clock;
+        this.interval = ONE_SECOND / logsPerSecond;
+        this.tolerance = ONE_SECOND - interval;
+        this.theoreticalArrivalTime = new AtomicLong(clock.getAsLong());
+    }
+
+    @Override
+    public boolean sample() {
+        long now = clock.getAsLong();
+
+        for (;;) {
+            long tat = theoreticalArrivalTime.get();
+            if (tat - now > tolerance) {
+                return false;
+            }
+
+            long next = ((tat - now < 0) ? now : tat) + interval;
+            if (theoreticalArrivalTime.compareAndSet(tat, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.proxy;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.endpoint.Endpoint;
+import io.gravitee.gateway.api.handler.Handler;
+import io.gravitee.gateway.api.proxy.ProxyConnection;
+import io.gravitee.gateway.api.proxy.ProxyResponse;
+import io.gravitee.gateway.api.stream.ReadStream;
+import io.gravitee.gateway.api.stream.WriteStream;
+import io.gravitee.gateway.core.loadbalancer.EndpointStatistics;
+import io.gravitee.gateway.core.loadbalancer.OutlierDetector;
+
+/**
+ * Feeds the statistics of an endpoint with the requests sent to it: a request is outstanding until its response is
+ * fully received, the connection fails or is canceled. The response time is the time to receive the response headers.
+ *
+ * The outcome of the request is also reported to the outlier detection, when enabled.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class MeasuredProxyConnection implements ProxyConnection {
+
+    private final ProxyConnection proxyConnection;
+    private final Endpoint endpoint;
+    private final EndpointStatistics statistics;
+    private final OutlierDetector outlierDetector;
+    private final long start;
+    private boolean ended;
+
+    public MeasuredProxyConnection(final ProxyConnection proxyConnection, final Endpoint endpoint,
+                                   final EndpointStatistics statistics, final OutlierDetector outlierDetector) {
+        this.proxyConnection = proxyConnection;
+        this.endpoint = endpoint;
+        this.statistics = statistics;
+        this.outlierDetector = outlierDetector;
+        this.start = System.nanoTime();
+
+        statistics.start();
+    }
+
+    @Override
+    public ProxyConnection cancel() {
+        done();
+        return proxyConnection.cancel();
+    }
+
+    @Override
+    public ProxyConnection exceptionHandler(Handler<Throwable> exceptionHandler) {
+        proxyConnection.exceptionHandler(throwable -> {
+            // A failure is as slow as the time it took to fail
+            statistics.observe(System.nanoTime() - start);
+            done();
+
+            if (outlierDetector != null) {
+                outlierDetector.onFailure(endpoint, statistics);
+            }
+
+            exceptionHandler.handle(throwable);
+        });
+        return this;
+    }
+
+    @Override
+    public ProxyConnection responseHandler(Handler<ProxyResponse> responseHandler) {
+        proxyConnection.responseHandler(proxyResponse -> {
+            long responseTime = System.nanoTime() - start;
+            statistics.observe(responseTime);
+
+            if (outlierDetector != null) {
+                outlierDetector.onResponse(endpoint, statistics, proxyResponse.status(), responseTime);
+            }
+
+            responseHandler.handle(new MeasuredProxyResponse(proxyResponse));
+        });
+        return this;
+    }
+
+    @Override
+    public void end() {
+        proxyConnection.end();
+    }
+
+    @Override
+    public WriteStream<Buffer> write(Buffer chunk) {
+        proxyConnection.write(chunk);
+        return this;
+    }
+
+    @Override
+    public WriteStream<Buffer> drainHandler(Handler<Void> drainHandler) {
+        proxyConnection.drainHandler(drainHandler);
+        return this;
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+        return proxyConnection.writeQueueFull();
+    }
+
+    private void done() {
+        if (!ended) {
+            ended = true;
+            statistics.end();
+        }
+    }
+
+    private class MeasuredProxyResponse implements ProxyResponse {
+
+        private final ProxyResponse proxyResponse;
+
+        MeasuredProxyResponse(final ProxyResponse proxyResponse) {
+            this.proxyResponse = proxyResponse;
+        }
+
+        @Override
+        public ReadStream<Buffer> bodyHandler(Handler<Buffer> bodyHandler) {
+            proxyResponse.bodyHandler(bodyHandler);
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
+            proxyResponse.endHandler(result -> {
+                done();
+                endHandler.handle(result);
+            });
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> pause() {
+            proxyResponse.pause();
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> resume() {
+            proxyResponse.resume();
+            return this;
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return proxyResponse.headers();
+        }
+
+        @Override
+        public int status() {
+            return proxyResponse.status();
+        }
+    }
+}
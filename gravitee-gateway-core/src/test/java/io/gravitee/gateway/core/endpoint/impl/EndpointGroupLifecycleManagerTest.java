@@ -25,11 +25,13 @@ import io.gravitee.gateway.core.endpoint.factory.EndpointFactory;
 import io.gravitee.gateway.core.endpoint.lifecycle.impl.EndpointGroupLifecycleManager;
 import io.gravitee.gateway.core.endpoint.ref.ReferenceRegister;
 import io.gravitee.gateway.core.endpoint.factory.template.EndpointContext;
+import io.gravitee.gateway.core.loadbalancer.EndpointStatisticsRegistry;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import java.util.Collections;
 
@@ -62,6 +64,9 @@ public class EndpointGroupLifecycleManagerTest {
     @Mock
     private ReferenceRegister referenceRegister;
 
+    @Spy
+    private EndpointStatisticsRegistry endpointStatisticsRegistry = new EndpointStatisticsRegistry();
+
     @Before
     public void setUp() {
         MockitoAnnotations.initMocks(this);
@@ -150,6 +155,7 @@ public class EndpointGroupLifecycleManagerTest {
         assertFalse(endpointLifecycleManager.endpoints().isEmpty());
 
         Endpoint httpClientEndpoint = endpointLifecycleManager.get("endpoint");
+        endpointStatisticsRegistry.register(httpClientEndpoint);
 
         // Then, stop endpoint
         endpointLifecycleManager.stop();
@@ -158,5 +164,6 @@ public class EndpointGroupLifecycleManagerTest {
         verify(httpClientEndpoint.connector(), times(1)).stop();
 
         assertTrue(endpointLifecycleManager.endpoints().isEmpty());
+        assertNull(endpointStatisticsRegistry.get(httpClientEndpoint));
     }
 }
@@ -0,0 +1,125 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.failover;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class EndpointCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final EndpointCircuitBreaker circuitBreaker = new EndpointCircuitBreaker(4, 50, 10000, 2, clock::get);
+
+    @Test
+    public void shouldStayClosedUntilWindowIsFull() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        assertEquals(EndpointCircuitBreaker.State.CLOSED, circuitBreaker.state());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    public void shouldOpenOnFailureRate() {
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        assertEquals(EndpointCircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    public void shouldForgetOldestCalls() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        assertEquals(EndpointCircuitBreaker.State.CLOSED, circuitBreaker.state());
+    }
+
+    @Test
+    public void shouldLetProbesThroughAfterResetTimeout() {
+        open();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertTrue(circuitBreaker.tryAcquire());
+        assertTrue(circuitBreaker.tryAcquire());
+        assertFalse(circuitBreaker.tryAcquire());
+        assertEquals(EndpointCircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+    }
+
+    @Test
+    public void shouldCloseWhenProbesSucceed() {
+        open();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        circuitBreaker.tryAcquire();
+        circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+        assertEquals(EndpointCircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+
+        circuitBreaker.onSuccess();
+        assertEquals(EndpointCircuitBreaker.State.CLOSED, circuitBreaker.state());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    public void shouldReopenWhenProbeFails() {
+        open();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        circuitBreaker.tryAcquire();
+        circuitBreaker.onFailure();
+
+        assertEquals(EndpointCircuitBreaker.State.OPEN, circuitBreaker.state());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    public void shouldProbeAgainWhenProbesNeverComplete() {
+        open();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        circuitBreaker.tryAcquire();
+        circuitBreaker.tryAcquire();
+        assertFalse(circuitBreaker.tryAcquire());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.failover;
+
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReplayBufferTest {
+
+    @Mock
+    private Vertx vertx;
+
+    /**
+     * Blocking tasks submitted to the worker threads, run by {@link #runBlockingTasks()}.
+     */
+    private final List<Runnable> blockingTasks = new ArrayList<>();
+
+    private boolean deferBlockingTasks;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        doAnswer(invocation -> {
+            Handler<Future<Object>> blockingHandler = (Handler<Future<Object>>) invocation.getArguments()[0];
+            Handler<AsyncResult<Object>> resultHandler = (Handler<AsyncResult<Object>>) invocation.getArguments()[1];
+            blockingTasks.add(() -> {
+                Future<Object> future = Future.future();
+                blockingHandler.handle(future);
+                if (resultHandler != null) {
+                    resultHandler.handle(future);
+                }
+            });
+            if (!deferBlockingTasks) {
+                runBlockingTasks();
+            }
+            return null;
+        }).when(vertx).executeBlocking(any(Handler.class), any(Handler.class));
+    }
+
+    private void runBlockingTasks() {
+        List<Runnable> tasks = new ArrayList<>(blockingTasks);
+        blockingTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    public void shouldReplayContentKeptInMemory() {
+        ReplayBuffer replayBuffer = new ReplayBuffer(vertx, 1024, 4096);
+        replayBuffer.append(Buffer.buffer("foo"));
+        replayBuffer.append(Buffer.buffer("bar"));
+
+        assertEquals("foobar", new String(replay(replayBuffer)));
+        replayBuffer.release();
+    }
+
+    @Test
+    public void shouldReplayContentSpilledToFile() {
+        ReplayBuffer replayBuffer = new ReplayBuffer(vertx, 4, 4096);
+        replayBuffer.append(Buffer.buffer("foo"));
+        replayBuffer.append(Buffer.buffer("bar"));
+        replayBuffer.append(Buffer.buffer("baz"));
+
+        assertEquals("foobarbaz", new String(replay(replayBuffer)));
+        assertEquals("foobarbaz", new String(replay(replayBuffer)));
+        replayBuffer.release();
+    }
+
+    @Test
+    public void shouldReplayLargeContent() {
+        byte[] content = new byte[200 * 1024];
+        new Random(0).nextBytes(content);
+
+        ReplayBuffer replayBuffer = new ReplayBuffer(vertx, 1024, 1024 * 1024);
+        for (int offset = 0; offset < content.length; offset += 8192) {
+            byte[] chunk = new byte[8192];
+            System.arraycopy(content, offset, chunk, 0, chunk.length);
+            replayBuffer.append(Buffer.buffer(chunk));
+        }
+
+        assertEquals(content.length, replayBuffer.length());
+        assertArrayEquals(content, replay(replayBuffer));
+        replayBuffer.release();
+    }
+
+    @Test
+    public void shouldReplayContentReceivedWhileCreatingFile() {
+        deferBlockingTasks = true;
+
+        ReplayBuffer replayBuffer = new ReplayBuffer(vertx, 4, 4096);
+        replayBuffer.append(Buffer.buffer("foo"));
+        replayBuffer.append(Buffer.buffer("bar"));
+        replayBuffer.append(Buffer.buffer("baz"));
+
+        // The file is not created yet
+        assertEquals(1, blockingTasks.size());
+        assertEquals("foobarbaz", new String(replay(replayBuffer)));
+
+        runBlockingTasks();
+        replayBuffer.append(Buffer.buffer("qux"));
+
+        assertEquals("foobarbazqux", new String(replay(replayBuffer)));
+        replayBuffer.release();
+    }
+
+    @Test
+    public void shouldCloseFileCreatedAfterRelease() {
+        deferBlockingTasks = true;
+
+        ReplayBuffer replayBuffer = new ReplayBuffer(vertx, 4, 4096);
+        replayBuffer.append(Buffer.buffer("foo"));
+        replayBuffer.append(Buffer.buffer("bar"));
+        replayBuffer.release();
+
+        // Creating then closing the file
+        runBlockingTasks();
+        assertEquals(1, blockingTasks.size());
+        runBlockingTasks();
+
+        assertEquals(0, replay(replayBuffer).length);
+    }
+
+    @Test
+    public void shouldDropContentAboveMaxSize() {
+        ReplayBuffer replayBuffer = new ReplayBuffer(vertx, 4, 8);
+        replayBuffer.append(Buffer.buffer("foo"));
+        replayBuffer.append(Buffer.buffer("bar"));
+        assertFalse(replayBuffer.isOverflowed());
+
+        replayBuffer.append(Buffer.buffer("baz"));
+
+        assertTrue(replayBuffer.isOverflowed());
+        assertEquals(0, replay(replayBuffer).length);
+    }
+
+    private static byte[] replay(ReplayBuffer replayBuffer) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        replayBuffer.replay(chunk -> {
+            byte[] bytes = chunk.getBytes();
+            content.write(bytes, 0, bytes.length);
+        });
+        return content.toByteArray();
+    }
+}
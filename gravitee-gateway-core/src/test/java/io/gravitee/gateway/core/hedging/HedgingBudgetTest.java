@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.hedging;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class HedgingBudgetTest {
+
+    @Test
+    public void shouldNotHedgeWithoutRequests() {
+        assertFalse(new HedgingBudget(5).tryWithdraw());
+    }
+
+    @Test
+    public void shouldHedgeAPercentageOfRequests() {
+        HedgingBudget budget = new HedgingBudget(5);
+
+        int hedges = 0;
+        for (int i = 0; i < 1000; i++) {
+            budget.deposit();
+            if (budget.tryWithdraw()) {
+                hedges++;
+            }
+        }
+
+        assertEquals(50, hedges);
+    }
+
+    @Test
+    public void shouldBoundBurst() {
+        HedgingBudget budget = new HedgingBudget(5);
+        for (int i = 0; i < 100000; i++) {
+            budget.deposit();
+        }
+
+        int hedges = 0;
+        while (budget.tryWithdraw()) {
+            hedges++;
+        }
+
+        assertEquals(10, hedges);
+    }
+}
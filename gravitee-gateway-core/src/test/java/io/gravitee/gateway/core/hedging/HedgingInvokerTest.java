@@ -0,0 +1,265 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.hedging;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpHeadersValues;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.gateway.api.Connector;
+import io.gravitee.gateway.api.ExecutionContext;
+import io.gravitee.gateway.api.Request;
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.endpoint.Endpoint;
+import io.gravitee.gateway.api.handler.Handler;
+import io.gravitee.gateway.api.proxy.ProxyConnection;
+import io.gravitee.gateway.api.proxy.ProxyRequest;
+import io.gravitee.gateway.api.proxy.ProxyResponse;
+import io.gravitee.gateway.api.stream.ReadStream;
+import io.gravitee.gateway.core.endpoint.resolver.EndpointResolver;
+import io.gravitee.gateway.core.loadbalancer.EndpointStatisticsRegistry;
+import io.gravitee.gateway.core.loadbalancer.OutlierDetector;
+import io.gravitee.reporter.api.http.Metrics;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class HedgingInvokerTest {
+
+    private static final long TIMER_ID = 42L;
+
+    @InjectMocks
+    private HedgingInvoker invoker;
+
+    @Mock
+    private Vertx vertx;
+
+    @Mock
+    private EndpointResolver endpointResolver;
+
+    @Mock
+    private EndpointStatisticsRegistry endpointStatisticsRegistry;
+
+    @Mock
+    private OutlierDetector outlierDetector;
+
+    @Mock
+    private ExecutionContext executionContext;
+
+    @Mock
+    private Request request;
+
+    @Mock
+    private ReadStream<Buffer> stream;
+
+    @Mock
+    private ProxyConnection firstConnection;
+
+    @Mock
+    private ProxyConnection hedgedConnection;
+
+    @Mock
+    private ProxyResponse firstResponse;
+
+    @Mock
+    private ProxyResponse hedgedResponse;
+
+    private final HttpHeaders headers = new HttpHeaders();
+
+    private EndpointResolver.ResolvedEndpoint first;
+
+    private EndpointResolver.ResolvedEndpoint second;
+
+    private ProxyResponse response;
+
+    @Before
+    public void setUp() throws Exception {
+        setField(invoker, "methods", new String[] {"GET"});
+        setField(invoker, "percentile", 95d);
+        setField(invoker, "budgetPercent", 100);
+        invoker.afterPropertiesSet();
+
+        // Hedge after 10ms
+        LatencyTracker latencyTracker = mock(LatencyTracker.class);
+        when(latencyTracker.value()).thenReturn(TimeUnit.MILLISECONDS.toNanos(10));
+        setField(invoker, "latencyTracker", latencyTracker);
+
+        when(vertx.setTimer(anyLong(), any(io.vertx.core.Handler.class))).thenReturn(TIMER_ID);
+
+        when(request.method()).thenReturn(HttpMethod.GET);
+        when(request.headers()).thenReturn(headers);
+        when(request.metrics()).thenReturn(Metrics.on(System.currentTimeMillis()).build());
+        when(stream.bodyHandler(any(Handler.class))).thenReturn(stream);
+
+        first = endpoint("first", firstConnection);
+        second = endpoint("second", hedgedConnection);
+        when(endpointResolver.resolve(any(Request.class), any(ExecutionContext.class))).thenReturn(first, second);
+    }
+
+    @Test
+    public void shouldKeepFirstResponseAndCancelOther() {
+        invoke();
+        fireTimer();
+
+        captureResponseHandler(hedgedConnection).handle(hedgedResponse);
+
+        assertSame(hedgedResponse, response);
+        verify(firstConnection).cancel();
+        verify(hedgedConnection, never()).cancel();
+        verify(vertx).cancelTimer(TIMER_ID);
+    }
+
+    @Test
+    public void shouldCancelLoserRespondingAfterCompletion() {
+        invoke();
+        fireTimer();
+
+        captureResponseHandler(firstConnection).handle(firstResponse);
+        captureResponseHandler(hedgedConnection).handle(hedgedResponse);
+
+        assertSame(firstResponse, response);
+        verify(hedgedConnection, atLeastOnce()).cancel();
+        verify(firstConnection, never()).cancel();
+    }
+
+    @Test
+    public void shouldWaitForSecondFailure() {
+        invoke();
+        fireTimer();
+
+        captureExceptionHandler(firstConnection).handle(new Exception());
+        assertNull(response);
+
+        captureExceptionHandler(hedgedConnection).handle(new Exception());
+        assertEquals(HttpStatusCode.BAD_GATEWAY_502, response.status());
+    }
+
+    @Test
+    public void shouldNotHedgeOnceCompleted() {
+        invoke();
+        captureResponseHandler(firstConnection).handle(firstResponse);
+
+        // The timer fires while being canceled
+        fireTimer();
+
+        assertSame(firstResponse, response);
+        verify(endpointResolver, times(1)).resolve(any(Request.class), any(ExecutionContext.class));
+        verify(second.getConnector(), never()).request(any(ProxyRequest.class));
+    }
+
+    @Test
+    public void shouldWaitForFirstResponseWhenNoOtherEndpoint() {
+        // The hedged request can only be sent to the endpoint of the first one
+        when(endpointResolver.resolve(any(Request.class), any(ExecutionContext.class))).thenReturn(first);
+
+        invoke();
+        fireTimer();
+        assertNull(response);
+
+        captureResponseHandler(firstConnection).handle(firstResponse);
+        assertSame(firstResponse, response);
+    }
+
+    @Test
+    public void shouldNotHedgeRequestWithContentLength() {
+        headers.set(HttpHeaders.CONTENT_LENGTH, "10");
+
+        invoke();
+
+        verify(vertx, never()).setTimer(anyLong(), any(io.vertx.core.Handler.class));
+    }
+
+    @Test
+    public void shouldNotHedgeChunkedRequest() {
+        headers.set(HttpHeaders.TRANSFER_ENCODING, HttpHeadersValues.TRANSFER_ENCODING_CHUNKED);
+
+        invoke();
+
+        verify(vertx, never()).setTimer(anyLong(), any(io.vertx.core.Handler.class));
+    }
+
+    @Test
+    public void shouldHedgeRequestWithEmptyContent() {
+        headers.set(HttpHeaders.CONTENT_LENGTH, "0");
+
+        invoke();
+
+        verify(vertx).setTimer(anyLong(), any(io.vertx.core.Handler.class));
+    }
+
+    private void invoke() {
+        invoker.invoke(executionContext, request, stream, connection ->
+                connection.responseHandler(proxyResponse -> response = proxyResponse));
+    }
+
+    private void fireTimer() {
+        ArgumentCaptor<io.vertx.core.Handler> timer = ArgumentCaptor.forClass(io.vertx.core.Handler.class);
+        verify(vertx).setTimer(anyLong(), timer.capture());
+        timer.getValue().handle(TIMER_ID);
+    }
+
+    private static Handler<ProxyResponse> captureResponseHandler(ProxyConnection connection) {
+        ArgumentCaptor<Handler> handler = ArgumentCaptor.forClass(Handler.class);
+        verify(connection).responseHandler(handler.capture());
+        return handler.getValue();
+    }
+
+    private static Handler<Throwable> captureExceptionHandler(ProxyConnection connection) {
+        ArgumentCaptor<Handler> handler = ArgumentCaptor.forClass(Handler.class);
+        verify(connection).exceptionHandler(handler.capture());
+        return handler.getValue();
+    }
+
+    private static EndpointResolver.ResolvedEndpoint endpoint(String name, ProxyConnection connection) {
+        Endpoint endpoint = mock(Endpoint.class);
+        when(endpoint.name()).thenReturn(name);
+
+        Connector connector = mock(Connector.class);
+        when(connector.request(any(ProxyRequest.class))).thenReturn(connection);
+
+        EndpointResolver.ResolvedEndpoint resolvedEndpoint = mock(EndpointResolver.ResolvedEndpoint.class);
+        when(resolvedEndpoint.getUri()).thenReturn("http://" + name + "/");
+        when(resolvedEndpoint.getEndpoint()).thenReturn(endpoint);
+        when(resolvedEndpoint.getConnector()).thenReturn(connector);
+        return resolvedEndpoint;
+    }
+
+    private static void setField(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
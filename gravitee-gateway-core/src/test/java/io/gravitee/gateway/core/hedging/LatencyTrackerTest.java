@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.hedging;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class LatencyTrackerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final LatencyTracker tracker = new LatencyTracker(95, 10000, 100, clock::get);
+
+    @Test
+    public void shouldNotHaveValueBeforeEndOfWindow() {
+        record(1, 100);
+
+        assertEquals(-1, tracker.value());
+    }
+
+    @Test
+    public void shouldTrackPercentile() {
+        record(1, 100);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        tracker.record(millis(1));
+
+        long value = tracker.value();
+        assertTrue(value >= millis(95));
+        assertTrue(value <= millis(120));
+    }
+
+    @Test
+    public void shouldKeepValueWithoutEnoughSamples() {
+        record(1, 100);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        tracker.record(millis(1));
+        long value = tracker.value();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        tracker.record(millis(1));
+
+        assertEquals(value, tracker.value());
+    }
+
+    @Test
+    public void shouldFollowRecentResponseTimes() {
+        record(1, 100);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        tracker.record(millis(1));
+
+        record(1000, 1100);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        tracker.record(millis(1));
+
+        assertTrue(tracker.value() >= millis(1000));
+    }
+
+    @Test
+    public void shouldBoundBuckets() {
+        for (long micros : new long[] {0, 1, 3, 4, 5, 7, 8, 1000, 123456789, Long.MAX_VALUE}) {
+            int index = LatencyTracker.index(micros);
+            assertTrue(micros < LatencyTracker.upperBound(index) || micros == Long.MAX_VALUE);
+            assertTrue(micros == 0 || index >= LatencyTracker.index(micros - 1));
+        }
+    }
+
+    private void record(int fromMillis, int toMillis) {
+        for (int i = fromMillis; i <= toMillis; i++) {
+            tracker.record(millis(i));
+        }
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
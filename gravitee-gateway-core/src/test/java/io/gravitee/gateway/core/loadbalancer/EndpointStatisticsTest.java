@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.loadbalancer;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class EndpointStatisticsTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final EndpointStatistics statistics = new EndpointStatistics(clock::get);
+
+    @Test
+    public void shouldCountOutstandingRequests() {
+        statistics.start();
+        statistics.start();
+        statistics.end();
+
+        assertEquals(1, statistics.outstanding());
+    }
+
+    @Test
+    public void shouldFollowPeakImmediately() {
+        statistics.observe(millis(10));
+        statistics.observe(millis(100));
+
+        assertEquals(millis(100), statistics.cost(), 1);
+    }
+
+    @Test
+    public void shouldDecayTowardsFasterResponses() {
+        statistics.observe(millis(100));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        statistics.observe(millis(10));
+
+        double cost = statistics.cost();
+        assertTrue(cost < millis(100));
+        assertTrue(cost > millis(10));
+    }
+
+    @Test
+    public void shouldDecayOverTime() {
+        statistics.observe(millis(100));
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(5));
+
+        assertTrue(statistics.cost() < millis(1));
+    }
+
+    @Test
+    public void shouldPenalizeEndpointWithoutResponse() {
+        EndpointStatistics responding = new EndpointStatistics(clock::get);
+        responding.observe(millis(100));
+        responding.start();
+
+        statistics.start();
+
+        assertTrue(statistics.load() > responding.load());
+    }
+
+    @Test
+    public void shouldCountOutcomesOverSlidingWindow() {
+        statistics.record(false, false);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        statistics.record(true, false);
+        statistics.record(false, true);
+
+        assertWindow(3, 1, 1);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(6));
+
+        assertWindow(2, 1, 1);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertWindow(0, 0, 0);
+    }
+
+    @Test
+    public void shouldForgetConsecutiveEjections() {
+        long decayTime = TimeUnit.MINUTES.toNanos(5);
+
+        assertEquals(1, statistics.eject(decayTime));
+        assertEquals(0, statistics.eject(decayTime));
+
+        statistics.readmit();
+        assertEquals(2, statistics.eject(decayTime));
+
+        statistics.readmit();
+        clock.addAndGet(decayTime + 1);
+        assertEquals(1, statistics.eject(decayTime));
+        assertEquals(3, statistics.totalEjections());
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    @Test
+    public void shouldCountConcurrentOutcomes() throws InterruptedException {
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int n = 0; n < 10000; n++) {
+                    statistics.record(n % 2 == 0, n % 4 == 0);
+                    statistics.observe(millis(10));
+                }
+            });
+            threads[i].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertWindow(40000, 20000, 10000);
+    }
+
+    private void assertWindow(int requests, int errors, int slowResponses) {
+        assertEquals(requests, statistics.windowRequests());
+        assertEquals(errors, statistics.windowErrors());
+        assertEquals(slowResponses, statistics.windowSlowResponses());
+    }
+}
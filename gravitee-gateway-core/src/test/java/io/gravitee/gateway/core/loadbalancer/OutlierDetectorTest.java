@@ -0,0 +1,209 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.loadbalancer;
+
+import io.gravitee.gateway.api.endpoint.Endpoint;
+import io.gravitee.gateway.core.endpoint.GroupManager;
+import io.gravitee.gateway.core.endpoint.lifecycle.LoadBalancedEndpointGroup;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class OutlierDetectorTest {
+
+    private final EndpointStatisticsRegistry registry = new EndpointStatisticsRegistry();
+
+    private GroupManager groupManager;
+
+    private OutlierDetector detector;
+
+    private Endpoint a;
+
+    private Endpoint b;
+
+    @Before
+    public void setUp() {
+        a = endpoint("a");
+        b = endpoint("b");
+        registry.register(a);
+        registry.register(b);
+
+        groupManager = mock(GroupManager.class);
+        when(groupManager.groups()).thenReturn(Collections.singletonList(group("default", a, b)));
+
+        detector = new OutlierDetector(registry, groupManager, mock(Vertx.class),
+                10, 50, 100, 50, 30000, 300000, 50);
+    }
+
+    @Test
+    public void shouldEjectFailingEndpoint() {
+        respond(a, 500, 10);
+
+        assertTrue(registry.isEjected(a));
+        assertFalse(registry.isEjected(b));
+    }
+
+    @Test
+    public void shouldEjectEndpointOnConnectionFailures() {
+        for (int i = 0; i < 10; i++) {
+            detector.onFailure(a, registry.get(a));
+        }
+
+        assertTrue(registry.isEjected(a));
+    }
+
+    @Test
+    public void shouldNotEjectBeforeMinRequests() {
+        respond(a, 500, 9);
+
+        assertFalse(registry.isEjected(a));
+    }
+
+    @Test
+    public void shouldNotEjectHealthyEndpoint() {
+        respond(a, 200, 6);
+        respond(a, 503, 4);
+
+        assertFalse(registry.isEjected(a));
+    }
+
+    @Test
+    public void shouldEjectSlowEndpoint() {
+        for (int i = 0; i < 10; i++) {
+            detector.onResponse(a, registry.get(a), 200, TimeUnit.MILLISECONDS.toNanos(200));
+        }
+
+        assertTrue(registry.isEjected(a));
+    }
+
+    @Test
+    public void shouldNotEjectMoreThanMaxEjectedPercent() {
+        respond(a, 500, 10);
+        respond(b, 500, 10);
+
+        assertTrue(registry.isEjected(a));
+        assertFalse(registry.isEjected(b));
+    }
+
+    @Test
+    public void shouldCountEjectedEndpointsPerGroup() {
+        Endpoint c = endpoint("c");
+        Endpoint d = endpoint("d");
+        registry.register(c);
+        registry.register(d);
+        when(groupManager.groups()).thenReturn(Arrays.asList(group("default", a, b), group("other", c, d)));
+
+        respond(a, 500, 10);
+        respond(b, 500, 10);
+        respond(c, 500, 10);
+
+        assertTrue(registry.isEjected(a));
+        assertFalse(registry.isEjected(b));
+        assertTrue(registry.isEjected(c));
+    }
+
+    @Test
+    public void shouldNotEjectStoppedEndpoint() {
+        Endpoint c = endpoint("c");
+        registry.register(c);
+
+        respond(c, 500, 10);
+
+        assertFalse(registry.isEjected(c));
+    }
+
+    @Test
+    public void shouldReadmitEndpoint() {
+        respond(a, 500, 10);
+        detector.readmit(a, registry.get(a));
+
+        assertFalse(registry.isEjected(a));
+        assertEquals(0, registry.get(a).windowRequests());
+    }
+
+    @Test
+    public void shouldCancelReadmissionOnStop() {
+        Vertx vertx = mock(Vertx.class);
+        when(vertx.setTimer(anyLong(), any(Handler.class))).thenReturn(42L);
+        detector = new OutlierDetector(registry, groupManager, vertx,
+                10, 50, 100, 50, 30000, 300000, 50);
+
+        respond(a, 500, 10);
+        detector.stop();
+
+        verify(vertx).cancelTimer(42L);
+    }
+
+    @Test
+    public void shouldBackOffEjectionTime() {
+        assertEquals(30000, detector.ejectionTime(1));
+        assertEquals(60000, detector.ejectionTime(2));
+        assertEquals(240000, detector.ejectionTime(4));
+        assertEquals(300000, detector.ejectionTime(5));
+        assertEquals(300000, detector.ejectionTime(64));
+    }
+
+    @Test
+    public void shouldLeaveEjectedEndpointOutOfLoadBalancer() {
+        RoundRobinLoadBalancer loadBalancer = new RoundRobinLoadBalancer(Arrays.asList(a, b));
+        loadBalancer.setStatisticsRegistry(registry);
+        when(groupManager.groups()).thenReturn(
+                Collections.singletonList(new LoadBalancedEndpointGroup("default", loadBalancer)));
+
+        respond(a, 500, 10);
+
+        for (int i = 0; i < 4; i++) {
+            assertSame(b, loadBalancer.next());
+        }
+
+        detector.readmit(a, registry.get(a));
+
+        assertNotSame(loadBalancer.next(), loadBalancer.next());
+    }
+
+    private void respond(Endpoint endpoint, int status, int times) {
+        for (int i = 0; i < times; i++) {
+            detector.onResponse(endpoint, registry.get(endpoint), status, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    private LoadBalancedEndpointGroup group(String name, Endpoint... endpoints) {
+        RoundRobinLoadBalancer loadBalancer = new RoundRobinLoadBalancer(Arrays.asList(endpoints));
+        loadBalancer.setStatisticsRegistry(registry);
+        return new LoadBalancedEndpointGroup(name, loadBalancer);
+    }
+
+    private static Endpoint endpoint(String name) {
+        Endpoint endpoint = mock(Endpoint.class);
+        when(endpoint.name()).thenReturn(name);
+        when(endpoint.available()).thenReturn(true);
+        return endpoint;
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.loadbalancer;
+
+import io.gravitee.common.util.ObservableCollection;
+import io.gravitee.gateway.api.endpoint.Endpoint;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class RoundRobinLoadBalancerTest {
+
+    @Test
+    public void shouldReturnNull_noEndpoint() {
+        RoundRobinLoadBalancer loadBalancer = new RoundRobinLoadBalancer(Collections.emptyList());
+
+        assertNull(loadBalancer.next());
+    }
+
+    @Test
+    public void shouldSelectInTurn() {
+        Endpoint a = endpoint("a");
+        Endpoint b = endpoint("b");
+
+        ObservableCollection<Endpoint> endpoints = new ObservableCollection<>(new ArrayList<>());
+        RoundRobinLoadBalancer loadBalancer = new RoundRobinLoadBalancer(endpoints);
+
+        endpoints.add(a);
+        endpoints.add(b);
+
+        assertSame(a, loadBalancer.next());
+        assertSame(b, loadBalancer.next());
+        assertSame(a, loadBalancer.next());
+    }
+
+    @Test
+    public void shouldNotSelectRemovedEndpoint() {
+        Endpoint a = endpoint("a");
+        Endpoint b = endpoint("b");
+
+        ObservableCollection<Endpoint> endpoints = new ObservableCollection<>(new ArrayList<>());
+        RoundRobinLoadBalancer loadBalancer = new RoundRobinLoadBalancer(endpoints);
+
+        endpoints.add(a);
+        endpoints.add(b);
+        endpoints.remove(a);
+
+        for (int i = 0; i < 4; i++) {
+            assertSame(b, loadBalancer.next());
+        }
+    }
+
+    @Test
+    public void shouldNotSelectUnavailableEndpoint() {
+        Endpoint a = endpoint("a");
+        Endpoint b = endpoint("b");
+
+        ObservableCollection<Endpoint> endpoints = new ObservableCollection<>(new ArrayList<>());
+        RoundRobinLoadBalancer loadBalancer = new RoundRobinLoadBalancer(endpoints);
+
+        endpoints.add(a);
+        endpoints.add(b);
+
+        when(a.available()).thenReturn(false);
+        loadBalancer.refresh();
+
+        for (int i = 0; i < 4; i++) {
+            assertSame(b, loadBalancer.next());
+        }
+
+        when(a.available()).thenReturn(true);
+        loadBalancer.refresh();
+
+        assertNotSame(loadBalancer.next(), loadBalancer.next());
+    }
+
+    @Test
+    public void shouldSelectRandomly() {
+        Endpoint a = endpoint("a");
+        Endpoint b = endpoint("b");
+
+        ObservableCollection<Endpoint> endpoints = new ObservableCollection<>(new ArrayList<>());
+        RandomLoadBalancer loadBalancer = new RandomLoadBalancer(endpoints);
+
+        assertNull(loadBalancer.next());
+
+        endpoints.add(a);
+        assertSame(a, loadBalancer.next());
+
+        endpoints.add(b);
+        when(a.available()).thenReturn(false);
+        loadBalancer.refresh();
+
+        for (int i = 0; i < 4; i++) {
+            assertSame(b, loadBalancer.next());
+        }
+    }
+
+    private static Endpoint endpoint(String name) {
+        Endpoint endpoint = mock(Endpoint.class);
+        when(endpoint.name()).thenReturn(name);
+        when(endpoint.weight()).thenReturn(1);
+        when(endpoint.available()).thenReturn(true);
+        return endpoint;
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.loadbalancer;
+
+import io.gravitee.common.util.ObservableCollection;
+import io.gravitee.gateway.api.endpoint.Endpoint;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class StatisticsLoadBalancerTest {
+
+    private EndpointStatisticsRegistry registry;
+
+    private ObservableCollection<Endpoint> endpoints;
+
+    private Endpoint a;
+
+    private Endpoint b;
+
+    @Before
+    public void setUp() {
+        registry = new EndpointStatisticsRegistry();
+        endpoints = new ObservableCollection<>(new ArrayList<>());
+        a = endpoint("a");
+        b = endpoint("b");
+    }
+
+    @Test
+    public void shouldSelectLeastRequests() {
+        LeastRequestsLoadBalancer loadBalancer = new LeastRequestsLoadBalancer(endpoints, registry);
+        endpoints.add(a);
+        endpoints.add(b);
+
+        registry.get(a).start();
+
+        for (int i = 0; i < 4; i++) {
+            assertSame(b, loadBalancer.next());
+        }
+    }
+
+    @Test
+    public void shouldSelectInTurnWithSameRequests() {
+        LeastRequestsLoadBalancer loadBalancer = new LeastRequestsLoadBalancer(endpoints, registry);
+        endpoints.add(a);
+        endpoints.add(b);
+
+        Set<Endpoint> selected = new HashSet<>();
+        selected.add(loadBalancer.next());
+        selected.add(loadBalancer.next());
+
+        assertEquals(2, selected.size());
+    }
+
+    @Test
+    public void shouldSelectLessLoadedOfTwo() {
+        PowerOfTwoChoicesLoadBalancer loadBalancer = new PowerOfTwoChoicesLoadBalancer(endpoints, registry);
+        endpoints.add(a);
+        endpoints.add(b);
+
+        registry.get(b).start();
+
+        // With two endpoints, both are always picked
+        for (int i = 0; i < 10; i++) {
+            assertSame(a, loadBalancer.next());
+        }
+    }
+
+    @Test
+    public void shouldSelectFasterEndpoint() {
+        PeakEwmaLoadBalancer loadBalancer = new PeakEwmaLoadBalancer(endpoints, registry);
+        endpoints.add(a);
+        endpoints.add(b);
+
+        registry.get(a).observe(TimeUnit.MILLISECONDS.toNanos(500));
+        registry.get(b).observe(TimeUnit.MILLISECONDS.toNanos(5));
+
+        for (int i = 0; i < 10; i++) {
+            assertSame(b, loadBalancer.next());
+        }
+    }
+
+    @Test
+    public void shouldNotSelectUnavailableEndpoint() {
+        LeastRequestsLoadBalancer loadBalancer = new LeastRequestsLoadBalancer(endpoints, registry);
+        endpoints.add(a);
+        endpoints.add(b);
+
+        registry.get(b).start();
+        when(a.available()).thenReturn(false);
+        loadBalancer.refresh();
+
+        assertSame(b, loadBalancer.next());
+    }
+
+    private static Endpoint endpoint(String name) {
+        Endpoint endpoint = mock(Endpoint.class);
+        when(endpoint.name()).thenReturn(name);
+        when(endpoint.available()).thenReturn(true);
+        return endpoint;
+    }
+}
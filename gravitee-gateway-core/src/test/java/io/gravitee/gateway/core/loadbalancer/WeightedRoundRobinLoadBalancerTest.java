@@ -0,0 +1,163 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.loadbalancer;
+
+import io.gravitee.common.util.ObservableCollection;
+import io.gravitee.gateway.api.endpoint.Endpoint;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class WeightedRoundRobinLoadBalancerTest {
+
+    @Test
+    public void shouldReturnNull_noEndpoint() {
+        WeightedRoundRobinLoadBalancer loadBalancer = new WeightedRoundRobinLoadBalancer(Collections.emptyList());
+
+        assertNull(loadBalancer.next());
+    }
+
+    @Test
+    public void shouldSelectSmoothly() {
+        Endpoint a = endpoint("a", 5);
+        Endpoint b = endpoint("b", 1);
+        Endpoint c = endpoint("c", 1);
+
+        WeightedRoundRobinLoadBalancer loadBalancer = new WeightedRoundRobinLoadBalancer(Arrays.asList(a, b, c));
+
+        for (int cycle = 0; cycle < 2; cycle++) {
+            assertSame(a, loadBalancer.next());
+            assertSame(a, loadBalancer.next());
+            assertSame(b, loadBalancer.next());
+            assertSame(a, loadBalancer.next());
+            assertSame(c, loadBalancer.next());
+            assertSame(a, loadBalancer.next());
+            assertSame(a, loadBalancer.next());
+        }
+    }
+
+    @Test
+    public void shouldRespectWeights() {
+        Endpoint a = endpoint("a", 300);
+        Endpoint b = endpoint("b", 200);
+        Endpoint c = endpoint("c", 100);
+
+        WeightedRoundRobinLoadBalancer loadBalancer = new WeightedRoundRobinLoadBalancer(Arrays.asList(a, b, c));
+
+        Map<Endpoint, Integer> selections = new HashMap<>();
+        for (int i = 0; i < 600; i++) {
+            selections.merge(loadBalancer.next(), 1, Integer::sum);
+        }
+
+        assertEquals(300, (int) selections.get(a));
+        assertEquals(200, (int) selections.get(b));
+        assertEquals(100, (int) selections.get(c));
+    }
+
+    @Test
+    public void shouldBoundSequence() {
+        Endpoint[] endpoints = new Endpoint[10];
+        for (int i = 0; i < endpoints.length; i++) {
+            endpoints[i] = endpoint("endpoint" + i, Integer.MAX_VALUE - i);
+        }
+
+        Endpoint[] sequence = WeightedRoundRobinLoadBalancer.sequence(endpoints);
+
+        assertTrue(sequence.length <= WeightedRoundRobinLoadBalancer.MAX_SEQUENCE_LENGTH);
+        assertTrue(sequence.length > 0);
+        assertShares(endpoints, sequence);
+    }
+
+    @Test
+    public void shouldScaleLargeWeights() {
+        Endpoint a = endpoint("a", 40001);
+        Endpoint b = endpoint("b", 30000);
+        Endpoint[] endpoints = new Endpoint[] { a, b };
+
+        Endpoint[] sequence = WeightedRoundRobinLoadBalancer.sequence(endpoints);
+
+        assertTrue(sequence.length <= WeightedRoundRobinLoadBalancer.MAX_SEQUENCE_LENGTH);
+        assertShares(endpoints, sequence);
+    }
+
+    @Test
+    public void shouldSkipUnavailableEndpoint() {
+        Endpoint a = endpoint("a", 1);
+        Endpoint b = endpoint("b", 1);
+
+        WeightedRoundRobinLoadBalancer loadBalancer = new WeightedRoundRobinLoadBalancer(Arrays.asList(a, b));
+
+        when(a.available()).thenReturn(false);
+
+        for (int i = 0; i < 4; i++) {
+            assertSame(b, loadBalancer.next());
+        }
+    }
+
+    @Test
+    public void shouldSelectAddedEndpoint() {
+        Endpoint a = endpoint("a", 1);
+        Endpoint b = endpoint("b", 1);
+
+        ObservableCollection<Endpoint> endpoints = new ObservableCollection<>(new ArrayList<>());
+        endpoints.add(a);
+
+        WeightedRoundRobinLoadBalancer loadBalancer = new WeightedRoundRobinLoadBalancer(endpoints);
+        assertSame(a, loadBalancer.next());
+
+        endpoints.add(b);
+
+        assertNotSame(loadBalancer.next(), loadBalancer.next());
+    }
+
+    private static void assertShares(Endpoint[] endpoints, Endpoint[] sequence) {
+        long total = 0;
+        for (Endpoint endpoint : endpoints) {
+            total += endpoint.weight();
+        }
+
+        Map<Endpoint, Integer> selections = new HashMap<>();
+        for (Endpoint endpoint : sequence) {
+            selections.merge(endpoint, 1, Integer::sum);
+        }
+
+        for (Endpoint endpoint : endpoints) {
+            double expected = (double) endpoint.weight() / total;
+            double actual = (double) selections.getOrDefault(endpoint, 0) / sequence.length;
+            assertEquals(endpoint.name(), expected, actual, 0.001);
+        }
+    }
+
+    private static Endpoint endpoint(String name, int weight) {
+        Endpoint endpoint = mock(Endpoint.class);
+        when(endpoint.name()).thenReturn(name);
+        when(endpoint.weight()).thenReturn(weight);
+        when(endpoint.available()).thenReturn(true);
+        return endpoint;
+    }
+}
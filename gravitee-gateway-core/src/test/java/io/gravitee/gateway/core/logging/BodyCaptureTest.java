@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.logging;
+
+import io.gravitee.gateway.api.buffer.Buffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class BodyCaptureTest {
+
+    @Test
+    public void shouldCaptureWholeBody() {
+        BodyCapture capture = new BodyCapture(16);
+        capture.append(chunk("0123456"));
+        capture.append(chunk("789abcdef"));
+
+        Assert.assertEquals("0123456789abcdef", capture.toString());
+        Assert.assertEquals(16, capture.length());
+    }
+
+    @Test
+    public void shouldCaptureWithoutLimit() {
+        BodyCapture capture = new BodyCapture(-1);
+        StringBuilder expected = new StringBuilder();
+
+        for (int i = 0; i < 1000; i++) {
+            capture.append(chunk("chunk-" + i));
+            expected.append("chunk-").append(i);
+        }
+
+        Assert.assertEquals(expected.toString(), capture.toString());
+    }
+
+    @Test
+    public void shouldKeepHeadAndTail() {
+        BodyCapture capture = new BodyCapture(8);
+        capture.append(chunk("0123"));
+        capture.append(chunk("456789"));
+        capture.append(chunk("abcdef"));
+
+        Assert.assertEquals("0123\n[... 8 bytes truncated ...]\ncdef", capture.toString());
+        Assert.assertEquals(16, capture.length());
+    }
+
+    @Test
+    public void shouldKeepTailOfLargeChunk() {
+        BodyCapture capture = new BodyCapture(8);
+        capture.append(chunk("0123456789abcdef"));
+
+        Assert.assertEquals("0123\n[... 8 bytes truncated ...]\ncdef", capture.toString());
+    }
+
+    @Test
+    public void shouldNotSplitCharacterWhenNotTruncated() {
+        byte[] bytes = "a\u00e9b".getBytes(StandardCharsets.UTF_8);
+
+        // The head ends in the middle of the two bytes of the accented character
+        BodyCapture capture = new BodyCapture(4);
+        capture.append(chunk(new byte[]{bytes[0], bytes[1]}));
+        capture.append(chunk(new byte[]{bytes[2], bytes[3]}));
+
+        Assert.assertEquals("a\u00e9b", capture.toString());
+    }
+
+    @Test
+    public void shouldCaptureEmptyBody() {
+        Assert.assertEquals("", new BodyCapture(8).toString());
+    }
+
+    private static Buffer chunk(String content) {
+        return chunk(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Buffer chunk(byte[] content) {
+        Buffer chunk = mock(Buffer.class);
+        when(chunk.getBytes()).thenReturn(content);
+        return chunk;
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.logging.condition.evaluation.el;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.util.LinkedMultiValueMap;
+import io.gravitee.common.util.MultiValueMap;
+import io.gravitee.gateway.api.ExecutionContext;
+import io.gravitee.gateway.api.Request;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class ExpressionLanguageBasedConditionEvaluatorTest {
+
+    private static final long TIMESTAMP = 1577836800000L;
+
+    @Mock
+    private Request request;
+
+    @Mock
+    private ExecutionContext executionContext;
+
+    private final HttpHeaders headers = new HttpHeaders();
+
+    private final MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
+
+    @Before
+    public void init() {
+        initMocks(this);
+
+        headers.setAll(Collections.singletonMap("X-Gravitee-Test", "value"));
+        parameters.put("param", Collections.singletonList("value"));
+
+        when(request.headers()).thenReturn(headers);
+        when(request.parameters()).thenReturn(parameters);
+        when(request.timestamp()).thenReturn(TIMESTAMP);
+        when(executionContext.getAttribute(ExecutionContext.ATTR_PLAN)).thenReturn("my-plan");
+    }
+
+    @Test
+    public void shouldRecognizeSimpleConditions() {
+        String[] conditions = {
+                "#request.headers['X-Gravitee-Test'] != null",
+                "#request.headers['X-Gravitee-Test'] == null",
+                "#request.headers[\"X-Unknown\"] != null",
+                "#request.headers['X-Unknown']==null",
+                "#request.params['param'] != null",
+                "#request.params['unknown'] != null",
+                "#request.timestamp <= 1577836800000l",
+                "#request.timestamp < 1577836800000L",
+                "#request.timestamp > 1000",
+                "#request.timestamp >= 1577836800001l",
+                "#request.timestamp == 1577836800000l",
+                "#request.timestamp != 1577836800000l",
+                "#request.timestamp <= 1577836900000l && #request.headers['X-Gravitee-Test'] != null",
+                "#request.timestamp <= 1577836900000l && #request.headers['X-Unknown'] != null"
+        };
+
+        for (String condition : conditions) {
+            Assert.assertNotNull(condition, SimpleCondition.parse(condition));
+            Assert.assertEquals(condition, reference(condition),
+                    new ExpressionLanguageBasedConditionEvaluator(condition).evaluate(request, executionContext));
+        }
+    }
+
+    @Test
+    public void shouldNotRecognizeOtherConditions() {
+        String[] conditions = {
+                "#context.plan == 'my-plan'",
+                "#request.headers['X-Gravitee-Test'] != null || #request.timestamp > 1000",
+                "#request.headers['X-Gravitee-Test'][0] == 'value'",
+                "#request.timestamp <= 1577836800000",
+                "true"
+        };
+
+        for (String condition : conditions) {
+            Assert.assertNull(condition, SimpleCondition.parse(condition));
+        }
+    }
+
+    @Test
+    public void shouldEvaluateCompiledCondition() {
+        ExpressionLanguageBasedConditionEvaluator evaluator =
+                new ExpressionLanguageBasedConditionEvaluator("#context.plan == 'my-plan' && #request.timestamp > 1000");
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(evaluator.evaluate(request, executionContext));
+        }
+
+        when(executionContext.getAttribute(ExecutionContext.ATTR_PLAN)).thenReturn("other-plan");
+        Assert.assertFalse(evaluator.evaluate(request, executionContext));
+    }
+
+    @Test
+    public void shouldEvaluateWithoutCondition() {
+        Assert.assertTrue(new ExpressionLanguageBasedConditionEvaluator(null).evaluate(request, executionContext));
+    }
+
+    private boolean reference(String condition) {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        context.setVariable("request", new EvaluableRequest(request));
+        context.setVariable("context", new EvaluableExecutionContext(executionContext));
+        return new SpelExpressionParser().parseExpression(condition).getValue(context, Boolean.class);
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.logging.sampling;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class LoggingSamplerTest {
+
+    @Test
+    public void shouldNeverSample() {
+        ProbabilisticSampler sampler = new ProbabilisticSampler(0);
+
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertFalse(sampler.sample());
+        }
+    }
+
+    @Test
+    public void shouldAlwaysSample() {
+        ProbabilisticSampler sampler = new ProbabilisticSampler(1);
+
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertTrue(sampler.sample());
+        }
+    }
+
+    @Test
+    public void shouldSampleProportionOfRequests() {
+        ProbabilisticSampler sampler = new ProbabilisticSampler(0.2);
+
+        int sampled = 0;
+        for (int i = 0; i < 100000; i++) {
+            if (sampler.sample()) {
+                sampled++;
+            }
+        }
+
+        Assert.assertTrue(sampled > 18000 && sampled < 22000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidProbability() {
+        new ProbabilisticSampler(1.5);
+    }
+
+    @Test
+    public void shouldLimitBurst() {
+        AtomicLong clock = new AtomicLong();
+        RateLimitedSampler sampler = new RateLimitedSampler(5, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(sampler.sample());
+        }
+
+        Assert.assertFalse(sampler.sample());
+    }
+
+    @Test
+    public void shouldRefillOverTime() {
+        AtomicLong clock = new AtomicLong();
+        RateLimitedSampler sampler = new RateLimitedSampler(5, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            sampler.sample();
+        }
+
+        // One log is allowed every 200ms
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        Assert.assertFalse(sampler.sample());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        Assert.assertTrue(sampler.sample());
+        Assert.assertFalse(sampler.sample());
+    }
+
+    @Test
+    public void shouldNotAccumulateWhileIdle() {
+        AtomicLong clock = new AtomicLong();
+        RateLimitedSampler sampler = new RateLimitedSampler(5, clock::get);
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(sampler.sample());
+        }
+
+        Assert.assertFalse(sampler.sample());
+    }
+}
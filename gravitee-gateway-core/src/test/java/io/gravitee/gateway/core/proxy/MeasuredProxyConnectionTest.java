@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.proxy;
+
+import io.gravitee.gateway.api.endpoint.Endpoint;
+import io.gravitee.gateway.api.handler.Handler;
+import io.gravitee.gateway.api.proxy.ProxyConnection;
+import io.gravitee.gateway.api.proxy.ProxyResponse;
+import io.gravitee.gateway.core.loadbalancer.EndpointStatistics;
+import io.gravitee.gateway.core.loadbalancer.OutlierDetector;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MeasuredProxyConnectionTest {
+
+    @Mock
+    private ProxyConnection proxyConnection;
+
+    @Mock
+    private ProxyResponse proxyResponse;
+
+    @Mock
+    private Endpoint endpoint;
+
+    @Mock
+    private OutlierDetector outlierDetector;
+
+    private EndpointStatistics statistics;
+
+    @Before
+    public void setUp() {
+        statistics = new EndpointStatistics();
+        when(proxyResponse.status()).thenReturn(200);
+    }
+
+    @Test
+    public void shouldBeOutstandingUntilResponseIsEnded() {
+        MeasuredProxyConnection connection = new MeasuredProxyConnection(
+                proxyConnection, endpoint, statistics, outlierDetector);
+        assertEquals(1, statistics.outstanding());
+
+        Handler<ProxyResponse> responseHandler = mock(Handler.class);
+        connection.responseHandler(responseHandler);
+
+        ArgumentCaptor<ProxyResponse> measuredResponse = ArgumentCaptor.forClass(ProxyResponse.class);
+        captureResponseHandler().handle(proxyResponse);
+        verify(responseHandler).handle(measuredResponse.capture());
+        verify(outlierDetector).onResponse(eq(endpoint), eq(statistics), eq(200), anyLong());
+
+        // Headers are received, but not the body yet
+        assertEquals(1, statistics.outstanding());
+
+        Handler<Void> endHandler = mock(Handler.class);
+        measuredResponse.getValue().endHandler(endHandler);
+        ArgumentCaptor<Handler> end = ArgumentCaptor.forClass(Handler.class);
+        verify(proxyResponse).endHandler(end.capture());
+        end.getValue().handle(null);
+
+        verify(endHandler).handle(null);
+        assertEquals(0, statistics.outstanding());
+    }
+
+    @Test
+    public void shouldEndOnFailure() {
+        MeasuredProxyConnection connection = new MeasuredProxyConnection(
+                proxyConnection, endpoint, statistics, outlierDetector);
+
+        Handler<Throwable> exceptionHandler = mock(Handler.class);
+        connection.exceptionHandler(exceptionHandler);
+
+        ArgumentCaptor<Handler> handler = ArgumentCaptor.forClass(Handler.class);
+        verify(proxyConnection).exceptionHandler(handler.capture());
+
+        Exception failure = new Exception();
+        handler.getValue().handle(failure);
+
+        verify(exceptionHandler).handle(failure);
+        verify(outlierDetector).onFailure(endpoint, statistics);
+        assertEquals(0, statistics.outstanding());
+    }
+
+    @Test
+    public void shouldEndOnceWhenCanceledAfterFailure() {
+        MeasuredProxyConnection connection = new MeasuredProxyConnection(
+                proxyConnection, endpoint, statistics, null);
+
+        connection.exceptionHandler(mock(Handler.class));
+        ArgumentCaptor<Handler> handler = ArgumentCaptor.forClass(Handler.class);
+        verify(proxyConnection).exceptionHandler(handler.capture());
+        handler.getValue().handle(new Exception());
+
+        connection.cancel();
+        connection.cancel();
+
+        verify(proxyConnection, times(2)).cancel();
+        assertEquals(0, statistics.outstanding());
+    }
+
+    @Test
+    public void shouldNotReportWithoutOutlierDetector() {
+        MeasuredProxyConnection connection = new MeasuredProxyConnection(
+                proxyConnection, endpoint, statistics, null);
+
+        connection.responseHandler(mock(Handler.class));
+        captureResponseHandler().handle(proxyResponse);
+
+        verify(outlierDetector, never()).onResponse(any(Endpoint.class), any(EndpointStatistics.class), anyInt(), anyLong());
+    }
+
+    private Handler<ProxyResponse> captureResponseHandler() {
+        ArgumentCaptor<Handler> handler = ArgumentCaptor.forClass(Handler.class);
+        verify(proxyConnection).responseHandler(handler.capture());
+        return handler.getValue();
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.el;
+
+import io.gravitee.el.spel.SpelTemplateContext;
+import io.gravitee.gateway.api.expression.TemplateContext;
+import io.gravitee.gateway.api.expression.TemplateEngine;
+import io.gravitee.gateway.api.expression.TemplateVariableProvider;
+import org.springframework.expression.EvaluationContext;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A {@link TemplateEngine} evaluating the expressions of an {@link ExpressionCache} instead of parsing them on
+ * each conversion.
+ *
+ * Variable providers are only invoked once a converted expression (or a lookup) references one of the variables
+ * they provide, so that a request does not pay for variables its expressions never use.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class CachedTemplateEngine implements TemplateEngine {
+
+    private final ExpressionCache expressionCache;
+
+    /**
+     * Providers indexed by the name of the variables they provide.
+     */
+    private final Map<String, TemplateVariableProvider> providers;
+
+    private final LazyTemplateContext templateContext = new LazyTemplateContext();
+
+    /**
+     * Providers which have already been invoked for this engine, lazily created.
+     */
+    private Map<TemplateVariableProvider, Boolean> provided;
+
+    public CachedTemplateEngine(ExpressionCache expressionCache, Map<String, TemplateVariableProvider> providers) {
+        this.expressionCache = expressionCache;
+        this.providers = providers;
+    }
+
+    @Override
+    public String convert(String expression) {
+        ExpressionCache.CachedExpression cachedExpression = expressionCache.get(expression);
+
+        for (String variable : cachedExpression.variables()) {
+            provide(variable);
+        }
+
+        return cachedExpression.expression().getValue(templateContext.evaluationContext(), String.class);
+    }
+
+    @Override
+    public TemplateContext getTemplateContext() {
+        return templateContext;
+    }
+
+    private void provide(String variable) {
+        TemplateVariableProvider provider = providers.get(variable);
+
+        if (provider != null) {
+            provide(provider);
+        }
+    }
+
+    private void provide(TemplateVariableProvider provider) {
+        if (provided == null) {
+            provided = new IdentityHashMap<>(4);
+        }
+
+        if (provided.put(provider, Boolean.TRUE) == null) {
+            provider.provide(templateContext);
+        }
+    }
+
+    private class LazyTemplateContext implements TemplateContext {
+
+        private final SpelTemplateContext delegate = new SpelTemplateContext();
+
+        @Override
+        public void setVariable(String name, Object value) {
+            delegate.setVariable(name, value);
+        }
+
+        @Override
+        public Object lookupVariable(String name) {
+            provide(name);
+            return delegate.lookupVariable(name);
+        }
+
+        /**
+         * The raw context may be used to evaluate any expression: every variable has to be provided.
+         */
+        public EvaluationContext getContext() {
+            providers.values().forEach(CachedTemplateEngine.this::provide);
+            return delegate.getContext();
+        }
+
+        private EvaluationContext evaluationContext() {
+            return delegate.getContext();
+        }
+    }
+}
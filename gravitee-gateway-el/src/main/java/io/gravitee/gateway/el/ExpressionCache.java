@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.el;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.common.CompositeStringExpression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A cache of parsed template expressions, keyed by expression text.
+ *
+ * Expressions are parsed with {@link SpelCompilerMode#MIXED}: once evaluated a few times, they are compiled to
+ * bytecode and fall back to interpretation if the types they were compiled against change. Along with each
+ * expression, the cache keeps the name of the variables it references, so that they can be provided lazily.
+ *
+ * Parsed expressions are thread-safe and can be shared by all the requests of an API.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class ExpressionCache {
+
+    private static final ParserContext TEMPLATE_PARSER_CONTEXT = new TemplateParserContext();
+
+    /**
+     * Longer texts are most likely contents (a body to transform for instance) rather than expressions.
+     */
+    private static final int MAX_EXPRESSION_LENGTH = 4096;
+
+    private final SpelExpressionParser parser;
+
+    private final int maxSize;
+
+    private final ConcurrentMap<String, CachedExpression> expressions = new ConcurrentHashMap<>();
+
+    public ExpressionCache(ClassLoader classLoader, int maxSize) {
+        this.parser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, classLoader));
+        this.maxSize = maxSize;
+    }
+
+    public CachedExpression get(String expression) {
+        CachedExpression cachedExpression = expressions.get(expression);
+
+        if (cachedExpression == null) {
+            cachedExpression = parse(expression);
+
+            // Expressions built at runtime should not make the cache grow forever: once full, they are parsed
+            // on each evaluation
+            if (expression.length() <= MAX_EXPRESSION_LENGTH && expressions.size() < maxSize) {
+                CachedExpression previous = expressions.putIfAbsent(expression, cachedExpression);
+                if (previous != null) {
+                    cachedExpression = previous;
+                }
+            }
+        }
+
+        return cachedExpression;
+    }
+
+    public int size() {
+        return expressions.size();
+    }
+
+    private CachedExpression parse(String text) {
+        Expression expression = parser.parseExpression(text, TEMPLATE_PARSER_CONTEXT);
+
+        Set<String> variables = new HashSet<>();
+        collectVariables(expression, variables);
+
+        return new CachedExpression(expression,
+                variables.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(variables));
+    }
+
+    private static void collectVariables(Expression expression, Set<String> variables) {
+        if (expression instanceof CompositeStringExpression) {
+            for (Expression part : ((CompositeStringExpression) expression).getExpressions()) {
+                collectVariables(part, variables);
+            }
+        } else if (expression instanceof SpelExpression) {
+            collectVariables(((SpelExpression) expression).getAST(), variables);
+        }
+    }
+
+    private static void collectVariables(SpelNode node, Set<String> variables) {
+        if (node instanceof VariableReference) {
+            // Rendered as #name
+            variables.add(node.toStringAST().substring(1));
+        }
+
+        for (int i = 0; i < node.getChildCount(); i++) {
+            collectVariables(node.getChild(i), variables);
+        }
+    }
+
+    public static final class CachedExpression {
+
+        private final Expression expression;
+
+        private final Set<String> variables;
+
+        private CachedExpression(Expression expression, Set<String> variables) {
+            this.expression = expression;
+            this.variables = variables;
+        }
+
+        public Expression expression() {
+            return expression;
+        }
+
+        /**
+         * @return the name of the variables referenced by the expression.
+         */
+        public Set<String> variables() {
+            return variables;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.el;
+
+import io.gravitee.gateway.api.expression.TemplateVariableProvider;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class CachedTemplateEngineTest {
+
+    private ExpressionCache expressionCache;
+
+    private final AtomicInteger provided = new AtomicInteger();
+
+    private Map<String, TemplateVariableProvider> providers;
+
+    @Before
+    public void init() {
+        expressionCache = new ExpressionCache(getClass().getClassLoader(), 10);
+
+        TemplateVariableProvider provider = templateContext -> {
+            provided.incrementAndGet();
+            templateContext.setVariable("properties", Collections.singletonMap("name", "Doe"));
+        };
+
+        providers = new HashMap<>();
+        providers.put("properties", provider);
+    }
+
+    @Test
+    public void shouldProvideReferencedVariable() {
+        CachedTemplateEngine engine = new CachedTemplateEngine(expressionCache, providers);
+
+        Assert.assertEquals("Doe", engine.convert("{#properties['name']}"));
+        Assert.assertEquals("John Doe", engine.convert("John {#properties['name']}"));
+        Assert.assertEquals(1, provided.get());
+    }
+
+    @Test
+    public void shouldNotProvideUnreferencedVariable() {
+        CachedTemplateEngine engine = new CachedTemplateEngine(expressionCache, providers);
+        engine.getTemplateContext().setVariable("name", "Doe");
+
+        Assert.assertEquals("Doe", engine.convert("{#name}"));
+        Assert.assertEquals(0, provided.get());
+    }
+
+    @Test
+    public void shouldProvideLookedUpVariable() {
+        CachedTemplateEngine engine = new CachedTemplateEngine(expressionCache, providers);
+
+        Assert.assertNotNull(engine.getTemplateContext().lookupVariable("properties"));
+        Assert.assertEquals(1, provided.get());
+    }
+
+    @Test
+    public void shouldShareExpressionsBetweenEngines() {
+        for (int i = 0; i < 100; i++) {
+            CachedTemplateEngine engine = new CachedTemplateEngine(expressionCache, providers);
+            engine.getTemplateContext().setVariable("id", i);
+
+            Assert.assertEquals("Doe-" + i, engine.convert("{#properties['name']}-{#id}"));
+        }
+
+        Assert.assertEquals(1, expressionCache.size());
+        Assert.assertEquals(100, provided.get());
+    }
+
+    @Test
+    public void shouldBoundCache() {
+        CachedTemplateEngine engine = new CachedTemplateEngine(expressionCache, providers);
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(Integer.toString(i), engine.convert("{" + i + "}"));
+        }
+
+        Assert.assertEquals(10, expressionCache.size());
+    }
+}
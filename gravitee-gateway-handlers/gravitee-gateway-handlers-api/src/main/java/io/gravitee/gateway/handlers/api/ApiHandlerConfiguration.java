@@ -25,9 +25,12 @@ import io.gravitee.gateway.core.endpoint.ref.impl.DefaultReferenceRegister;
 import io.gravitee.gateway.core.endpoint.resolver.EndpointResolver;
 import io.gravitee.gateway.core.endpoint.resolver.impl.TargetEndpointResolver;
 import io.gravitee.gateway.core.invoker.InvokerFactory;
+import io.gravitee.gateway.core.loadbalancer.EndpointStatisticsRegistry;
+import io.gravitee.gateway.core.loadbalancer.OutlierDetector;
 import io.gravitee.gateway.handlers.api.context.ApiTemplateVariableProvider;
 import io.gravitee.gateway.handlers.api.path.PathResolver;
 import io.gravitee.gateway.handlers.api.path.impl.ApiPathResolverImpl;
+import io.gravitee.gateway.handlers.api.path.impl.CachedPathResolver;
 import io.gravitee.gateway.handlers.api.policy.security.PlanBasedAuthenticationHandlerEnhancer;
 import io.gravitee.gateway.policy.PolicyConfigurationFactory;
 import io.gravitee.gateway.policy.PolicyFactory;
@@ -45,6 +48,7 @@ import io.gravitee.gateway.resource.internal.ResourceManagerImpl;
 import io.gravitee.gateway.security.core.AuthenticationHandlerEnhancer;
 import io.gravitee.gateway.security.core.SecurityProviderLoader;
 import io.gravitee.gateway.security.core.SecurityProviderManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -55,9 +59,22 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class ApiHandlerConfiguration {
 
+    @Value("${api.paths.cache.size:1000}")
+    private int pathCacheSize;
+
+    /**
+     * Paths resolved for an API are cached for the lifetime of its context, which is recreated when the API is
+     * updated. There is nothing to resolve when the API declares a single path.
+     */
     @Bean
     public PathResolver pathResolver(Api api) {
-        return new ApiPathResolverImpl(api);
+        PathResolver pathResolver = new ApiPathResolverImpl(api);
+
+        if (pathCacheSize > 0 && api.getPaths() != null && api.getPaths().size() > 1) {
+            return new CachedPathResolver(pathResolver, pathCacheSize);
+        }
+
+        return pathResolver;
     }
 
     @Bean
@@ -134,6 +151,16 @@ public class ApiHandlerConfiguration {
         return new TargetEndpointResolver();
     }
 
+    @Bean
+    public EndpointStatisticsRegistry endpointStatisticsRegistry() {
+        return new EndpointStatisticsRegistry();
+    }
+
+    @Bean
+    public OutlierDetector outlierDetector() {
+        return new OutlierDetector();
+    }
+
     @Bean
     public EndpointFactory endpointFactory() {
         return new SpringFactoriesEndpointFactory();
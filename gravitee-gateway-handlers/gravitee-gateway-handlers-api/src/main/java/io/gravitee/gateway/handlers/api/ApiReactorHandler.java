@@ -23,6 +23,7 @@ import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.HttpHeadersValues;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.common.http.MediaType;
+import io.gravitee.definition.model.Logging;
 import io.gravitee.definition.model.LoggingMode;
 import io.gravitee.gateway.api.ExecutionContext;
 import io.gravitee.gateway.api.Invoker;
@@ -31,12 +32,22 @@ import io.gravitee.gateway.api.Response;
 import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.api.handler.Handler;
 import io.gravitee.gateway.api.proxy.ProxyResponse;
+import io.gravitee.gateway.core.endpoint.GroupManager;
 import io.gravitee.gateway.core.endpoint.lifecycle.GroupLifecyleManager;
 import io.gravitee.gateway.core.invoker.EndpointInvoker;
+import io.gravitee.gateway.core.loadbalancer.EndpointStatisticsRegistry;
+import io.gravitee.gateway.core.loadbalancer.OutlierDetector;
+import io.gravitee.gateway.core.logging.LoggingContext;
+import io.gravitee.gateway.core.logging.condition.evaluation.ConditionEvaluator;
+import io.gravitee.gateway.core.logging.condition.evaluation.el.ExpressionLanguageBasedConditionEvaluator;
+import io.gravitee.gateway.core.logging.sampling.LoggingSampler;
+import io.gravitee.gateway.core.logging.sampling.ProbabilisticSampler;
+import io.gravitee.gateway.core.logging.sampling.RateLimitedSampler;
 import io.gravitee.gateway.core.processor.*;
 import io.gravitee.gateway.core.proxy.DirectProxyConnection;
 import io.gravitee.gateway.handlers.api.definition.Api;
 import io.gravitee.gateway.handlers.api.metrics.PathMappingMetricsHandler;
+import io.gravitee.gateway.handlers.api.path.PathResolver;
 import io.gravitee.gateway.handlers.api.policy.api.ApiPolicyChainResolver;
 import io.gravitee.gateway.handlers.api.policy.api.ApiResponsePolicyChainResolver;
 import io.gravitee.gateway.handlers.api.policy.plan.PlanPolicyChainResolver;
@@ -94,6 +105,27 @@ public class ApiReactorHandler extends AbstractReactorHandler implements Initial
     @Value("${http.port:8082}")
     private String port;
 
+    @Value("${reporters.logging.max_body_size:" + LoggingContext.DEFAULT_MAX_BODY_SIZE + "}")
+    private int loggingMaxBodySize;
+
+    @Value("${reporters.logging.excluded_content_types:#{null}}")
+    private String loggingExcludedContentTypes;
+
+    @Value("${reporters.logging.sampling.type:none}")
+    private String loggingSamplingType;
+
+    @Value("${reporters.logging.sampling.probability:0.01}")
+    private double loggingSamplingProbability;
+
+    @Value("${reporters.logging.sampling.rate:10}")
+    private int loggingSamplingRate;
+
+    @Value("${reporters.logging.errors_only:false}")
+    private boolean loggingErrorsOnly;
+
+    @Value("${reporters.logging.error_status:500}")
+    private int loggingErrorStatus;
+
     @Override
     protected void doHandle(Request serverRequest, Response serverResponse, ExecutionContext executionContext, Handler<Response> handler) {
         // Pause the request and resume it as soon as all the stream are plugged and we have processed the HEAD part
@@ -299,14 +331,38 @@ public class ApiReactorHandler extends AbstractReactorHandler implements Initial
         requestProcessors.add(securityPolicyResolver);
 
         if (api.getProxy().getLogging() != null && api.getProxy().getLogging().getMode() != LoggingMode.NONE) {
+            // The condition is parsed and compiled once for all the requests
+            Logging logging = api.getProxy().getLogging();
+            ConditionEvaluator loggingCondition = new ExpressionLanguageBasedConditionEvaluator(logging.getCondition());
+            LoggingContext loggingContext = new LoggingContext(loggingMaxBodySize,
+                    (loggingExcludedContentTypes != null) ?
+                            loggingExcludedContentTypes : LoggingContext.DEFAULT_EXCLUDED_CONTENT_TYPES,
+                    loggingSampler(), loggingErrorsOnly ? loggingErrorStatus : 0);
+
             requestProcessors.add(new InstanceCreatorAwareProcessorProvider(
-                    (Function<Void, Processor>) useless -> new ApiLoggableRequestProcessor(api.getProxy().getLogging())));
+                    (Function<Void, Processor>) useless ->
+                            new ApiLoggableRequestProcessor(logging, loggingCondition, loggingContext)));
         }
 
         requestProcessors.add(planPolicyResolver);
         requestProcessors.add(apiPolicyResolver);
     }
 
+    private LoggingSampler loggingSampler() {
+        switch (loggingSamplingType.toLowerCase()) {
+            case "probabilistic":
+                return new ProbabilisticSampler(loggingSamplingProbability);
+            case "rate":
+                // The sampler is created per API, so is the rate limit
+                return new RateLimitedSampler(loggingSamplingRate);
+            case "none":
+                return LoggingSampler.ALWAYS;
+            default:
+                logger.warn("Unknown logging sampling type [{}], all the requests are logged", loggingSamplingType);
+                return LoggingSampler.ALWAYS;
+        }
+    }
+
     @Override
     public String contextPath() {
         return contextPath;
@@ -317,6 +373,18 @@ public class ApiReactorHandler extends AbstractReactorHandler implements Initial
         return api;
     }
 
+    public PathResolver pathResolver() {
+        return applicationContext.getBean(PathResolver.class);
+    }
+
+    public GroupManager groupManager() {
+        return applicationContext.getBean(GroupLifecyleManager.class);
+    }
+
+    public EndpointStatisticsRegistry endpointStatisticsRegistry() {
+        return applicationContext.getBean(EndpointStatisticsRegistry.class);
+    }
+
     @Override
     protected void doStart() throws Exception {
         logger.info("API handler is now starting, preparing API context...");
@@ -340,6 +408,7 @@ public class ApiReactorHandler extends AbstractReactorHandler implements Initial
         applicationContext.getBean(PolicyManager.class).stop();
         applicationContext.getBean(ResourceLifecycleManager.class).stop();
         applicationContext.getBean(GroupLifecyleManager.class).stop();
+        applicationContext.getBean(OutlierDetector.class).stop();
 
         super.doStop();
         logger.info("API handler is now stopped", api);
@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.handlers.api.manager.endpoint;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.common.http.MediaType;
+import io.gravitee.gateway.handlers.api.ApiReactorHandler;
+import io.gravitee.gateway.handlers.api.definition.Api;
+import io.gravitee.gateway.handlers.api.manager.endpoint.model.PathCacheEntity;
+import io.gravitee.gateway.handlers.api.path.PathResolver;
+import io.gravitee.gateway.handlers.api.path.impl.CachedPathResolver;
+import io.gravitee.gateway.reactor.handler.ReactorHandler;
+import io.gravitee.gateway.reactor.handler.ReactorHandlerRegistry;
+import io.gravitee.node.management.http.endpoint.ManagementEndpoint;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Exposes the statistics of the path cache of a deployed API.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class ApiPathCacheManagementEndpoint implements Handler<RoutingContext>, ManagementEndpoint {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(ApiPathCacheManagementEndpoint.class);
+
+    @Autowired
+    private ReactorHandlerRegistry reactorHandlerRegistry;
+
+    @Override
+    public HttpMethod method() {
+        return HttpMethod.GET;
+    }
+
+    @Override
+    public String path() {
+        return "/apis/:apiId/paths/cache";
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerResponse response = ctx.response();
+
+        try {
+            CachedPathResolver pathResolver = lookup(ctx.request().getParam("apiId"));
+
+            if (pathResolver == null) {
+                response.setStatusCode(HttpStatusCode.NOT_FOUND_404);
+            } else {
+                PathCacheEntity entity = new PathCacheEntity();
+                entity.setCapacity(pathResolver.capacity());
+                entity.setSize(pathResolver.size());
+                entity.setHits(pathResolver.hits());
+                entity.setMisses(pathResolver.misses());
+                entity.setEvictions(pathResolver.evictions());
+
+                response.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+                response.setStatusCode(HttpStatusCode.OK_200);
+                response.setChunked(true);
+                response.write(Json.prettyMapper.writeValueAsString(entity));
+            }
+        } catch (JsonProcessingException jpe) {
+            response.setStatusCode(HttpStatusCode.INTERNAL_SERVER_ERROR_500);
+            LOGGER.error("Unable to transform data object to JSON", jpe);
+        }
+
+        response.end();
+    }
+
+    private CachedPathResolver lookup(String apiId) {
+        for (ReactorHandler handler : reactorHandlerRegistry.getReactorHandlers()) {
+            if (handler instanceof ApiReactorHandler && apiId.equals(((Api) handler.reactable()).getId())) {
+                PathResolver pathResolver = ((ApiReactorHandler) handler).pathResolver();
+                return (pathResolver instanceof CachedPathResolver) ? (CachedPathResolver) pathResolver : null;
+            }
+        }
+
+        return null;
+    }
+}
@@ -33,10 +33,16 @@ public class NodeApisEndpointInitializer {
     private ApisManagementEndpoint apisManagementEndpoint;
     @Autowired
     private ApiManagementEndpoint apiManagementEndpoint;
+    @Autowired
+    private ApiPathCacheManagementEndpoint apiPathCacheManagementEndpoint;
+    @Autowired
+    private ApiEndpointStatisticsManagementEndpoint apiEndpointStatisticsManagementEndpoint;
 
     @PostConstruct
     protected void init() {
         managementEndpointManager.register(apisManagementEndpoint);
         managementEndpointManager.register(apiManagementEndpoint);
+        managementEndpointManager.register(apiPathCacheManagementEndpoint);
+        managementEndpointManager.register(apiEndpointStatisticsManagementEndpoint);
     }
 }
@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.handlers.api.manager.endpoint.model;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class EndpointStatisticsEntity {
+
+    private String name;
+
+    private int outstanding;
+
+    private double responseTime;
+
+    private int requests;
+
+    private int errors;
+
+    private int slowResponses;
+
+    private boolean ejected;
+
+    private long ejections;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getOutstanding() {
+        return outstanding;
+    }
+
+    public void setOutstanding(int outstanding) {
+        this.outstanding = outstanding;
+    }
+
+    public double getResponseTime() {
+        return responseTime;
+    }
+
+    public void setResponseTime(double responseTime) {
+        this.responseTime = responseTime;
+    }
+
+    public int getRequests() {
+        return requests;
+    }
+
+    public void setRequests(int requests) {
+        this.requests = requests;
+    }
+
+    public int getErrors() {
+        return errors;
+    }
+
+    public void setErrors(int errors) {
+        this.errors = errors;
+    }
+
+    public int getSlowResponses() {
+        return slowResponses;
+    }
+
+    public void setSlowResponses(int slowResponses) {
+        this.slowResponses = slowResponses;
+    }
+
+    public boolean isEjected() {
+        return ejected;
+    }
+
+    public void setEjected(boolean ejected) {
+        this.ejected = ejected;
+    }
+
+    public long getEjections() {
+        return ejections;
+    }
+
+    public void setEjections(long ejections) {
+        this.ejections = ejections;
+    }
+}
@@ -27,6 +27,9 @@ import java.util.regex.Pattern;
 /**
  * A simple path resolver based on context paths definition.
  *
+ * Paths are matched by a {@link PathTrie}, which gives the same result as matching the pattern of every registered
+ * path and keeping the one with the most segments.
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
@@ -40,12 +43,16 @@ public abstract class AbstractPathResolver implements PathResolver {
 
     private final String contextPath;
 
+    private final PathTrie pathTrie;
+
     protected AbstractPathResolver(String contextPath) {
         if (contextPath.lastIndexOf((int)'/') != contextPath.length() - 1) {
             this.contextPath = contextPath + URL_PATH_SEPARATOR;
         } else {
             this.contextPath = contextPath;
         }
+
+        this.pathTrie = new PathTrie(this.contextPath);
     }
 
     @Override
@@ -62,21 +69,7 @@ public abstract class AbstractPathResolver implements PathResolver {
             decodedPath = path;
         }
 
-        int pieces = -1;
-        Path bestPath = null;
-
-        // TODO PERF: We must navigate from the longest path to the shortest to avoid counting pieces.
-        for(Path registerPath : registeredPaths) {
-            if (registerPath.getPattern().matcher(decodedPath).lookingAt()) {
-                int split = registerPath.getPath().split(URL_PATH_SEPARATOR).length;
-                if (split > pieces) {
-                    pieces = split;
-                    bestPath = registerPath;
-                }
-            }
-        }
-
-        return bestPath;
+        return pathTrie.match(decodedPath);
     }
 
     protected void register(Path path) {
@@ -102,5 +95,6 @@ public abstract class AbstractPathResolver implements PathResolver {
 
         path.setPattern(Pattern.compile(buffer.toString()));
         registeredPaths.add(path);
+        pathTrie.add(path, branches, path.getPath().split(URL_PATH_SEPARATOR).length);
     }
 }
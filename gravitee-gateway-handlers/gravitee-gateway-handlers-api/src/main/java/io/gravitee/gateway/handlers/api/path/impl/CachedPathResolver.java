@@ -0,0 +1,181 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.handlers.api.path.impl;
+
+import io.gravitee.gateway.handlers.api.path.Path;
+import io.gravitee.gateway.handlers.api.path.PathResolver;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link PathResolver} caching the paths resolved by another resolver, by request path.
+ *
+ * The cache is bounded and evicts with the CLOCK (second chance) algorithm, which approximates LRU while keeping
+ * hits lock-free. As request paths holding identifiers are seen once most of the time, a request path is only
+ * admitted in the cache the second time it is resolved (a "doorkeeper" as found in TinyLFU), so that they do not
+ * evict the hot paths.
+ *
+ * The cache is held by the context of the API and is dropped with it when the API is updated.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class CachedPathResolver implements PathResolver {
+
+    private final PathResolver pathResolver;
+    private final int capacity;
+
+    private final ConcurrentMap<String, Entry> entries;
+
+    /**
+     * The cached request paths, swept by the clock hand to find a victim. Guarded by <code>this</code>.
+     */
+    private final String[] clock;
+    private int hand;
+    private int size;
+
+    private final AtomicLongArray doorkeeper;
+    private final int doorkeeperMask;
+    private final AtomicInteger sightings = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachedPathResolver(PathResolver pathResolver, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be greater than 0");
+        }
+
+        this.pathResolver = pathResolver;
+        this.capacity = capacity;
+        this.entries = new ConcurrentHashMap<>(capacity * 2);
+        this.clock = new String[capacity];
+
+        // 8 bits per entry, in words of 64 bits
+        int words = Integer.highestOneBit(Math.max(1, capacity / 8 - 1)) << 1;
+        this.doorkeeper = new AtomicLongArray(words);
+        this.doorkeeperMask = words * Long.SIZE - 1;
+    }
+
+    @Override
+    public Path resolve(String path) {
+        Entry entry = entries.get(path);
+        if (entry != null) {
+            hits.increment();
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.path;
+        }
+
+        misses.increment();
+        Path resolvedPath = pathResolver.resolve(path);
+
+        if (resolvedPath != null && admit(path)) {
+            put(path, resolvedPath);
+        }
+
+        return resolvedPath;
+    }
+
+    private synchronized void put(String path, Path resolvedPath) {
+        if (entries.containsKey(path)) {
+            return;
+        }
+
+        if (size < capacity) {
+            clock[size++] = path;
+        } else {
+            // Give a second chance to the entries which have been hit since the last sweep
+            Entry victim;
+            while ((victim = entries.get(clock[hand])).referenced) {
+                victim.referenced = false;
+                hand = (hand + 1) % capacity;
+            }
+
+            entries.remove(clock[hand]);
+            evictions.increment();
+            clock[hand] = path;
+            hand = (hand + 1) % capacity;
+        }
+
+        entries.put(path, new Entry(resolvedPath));
+    }
+
+    /**
+     * Records the request path in the doorkeeper and returns whether it was already there. The doorkeeper is
+     * cleared every <code>10 * capacity</code> sightings, so that only recent paths are admitted.
+     */
+    private boolean admit(String path) {
+        int hash = path.hashCode();
+        boolean seen = mark(hash) & mark(hash * 0x9E3779B9);
+
+        if (sightings.incrementAndGet() >= capacity * 10) {
+            sightings.set(0);
+            for (int i = 0; i < doorkeeper.length(); i++) {
+                doorkeeper.set(i, 0L);
+            }
+        }
+
+        return seen;
+    }
+
+    private boolean mark(int hash) {
+        int bit = (hash ^ (hash >>> 16)) & doorkeeperMask;
+        long mask = 1L << (bit & (Long.SIZE - 1));
+        return (doorkeeper.getAndAccumulate(bit >>> 6, mask, (word, m) -> word | m) & mask) != 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private static final class Entry {
+
+        private final Path path;
+
+        /**
+         * Whether the entry has been hit since the clock hand last passed over it. Races are harmless: at worst, an
+         * entry gets one more or one less chance.
+         */
+        private volatile boolean referenced;
+
+        private Entry(Path path) {
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,324 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.handlers.api.path.impl;
+
+import io.gravitee.gateway.handlers.api.path.Path;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A compiled matcher for the paths declared on an API, returning the same {@link Path} as matching every path
+ * pattern against the request path and keeping the one with the most segments (the first declared one on ties).
+ *
+ * Declared paths are indexed in a tree of segments, literal segments being stored in open-addressing tables keyed
+ * by their {@link String#hashCode()}, which is computed directly over the request path. A lookup walks the request
+ * path once, without any regular expression nor allocation. To stay equivalent to the patterns:
+ * <ul>
+ *     <li>the last segment of a declared path only has to be a prefix of the request path segment,</li>
+ *     <li>a path parameter matches one or more characters of the parameter alphabet, including separators.</li>
+ * </ul>
+ *
+ * Declared paths holding regular expression constructs (as well as all the paths of an API whose context path holds
+ * some) cannot be indexed and are still matched with their pattern, only when they could beat the current match.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+final class PathTrie {
+
+    private static final char SEPARATOR = '/';
+    private static final char PARAM_PREFIX = ':';
+    private static final String REGEX_METACHARACTERS = "\\.[]{}()*+?^$|";
+
+    /**
+     * The characters a path parameter can match, as defined by <code>AbstractPathResolver.PATH_PARAM_REGEX</code>.
+     */
+    private static final boolean[] PARAM_ALPHABET = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            PARAM_ALPHABET[c] = true;
+            PARAM_ALPHABET[Character.toUpperCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            PARAM_ALPHABET[c] = true;
+        }
+        for (char c : "-._~%!$&'()* +,;=:@/".toCharArray()) {
+            PARAM_ALPHABET[c] = true;
+        }
+    }
+
+    /**
+     * The context path, without its trailing separator.
+     */
+    private final String contextPath;
+    private final boolean indexable;
+
+    private final Node root = new Node();
+    private final List<Entry> unindexed = new ArrayList<>();
+    private int size;
+
+    PathTrie(String contextPath) {
+        this.contextPath = contextPath.substring(0, contextPath.length() - 1);
+        this.indexable = isLiteral(contextPath);
+    }
+
+    /**
+     * Adds a declared path.
+     *
+     * @param path the declared path, with its pattern.
+     * @param branches the segments of the declared path (without context path).
+     * @param pieces the number of pieces of the complete path, the path with the most pieces being the best one.
+     */
+    void add(Path path, String[] branches, int pieces) {
+        Entry entry = new Entry(path, pieces, size++);
+
+        if (!indexable) {
+            unindexed.add(entry);
+            return;
+        }
+
+        for (String branch : branches) {
+            if (!branch.isEmpty() && branch.charAt(0) != PARAM_PREFIX && !isLiteral(branch)) {
+                unindexed.add(entry);
+                return;
+            }
+        }
+
+        Node parent = null;
+        Node node = root;
+        boolean literal = false;
+        for (String branch : branches) {
+            if (!branch.isEmpty()) {
+                parent = node;
+                literal = branch.charAt(0) != PARAM_PREFIX;
+                node = literal ? node.literal(branch) : node.param();
+            }
+        }
+
+        if (literal) {
+            parent.terminalLiterals = true;
+        }
+        node.offer(entry);
+    }
+
+    Path match(String path) {
+        Entry best = null;
+
+        if (path.startsWith(contextPath)) {
+            // The trailing separator of the context path is optional for the root path only
+            best = root.entry;
+
+            int start = contextPath.length();
+            if (path.length() > start && path.charAt(start) == SEPARATOR) {
+                best = root.walk(path, start + 1, best);
+            }
+        }
+
+        for (Entry entry : unindexed) {
+            if (entry.isBetterThan(best) && entry.path.getPattern().matcher(path).lookingAt()) {
+                best = entry;
+            }
+        }
+
+        return (best == null) ? null : best.path;
+    }
+
+    private static boolean isLiteral(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (REGEX_METACHARACTERS.indexOf(value.charAt(i)) != -1) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isParamCharacter(char c) {
+        return c < PARAM_ALPHABET.length && PARAM_ALPHABET[c];
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Entry {
+
+        private final Path path;
+        private final int pieces;
+        private final int order;
+
+        private Entry(Path path, int pieces, int order) {
+            this.path = path;
+            this.pieces = pieces;
+            this.order = order;
+        }
+
+        private boolean isBetterThan(Entry other) {
+            return other == null || pieces > other.pieces || (pieces == other.pieces && order < other.order);
+        }
+    }
+
+    private static final class Node {
+
+        /**
+         * The best declared path ending on this node.
+         */
+        private Entry entry;
+
+        private Node param;
+
+        private String[] keys;
+        private Node[] children;
+        private int count;
+
+        /**
+         * Whether a literal child is the end of a declared path, in which case it may match a prefix of a segment.
+         */
+        private boolean terminalLiterals;
+
+        private void offer(Entry candidate) {
+            if (candidate.isBetterThan(entry)) {
+                entry = candidate;
+            }
+        }
+
+        private Node param() {
+            if (param == null) {
+                param = new Node();
+            }
+
+            return param;
+        }
+
+        private Node literal(String key) {
+            Node child = child(key, 0, key.length(), key.hashCode());
+            if (child == null) {
+                if (keys == null || (count + 1) * 2 > keys.length) {
+                    resize();
+                }
+
+                child = new Node();
+                put(key, child);
+            }
+
+            return child;
+        }
+
+        private Node child(String path, int start, int end, int hash) {
+            if (keys == null) {
+                return null;
+            }
+
+            int len = end - start;
+            int mask = keys.length - 1;
+            int idx = spread(hash) & mask;
+            String key;
+            while ((key = keys[idx]) != null) {
+                if (key.length() == len && key.hashCode() == hash && path.regionMatches(start, key, 0, len)) {
+                    return children[idx];
+                }
+                idx = (idx + 1) & mask;
+            }
+
+            return null;
+        }
+
+        private void put(String key, Node child) {
+            int mask = keys.length - 1;
+            int idx = spread(key.hashCode()) & mask;
+            while (keys[idx] != null) {
+                idx = (idx + 1) & mask;
+            }
+
+            keys[idx] = key;
+            children[idx] = child;
+            count++;
+        }
+
+        private void resize() {
+            String[] oldKeys = keys;
+            Node[] oldChildren = children;
+
+            // Keep the load factor under 0.5 so that probe sequences stay short
+            keys = new String[(oldKeys == null) ? 4 : oldKeys.length << 1];
+            children = new Node[keys.length];
+            count = 0;
+
+            if (oldKeys != null) {
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldKeys[i] != null) {
+                        put(oldKeys[i], oldChildren[i]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Matches the children of this node against the request path, from the given position (just after a
+         * separator), and returns the best entry between the given one and the matching ones.
+         */
+        private Entry walk(String path, int start, Entry best) {
+            int length = path.length();
+
+            if (keys != null) {
+                int end = start;
+                int hash = 0;
+                char c;
+                while (end < length && (c = path.charAt(end)) != SEPARATOR) {
+                    hash = 31 * hash + c;
+                    end++;
+
+                    // The last segment of a declared path may match a prefix of the request path segment
+                    if (terminalLiterals && end < length && path.charAt(end) != SEPARATOR) {
+                        Node child = child(path, start, end, hash);
+                        if (child != null && child.entry != null && child.entry.isBetterThan(best)) {
+                            best = child.entry;
+                        }
+                    }
+                }
+
+                Node child = child(path, start, end, hash);
+                if (child != null) {
+                    if (child.entry != null && child.entry.isBetterThan(best)) {
+                        best = child.entry;
+                    }
+                    if (end < length) {
+                        best = child.walk(path, end + 1, best);
+                    }
+                }
+            }
+
+            if (param != null && start < length && isParamCharacter(path.charAt(start))) {
+                if (param.entry != null && param.entry.isBetterThan(best)) {
+                    best = param.entry;
+                }
+
+                if (param.keys != null || param.param != null) {
+                    // A parameter may span several segments: try every separator it can stop before
+                    for (int i = start + 1; i < length && isParamCharacter(path.charAt(i)); i++) {
+                        if (path.charAt(i) == SEPARATOR) {
+                            best = param.walk(path, i + 1, best);
+                        }
+                    }
+                }
+            }
+
+            return best;
+        }
+    }
+}
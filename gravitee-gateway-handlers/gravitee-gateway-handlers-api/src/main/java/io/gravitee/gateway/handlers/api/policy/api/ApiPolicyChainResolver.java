@@ -22,17 +22,22 @@ import io.gravitee.gateway.handlers.api.path.Path;
 import io.gravitee.gateway.handlers.api.path.PathResolver;
 import io.gravitee.gateway.policy.AbstractPolicyChainResolver;
 import io.gravitee.gateway.policy.Policy;
+import io.gravitee.gateway.policy.PolicyChainTemplate;
 import io.gravitee.gateway.policy.StreamType;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A policy chain resolver based on the policy configuration from the API.
  * This policy configuration is done by path / method.
  *
+ * Policy chain templates are prepared once per (path, method) so that a request only has to look them up.
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
@@ -41,17 +46,23 @@ public class ApiPolicyChainResolver extends AbstractPolicyChainResolver {
     @Autowired
     private PathResolver pathResolver;
 
+    private final Map<StreamType, ConcurrentMap<Path, PolicyChainTemplate[]>> templates = new EnumMap<>(StreamType.class);
+
+    public ApiPolicyChainResolver() {
+        for (StreamType streamType : StreamType.values()) {
+            templates.put(streamType, new ConcurrentHashMap<>());
+        }
+    }
+
     @Override
     protected List<Policy> calculate(StreamType streamType, Request request, Response response, ExecutionContext executionContext) {
         // Resolve the "configured" path according to the inbound request
         Path path = pathResolver.resolve(request.path());
         executionContext.setAttribute(ExecutionContext.ATTR_RESOLVED_PATH, path.getResolvedPath());
 
-        return path.getRules()
-                .stream()
-                .filter(rule -> rule.getMethods().contains(request.method()))
-                .map(rule -> create(streamType, rule.getPolicy().getName(), rule.getPolicy().getConfiguration()))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return templates.get(streamType)
+                .computeIfAbsent(path, resolvedPath -> templates(streamType, resolvedPath.getRules()))
+                [request.method().ordinal()]
+                .policies();
     }
 }
@@ -32,8 +32,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A policy resolver based on the plan subscribed by the consumer identity.
@@ -48,6 +48,11 @@ public class PlanPolicyChainResolver extends AbstractPolicyChainResolver {
     @Autowired
     protected Api api;
 
+    /**
+     * Policy chain templates of the root path of each plan, indexed by HTTP method.
+     */
+    private final ConcurrentMap<String, PolicyChainTemplate[]> templates = new ConcurrentHashMap<>();
+
     @Override
     public PolicyChain resolve(StreamType streamType, Request request, Response response, ExecutionContext executionContext) {
         // Calculate the list of policies to apply under this policy chain
@@ -82,18 +87,20 @@ public class PlanPolicyChainResolver extends AbstractPolicyChainResolver {
             // No plan is matching the plan associated to the secured request
             // The call is probably not relative to the same API.
             if (plan != null && apiPlan != null) {
-                Map<String, Path> paths = api.getPlan(plan).getPaths();
+                PolicyChainTemplate[] planTemplates = templates.computeIfAbsent(plan, planId -> {
+                    Map<String, Path> paths = apiPlan.getPaths();
+
+                    if (paths != null && ! paths.isEmpty()) {
+                        // For 1.0.0, there is only a single root path defined
+                        // Must be reconsidered when user will be able to manage policies at the plan level by himself
+                        Path rootPath = paths.values().iterator().next();
+                        return templates(streamType, rootPath.getRules());
+                    }
+
+                    return templates(streamType, null);
+                });
 
-                if (paths != null && ! paths.isEmpty()) {
-                    // For 1.0.0, there is only a single root path defined
-                    // Must be reconsidered when user will be able to manage policies at the plan level by himself
-                    Path rootPath = paths.values().iterator().next();
-                    return rootPath.getRules().stream()
-                            .filter(rule -> rule.isEnabled() && rule.getMethods().contains(request.method()))
-                            .map(rule -> create(streamType, rule.getPolicy().getName(), rule.getPolicy().getConfiguration()))
-                            .filter(Objects::nonNull)
-                            .collect(Collectors.toList());
-                }
+                return planTemplates[request.method().ordinal()].policies();
             } else {
                 logger.warn("No plan has been selected to process request {}. Returning an unauthorized HTTP status (401)", request.id());
                 return null;
@@ -18,6 +18,8 @@ package io.gravitee.gateway.handlers.api.processor.logging;
 import io.gravitee.definition.model.Logging;
 import io.gravitee.definition.model.LoggingMode;
 import io.gravitee.gateway.api.ExecutionContext;
+import io.gravitee.gateway.core.logging.LoggingContext;
+import io.gravitee.gateway.core.logging.condition.evaluation.ConditionEvaluator;
 import io.gravitee.gateway.core.logging.condition.evaluation.el.ExpressionLanguageBasedConditionEvaluator;
 import io.gravitee.gateway.core.logging.processor.LoggableRequestProcessor;
 import io.gravitee.gateway.core.processor.ProcessorContext;
@@ -31,7 +33,15 @@ public class ApiLoggableRequestProcessor extends LoggableRequestProcessor {
     private final LoggingMode mode;
 
     public ApiLoggableRequestProcessor(Logging logging) {
-        super(new ExpressionLanguageBasedConditionEvaluator(logging.getCondition()));
+        this(logging, new ExpressionLanguageBasedConditionEvaluator(logging.getCondition()));
+    }
+
+    public ApiLoggableRequestProcessor(Logging logging, ConditionEvaluator evaluator) {
+        this(logging, evaluator, LoggingContext.DEFAULT);
+    }
+
+    public ApiLoggableRequestProcessor(Logging logging, ConditionEvaluator evaluator, LoggingContext loggingContext) {
+        super(evaluator, loggingContext);
         this.mode = logging.getMode();
     }
 
@@ -41,6 +51,8 @@ public class ApiLoggableRequestProcessor extends LoggableRequestProcessor {
         if (evaluate) {
             context.getContext().setAttribute(ExecutionContext.ATTR_PREFIX + "logging.client", mode.isClientMode());
             context.getContext().setAttribute(ExecutionContext.ATTR_PREFIX + "logging.proxy", mode.isProxyMode());
+            context.getContext().setAttribute(ExecutionContext.ATTR_PREFIX + LoggingContext.ATTR_LOGGING_CONTEXT,
+                    loggingContext);
             return mode.isClientMode();
         }
 
@@ -16,12 +16,15 @@
 package io.gravitee.gateway.handlers.api.spring;
 
 import io.gravitee.gateway.handlers.api.manager.ApiManager;
+import io.gravitee.gateway.handlers.api.manager.endpoint.ApiEndpointStatisticsManagementEndpoint;
 import io.gravitee.gateway.handlers.api.manager.endpoint.ApiManagementEndpoint;
+import io.gravitee.gateway.handlers.api.manager.endpoint.ApiPathCacheManagementEndpoint;
 import io.gravitee.gateway.handlers.api.manager.endpoint.ApisManagementEndpoint;
 import io.gravitee.gateway.handlers.api.manager.endpoint.NodeApisEndpointInitializer;
 import io.gravitee.gateway.handlers.api.manager.impl.ApiManagerImpl;
 import io.gravitee.gateway.handlers.api.validator.Validator;
 import io.gravitee.gateway.handlers.api.validator.ValidatorImpl;
+import io.gravitee.gateway.http.connector.HttpClientRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -52,8 +55,23 @@ public class ApiHandlerConfiguration {
         return new ApiManagementEndpoint();
     }
 
+    @Bean
+    public ApiPathCacheManagementEndpoint apiPathCacheManagementEndpoint() {
+        return new ApiPathCacheManagementEndpoint();
+    }
+
+    @Bean
+    public ApiEndpointStatisticsManagementEndpoint apiEndpointStatisticsManagementEndpoint() {
+        return new ApiEndpointStatisticsManagementEndpoint();
+    }
+
     @Bean
     public NodeApisEndpointInitializer nodeApisEndpointInitializer() {
         return new NodeApisEndpointInitializer();
     }
+
+    @Bean
+    public HttpClientRegistry httpClientRegistry() {
+        return new HttpClientRegistry();
+    }
 }
@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.handlers.api.test;
+
+import io.gravitee.gateway.handlers.api.path.Path;
+import io.gravitee.gateway.handlers.api.path.PathResolver;
+import io.gravitee.gateway.handlers.api.path.impl.CachedPathResolver;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class CachedPathResolverTest {
+
+    private final Path path = new Path();
+
+    private final AtomicInteger resolutions = new AtomicInteger();
+
+    private PathResolver delegate;
+
+    @Before
+    public void setUp() {
+        path.setPath("/");
+        delegate = requestPath -> {
+            resolutions.incrementAndGet();
+            return path;
+        };
+    }
+
+    @Test
+    public void shouldAdmitOnSecondResolution() {
+        CachedPathResolver pathResolver = new CachedPathResolver(delegate, 10);
+
+        Assert.assertEquals(path, pathResolver.resolve("/products"));
+        Assert.assertEquals(0, pathResolver.size());
+
+        Assert.assertEquals(path, pathResolver.resolve("/products"));
+        Assert.assertEquals(1, pathResolver.size());
+
+        Assert.assertEquals(path, pathResolver.resolve("/products"));
+        Assert.assertEquals(2, resolutions.get());
+        Assert.assertEquals(1, pathResolver.hits());
+        Assert.assertEquals(2, pathResolver.misses());
+    }
+
+    @Test
+    public void shouldNotCacheUnresolvedPath() {
+        CachedPathResolver pathResolver = new CachedPathResolver(requestPath -> null, 10);
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertNull(pathResolver.resolve("/unknown"));
+        }
+
+        Assert.assertEquals(0, pathResolver.size());
+        Assert.assertEquals(3, pathResolver.misses());
+    }
+
+    @Test
+    public void shouldBoundSize() {
+        CachedPathResolver pathResolver = new CachedPathResolver(delegate, 10);
+
+        for (int i = 0; i < 100; i++) {
+            pathResolver.resolve("/products/" + i);
+            pathResolver.resolve("/products/" + i);
+        }
+
+        Assert.assertEquals(10, pathResolver.size());
+        Assert.assertEquals(90, pathResolver.evictions());
+    }
+
+    @Test
+    public void shouldKeepReferencedPath() {
+        CachedPathResolver pathResolver = new CachedPathResolver(delegate, 10);
+
+        pathResolver.resolve("/hot");
+        pathResolver.resolve("/hot");
+
+        for (int i = 0; i < 100; i++) {
+            pathResolver.resolve("/hot");
+            pathResolver.resolve("/products/" + i);
+            pathResolver.resolve("/products/" + i);
+        }
+
+        int before = resolutions.get();
+        pathResolver.resolve("/hot");
+        Assert.assertEquals(before, resolutions.get());
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.handlers.api.test;
+
+import io.gravitee.gateway.handlers.api.path.Path;
+import io.gravitee.gateway.handlers.api.path.impl.AbstractPathResolver;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks that {@link AbstractPathResolver} resolves the same paths as matching the pattern of every declared path
+ * and keeping the one with the most segments.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class PathResolverEquivalenceTest {
+
+    private static final String[] CONTEXT_PATHS = {
+            "/", "/v1", "/v1/products/", "/api.v2"
+    };
+
+    private static final String[] DECLARED_SEGMENTS = {
+            "stores", "store", "Stores", "products", "product", "p", "a", "ab", "99",
+            "file.txt", "[0-9,;]+", ":id", ":storeId", ":name", ""
+    };
+
+    private static final String[] REQUEST_SEGMENTS = {
+            "stores", "store", "storesX", "Stores", "products", "productsfoo", "p", "a", "ab", "abc", "99",
+            "2124;2125", "2124%3B2125", "file.txt", "fileXtxt", "file%20sqs", "file;&,.=sqs", "caf%C3%A9",
+            "a b", "a+b", "", "[x]", "%", "v1", "products", "api.v2", "apiXv2"
+    };
+
+    @Test
+    public void shouldResolveDeclaredPathsOfExistingApis() {
+        List<String> declaredPaths = new ArrayList<>();
+        Collections.addAll(declaredPaths, "/", "/products", "/stores", "/stores/:storeId", "/[0-9,;]+", "/Stores/:storeId");
+
+        for (String contextPath : CONTEXT_PATHS) {
+            TestPathResolver resolver = new TestPathResolver(contextPath, declaredPaths);
+            for (String s1 : REQUEST_SEGMENTS) {
+                for (String s2 : REQUEST_SEGMENTS) {
+                    check(resolver, contextPath + '/' + s1 + '/' + s2);
+                    check(resolver, contextPath + s1 + '/' + s2 + '/');
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldResolveRandomlyDeclaredPaths() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 1000; i++) {
+            String contextPath = CONTEXT_PATHS[random.nextInt(CONTEXT_PATHS.length)];
+
+            List<String> declaredPaths = new ArrayList<>();
+            int count = 1 + random.nextInt(40);
+            for (int j = 0; j < count; j++) {
+                StringBuilder declaredPath = new StringBuilder();
+                int segments = random.nextInt(4);
+                for (int k = 0; k < segments; k++) {
+                    declaredPath.append('/').append(DECLARED_SEGMENTS[random.nextInt(DECLARED_SEGMENTS.length)]);
+                }
+                declaredPaths.add((declaredPath.length() == 0) ? "/" : declaredPath.toString());
+            }
+
+            TestPathResolver resolver = new TestPathResolver(contextPath, declaredPaths);
+            for (int j = 0; j < 50; j++) {
+                StringBuilder requestPath = new StringBuilder(random.nextBoolean() ? contextPath : "");
+                int segments = random.nextInt(5);
+                for (int k = 0; k < segments; k++) {
+                    requestPath.append('/').append(REQUEST_SEGMENTS[random.nextInt(REQUEST_SEGMENTS.length)]);
+                }
+                if (random.nextInt(4) == 0) {
+                    requestPath.append('/');
+                }
+
+                check(resolver, requestPath.toString());
+            }
+        }
+    }
+
+    private static void check(TestPathResolver resolver, String requestPath) {
+        Path expected = resolveWithPatterns(resolver.paths, requestPath);
+        Path actual = resolver.resolve(requestPath);
+
+        Assert.assertSame("Declared paths " + resolver.declaredPaths + ", request path " + requestPath,
+                expected, actual);
+    }
+
+    /**
+     * The reference implementation: every declared path is matched with its pattern.
+     */
+    private static Path resolveWithPatterns(List<Path> paths, String path) {
+        if (paths.size() == 1) {
+            return paths.get(0);
+        }
+
+        String decodedPath;
+
+        try {
+            decodedPath = QueryStringDecoder.decodeComponent(path, Charset.defaultCharset());
+        } catch (IllegalArgumentException iae) {
+            decodedPath = path;
+        }
+
+        int pieces = -1;
+        Path bestPath = null;
+
+        for (Path registerPath : paths) {
+            if (registerPath.getPattern().matcher(decodedPath).lookingAt()) {
+                int split = registerPath.getPath().split("/").length;
+                if (split > pieces) {
+                    pieces = split;
+                    bestPath = registerPath;
+                }
+            }
+        }
+
+        return bestPath;
+    }
+
+    private static class TestPathResolver extends AbstractPathResolver {
+
+        private final List<String> declaredPaths;
+        private final List<Path> paths = new ArrayList<>();
+
+        TestPathResolver(String contextPath, List<String> declaredPaths) {
+            super(contextPath);
+            this.declaredPaths = declaredPaths;
+
+            for (String declaredPath : declaredPaths) {
+                Path path = new Path();
+                path.setResolvedPath(declaredPath);
+                path.setRules(Collections.emptyList());
+
+                register(path);
+                paths.add(path);
+            }
+        }
+    }
+}
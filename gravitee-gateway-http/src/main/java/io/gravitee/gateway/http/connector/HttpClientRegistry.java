@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.http.connector;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Resource;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A gateway-wide registry of HTTP clients, shared by all the endpoints targeting the same upstream
+ * (scheme, host and port) with the same client options (including TLS and proxy configuration).
+ *
+ * Each shared entry holds one {@link HttpClient} per Vert.x context, so that upstream connections stay affine to the
+ * event-loop handling the request, and they are reused across APIs.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class HttpClientRegistry {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(HttpClientRegistry.class);
+
+    @Resource
+    private Vertx vertx;
+
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared entry for the given upstream and options. Each call must be balanced by a call to
+     * {@link #release(Entry)} once the caller does not need the HTTP clients anymore.
+     */
+    public Entry acquire(String scheme, String host, int port, HttpClientOptions options) {
+        return entries.compute(new Key(scheme, host, port, options), (key, entry) -> {
+            if (entry == null) {
+                LOGGER.debug("Create a shared HTTP client for {}://{}:{}", scheme, host, port);
+                entry = new Entry(key);
+            }
+
+            entry.references++;
+            return entry;
+        });
+    }
+
+    /**
+     * Releases a previously acquired entry. The HTTP clients are closed once the entry is not used anymore.
+     */
+    public void release(Entry entry) {
+        entries.computeIfPresent(entry.key, (key, current) -> {
+            if (--current.references == 0) {
+                LOGGER.debug("Close shared HTTP clients for {}://{}:{}", key.scheme, key.host, key.port);
+                current.close();
+                return null;
+            }
+
+            return current;
+        });
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    public final class Entry {
+
+        private final Key key;
+        private final ConcurrentMap<Context, HttpClient> clients = new ConcurrentHashMap<>();
+
+        /**
+         * Guarded by the registry map lock.
+         */
+        private int references;
+
+        private Entry(Key key) {
+            this.key = key;
+        }
+
+        /**
+         * Returns the HTTP client bound to the current Vert.x context, creating it on first use.
+         */
+        public HttpClient client() {
+            Context context = vertx.getOrCreateContext();
+            HttpClient client = clients.get(context);
+            if (client == null) {
+                client = clients.computeIfAbsent(context, ctx -> vertx.createHttpClient(key.options));
+            }
+
+            return client;
+        }
+
+        private void close() {
+            clients.values().forEach(httpClient -> {
+                try {
+                    httpClient.close();
+                } catch (IllegalStateException ise) {
+                    LOGGER.warn(ise.getMessage());
+                }
+            });
+            clients.clear();
+        }
+    }
+
+    private static final class Key {
+
+        private final String scheme;
+        private final String host;
+        private final int port;
+        private final HttpClientOptions options;
+
+        private Key(String scheme, String host, int port, HttpClientOptions options) {
+            this.scheme = scheme;
+            this.host = host;
+            this.port = port;
+            this.options = options;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return port == key.port &&
+                    Objects.equals(scheme, key.scheme) &&
+                    Objects.equals(host, key.host) &&
+                    Objects.equals(options, key.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scheme, host, port, options);
+        }
+    }
+}
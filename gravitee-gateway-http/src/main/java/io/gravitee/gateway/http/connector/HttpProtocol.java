@@ -0,0 +1,44 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.http.connector;
+
+/**
+ * The protocol used by the gateway to reach upstream endpoints.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public enum HttpProtocol {
+
+    /**
+     * HTTP/1.1, with keep-alive and (optional) pipelining.
+     */
+    HTTP_1_1,
+
+    /**
+     * HTTP/2, negotiated with ALPN for secured endpoints or through an HTTP/1.1 upgrade for clear-text endpoints.
+     */
+    H2,
+
+    /**
+     * Clear-text HTTP/2 with prior knowledge: the upstream is expected to speak HTTP/2 without any negotiation.
+     */
+    H2C;
+
+    public boolean isHttp2() {
+        return this != HTTP_1_1;
+    }
+}
@@ -19,6 +19,7 @@ import io.gravitee.common.component.AbstractLifecycleComponent;
 import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.HttpHeadersValues;
 import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.definition.model.Api;
 import io.gravitee.definition.model.HttpClientSslOptions;
 import io.gravitee.definition.model.HttpProxy;
 import io.gravitee.definition.model.endpoint.HttpEndpoint;
@@ -29,26 +30,24 @@ import io.gravitee.definition.model.ssl.pem.PEMTrustStore;
 import io.gravitee.definition.model.ssl.pkcs12.PKCS12KeyStore;
 import io.gravitee.definition.model.ssl.pkcs12.PKCS12TrustStore;
 import io.gravitee.gateway.api.Connector;
-import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.api.proxy.ProxyConnection;
 import io.gravitee.gateway.api.proxy.ProxyRequest;
+import io.gravitee.gateway.buffer.netty.BufferFactoryImpl;
 import io.netty.channel.ConnectTimeoutException;
-import io.vertx.core.Context;
-import io.vertx.core.Vertx;
 import io.vertx.core.http.*;
 import io.vertx.core.net.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
 
-import javax.annotation.Resource;
 import java.net.ConnectException;
 import java.net.NoRouteToHostException;
 import java.net.URI;
 import java.net.UnknownHostException;
 import java.util.*;
 import java.util.concurrent.TimeoutException;
-import java.util.function.Function;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -62,6 +61,7 @@ public class VertxHttpClient extends AbstractLifecycleComponent<Connector> imple
     private static final int DEFAULT_HTTP_PORT = 80;
     private static final int DEFAULT_HTTPS_PORT = 443;
     private static final Set<String> HOP_HEADERS;
+    private static final BufferFactoryImpl BUFFER_FACTORY = new BufferFactoryImpl();
 
     static {
         Set<String> hopHeaders = new HashSet<>();
@@ -79,23 +79,47 @@ public class VertxHttpClient extends AbstractLifecycleComponent<Connector> imple
         HOP_HEADERS = Collections.unmodifiableSet(hopHeaders);
     }
 
-    @Resource
-    private Vertx vertx;
+    @Autowired
+    private HttpClientRegistry httpClientRegistry;
+
+    @Autowired(required = false)
+    private Api api;
+
+    @Autowired(required = false)
+    private Environment environment;
+
+    /**
+     * Default protocol, which can be overridden for an API or for a single endpoint of an API.
+     */
+    @Value("${http.client.protocol:HTTP_1_1}")
+    private HttpProtocol protocol = HttpProtocol.HTTP_1_1;
+
+    @Value("${http.client.http2.maxPoolSize:" + HttpClientOptions.DEFAULT_HTTP2_MAX_POOL_SIZE + "}")
+    private int http2MaxPoolSize = HttpClientOptions.DEFAULT_HTTP2_MAX_POOL_SIZE;
+
+    @Value("${http.client.http2.multiplexingLimit:" + HttpClientOptions.DEFAULT_HTTP2_MULTIPLEXING_LIMIT + "}")
+    private int http2MultiplexingLimit = HttpClientOptions.DEFAULT_HTTP2_MULTIPLEXING_LIMIT;
+
+    @Value("${http.client.http2.connectionWindowSize:" + HttpClientOptions.DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE + "}")
+    private int http2ConnectionWindowSize = HttpClientOptions.DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE;
+
+    @Value("${http.client.http2.streamWindowSize:" + Http2Settings.DEFAULT_INITIAL_WINDOW_SIZE + "}")
+    private int http2StreamWindowSize = Http2Settings.DEFAULT_INITIAL_WINDOW_SIZE;
 
     private final HttpEndpoint endpoint;
 
     private HttpClientOptions httpClientOptions;
 
+    private HttpClientRegistry.Entry httpClients;
+
     @Autowired
     public VertxHttpClient(HttpEndpoint endpoint) {
         this.endpoint = endpoint;
     }
 
-    private final Map<Context, HttpClient> httpClients = new HashMap<>();
-
     @Override
     public ProxyConnection request(ProxyRequest proxyRequest) {
-        HttpClient httpClient = httpClients.computeIfAbsent(Vertx.currentContext(), createHttpClient());
+        HttpClient httpClient = httpClients.client();
 
         // Remove hop-by-hop headers.
         for (String header : HOP_HEADERS) {
@@ -128,7 +152,7 @@ public class VertxHttpClient extends AbstractLifecycleComponent<Connector> imple
             clientRequest.setRawMethod(proxyRequest.rawMethod());
         }
 
-        VertxProxyConnection proxyConnection = new VertxProxyConnection(proxyRequest, clientRequest);
+        VertxProxyConnection proxyConnection = new VertxProxyConnection(proxyRequest, clientRequest, protocol.isHttp2());
         clientRequest.handler(clientResponse -> handleClientResponse(proxyConnection, clientResponse));
 
         clientRequest.connectionHandler(connection -> {
@@ -171,8 +195,8 @@ public class VertxHttpClient extends AbstractLifecycleComponent<Connector> imple
 
         proxyClientResponse.pause();
 
-        // Copy body content
-        clientResponse.handler(event -> proxyClientResponse.bodyHandler().handle(Buffer.buffer(event.getBytes())));
+        // Copy body content (the chunk received from Vert.x is wrapped, not copied)
+        clientResponse.handler(event -> proxyClientResponse.bodyHandler().handle(BUFFER_FACTORY.wrap(event.getByteBuf())));
 
         // Signal end of the response
         clientResponse.endHandler(v -> proxyClientResponse.endHandler().handle(null));
@@ -327,24 +351,62 @@ public class VertxHttpClient extends AbstractLifecycleComponent<Connector> imple
             }
         }
 
+        configureProtocol(httpClientOptions);
+
         printHttpClientConfiguration(httpClientOptions);
+
+        // HTTP clients are shared with the other endpoints targeting the same upstream with the same options
+        int port = target.getPort() != -1 ? target.getPort() :
+                (HTTPS_SCHEME.equalsIgnoreCase(target.getScheme()) ? DEFAULT_HTTPS_PORT : DEFAULT_HTTP_PORT);
+        httpClients = httpClientRegistry.acquire(target.getScheme(), target.getHost(), port, httpClientOptions);
     }
 
-    @Override
-    protected void doStop() throws Exception {
-        LOGGER.info("Closing HTTP Client for '{}' endpoint [{}]", endpoint.getName(), endpoint.getTarget());
+    private HttpProtocol resolveProtocol() {
+        if (api != null && environment != null) {
+            String prefix = "http.client.apis." + api.getId() + '.';
+            String value = environment.getProperty(prefix + "endpoints." + endpoint.getName() + ".protocol",
+                    environment.getProperty(prefix + "protocol"));
 
-        httpClients.values().forEach(httpClient -> {
-            try {
-                httpClient.close();
-            } catch (IllegalStateException ise) {
-                LOGGER.warn(ise.getMessage());
+            if (value != null) {
+                return HttpProtocol.valueOf(value.trim().toUpperCase());
             }
-        });
+        }
+
+        return protocol;
+    }
+
+    private void configureProtocol(HttpClientOptions httpClientOptions) {
+        protocol = resolveProtocol();
+
+        if (protocol.isHttp2()) {
+            httpClientOptions.setProtocolVersion(HttpVersion.HTTP_2);
+
+            if (httpClientOptions.isSsl()) {
+                // h2 is negotiated during the TLS handshake
+                httpClientOptions.setUseAlpn(true);
+            } else {
+                // h2c, either with prior knowledge or by upgrading an HTTP/1.1 connection
+                httpClientOptions.setHttp2ClearTextUpgrade(protocol != HttpProtocol.H2C);
+            }
+
+            // Streams are multiplexed over a limited number of connections, each of them accepting a limited
+            // number of concurrent streams. The stream window drives the writeQueueFull / drain back-pressure.
+            httpClientOptions
+                    .setHttp2MaxPoolSize(http2MaxPoolSize)
+                    .setHttp2MultiplexingLimit(http2MultiplexingLimit)
+                    .setHttp2ConnectionWindowSize(http2ConnectionWindowSize)
+                    .setInitialSettings(new Http2Settings().setInitialWindowSize(http2StreamWindowSize));
+        }
     }
 
-    private Function<Context, HttpClient> createHttpClient() {
-        return context -> vertx.createHttpClient(httpClientOptions);
+    @Override
+    protected void doStop() throws Exception {
+        LOGGER.info("Closing HTTP Client for '{}' endpoint [{}]", endpoint.getName(), endpoint.getTarget());
+
+        if (httpClients != null) {
+            httpClientRegistry.release(httpClients);
+            httpClients = null;
+        }
     }
 
     private void printHttpClientConfiguration(HttpClientOptions httpClientOptions) {
@@ -361,6 +423,16 @@ public class VertxHttpClient extends AbstractLifecycleComponent<Connector> imple
                 ", TryUseCompression='" + httpClientOptions.isTryUseCompression() + '\'' +
                 '}');
 
+        if (httpClientOptions.getProtocolVersion() == HttpVersion.HTTP_2) {
+            LOGGER.info("\tHTTP/2 {" +
+                    "ClearTextUpgrade='" + httpClientOptions.isHttp2ClearTextUpgrade() + '\'' +
+                    ", MaxPoolSize='" + httpClientOptions.getHttp2MaxPoolSize() + '\'' +
+                    ", MultiplexingLimit='" + httpClientOptions.getHttp2MultiplexingLimit() + '\'' +
+                    ", ConnectionWindowSize='" + httpClientOptions.getHttp2ConnectionWindowSize() + '\'' +
+                    ", StreamWindowSize='" + httpClientOptions.getInitialSettings().getInitialWindowSize() + '\'' +
+                    '}');
+        }
+
         if (httpClientOptions.isSsl()) {
             LOGGER.info("\tSSL {" +
                     "TrustAll='" + httpClientOptions.isTrustAll() + '\'' +
@@ -23,6 +23,7 @@ import io.gravitee.gateway.api.proxy.ProxyConnection;
 import io.gravitee.gateway.api.proxy.ProxyRequest;
 import io.gravitee.gateway.api.proxy.ProxyResponse;
 import io.gravitee.gateway.api.stream.WriteStream;
+import io.gravitee.gateway.buffer.netty.BufferUtils;
 import io.vertx.core.http.HttpClientRequest;
 
 /**
@@ -40,10 +41,12 @@ class VertxProxyConnection implements ProxyConnection {
     private boolean transmitted = false;
     private boolean headersWritten = false;
     private boolean content = false;
+    private final boolean http2;
 
-    VertxProxyConnection(final ProxyRequest proxyRequest, final HttpClientRequest httpClientRequest) {
+    VertxProxyConnection(final ProxyRequest proxyRequest, final HttpClientRequest httpClientRequest, boolean http2) {
         this.proxyRequest = proxyRequest;
         this.httpClientRequest = httpClientRequest;
+        this.http2 = http2;
     }
 
     public void setProxyResponse(ProxyResponse proxyResponse) {
@@ -102,7 +105,7 @@ class VertxProxyConnection implements ProxyConnection {
             this.writeHeaders();
         }
 
-        httpClientRequest.write(io.vertx.core.buffer.Buffer.buffer(chunk.getBytes()));
+        httpClientRequest.write(io.vertx.core.buffer.Buffer.buffer(BufferUtils.detach(chunk)));
 
         return this;
     }
@@ -133,6 +136,11 @@ class VertxProxyConnection implements ProxyConnection {
             proxyRequest.headers().remove(HttpHeaders.TRANSFER_ENCODING);
         }
 
+        // Transfer-Encoding is a connection-specific header which must not be sent over HTTP/2
+        if (http2) {
+            proxyRequest.headers().remove(HttpHeaders.TRANSFER_ENCODING);
+        }
+
         // Copy headers to upstream
         proxyRequest.headers().forEach(httpClientRequest::putHeader);
 
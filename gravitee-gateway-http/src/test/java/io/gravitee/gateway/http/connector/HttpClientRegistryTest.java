@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.http.connector;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class HttpClientRegistryTest {
+
+    @InjectMocks
+    private HttpClientRegistry registry;
+
+    @Mock
+    private Vertx vertx;
+
+    @Mock
+    private Context context;
+
+    @Before
+    public void setUp() {
+        when(vertx.getOrCreateContext()).thenReturn(context);
+        when(vertx.createHttpClient(any(HttpClientOptions.class))).thenAnswer(invocation -> mock(HttpClient.class));
+    }
+
+    @Test
+    public void shouldShareClient_sameUpstreamAndOptions() {
+        HttpClientRegistry.Entry entry1 = registry.acquire("http", "localhost", 8080, new HttpClientOptions());
+        HttpClientRegistry.Entry entry2 = registry.acquire("http", "localhost", 8080, new HttpClientOptions());
+
+        Assert.assertSame(entry1, entry2);
+        Assert.assertSame(entry1.client(), entry2.client());
+        Assert.assertEquals(1, registry.size());
+        verify(vertx, times(1)).createHttpClient(any(HttpClientOptions.class));
+    }
+
+    @Test
+    public void shouldNotShareClient_differentOptions() {
+        HttpClientRegistry.Entry entry1 = registry.acquire("https", "localhost", 8443, new HttpClientOptions().setSsl(true));
+        HttpClientRegistry.Entry entry2 = registry.acquire("https", "localhost", 8443,
+                new HttpClientOptions().setSsl(true).setTrustAll(true));
+
+        Assert.assertNotSame(entry1, entry2);
+        Assert.assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void shouldNotShareClient_differentPort() {
+        HttpClientRegistry.Entry entry1 = registry.acquire("http", "localhost", 8080, new HttpClientOptions());
+        HttpClientRegistry.Entry entry2 = registry.acquire("http", "localhost", 8081, new HttpClientOptions());
+
+        Assert.assertNotSame(entry1, entry2);
+    }
+
+    @Test
+    public void shouldCreateClientPerContext() {
+        HttpClientRegistry.Entry entry = registry.acquire("http", "localhost", 8080, new HttpClientOptions());
+
+        HttpClient client1 = entry.client();
+        when(vertx.getOrCreateContext()).thenReturn(mock(Context.class));
+        HttpClient client2 = entry.client();
+
+        Assert.assertNotSame(client1, client2);
+    }
+
+    @Test
+    public void shouldCloseClients_lastRelease() {
+        HttpClientRegistry.Entry entry1 = registry.acquire("http", "localhost", 8080, new HttpClientOptions());
+        HttpClientRegistry.Entry entry2 = registry.acquire("http", "localhost", 8080, new HttpClientOptions());
+        HttpClient client = entry1.client();
+
+        registry.release(entry1);
+        verify(client, never()).close();
+        Assert.assertEquals(1, registry.size());
+
+        registry.release(entry2);
+        verify(client).close();
+        Assert.assertEquals(0, registry.size());
+    }
+}
@@ -15,6 +15,8 @@
  */
 package io.gravitee.gateway.policy;
 
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.definition.model.Rule;
 import io.gravitee.gateway.api.ExecutionContext;
 import io.gravitee.gateway.api.Request;
 import io.gravitee.gateway.api.Response;
@@ -27,6 +29,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -58,6 +62,34 @@ public abstract class AbstractPolicyChainResolver implements PolicyChainResolver
         return policyManager.create(streamType, policy, configuration);
     }
 
+    /**
+     * Prepares, for each HTTP method, the template of the policy chain made of the enabled rules which apply to
+     * this method. The returned array is indexed by {@link HttpMethod#ordinal()}.
+     */
+    protected PolicyChainTemplate[] templates(StreamType streamType, Collection<Rule> rules) {
+        HttpMethod[] methods = HttpMethod.values();
+        PolicyChainTemplate[] templates = new PolicyChainTemplate[methods.length];
+
+        for (HttpMethod method : methods) {
+            List<PolicyTemplate> policyTemplates = new ArrayList<>();
+            if (rules != null) {
+                for (Rule rule : rules) {
+                    if (rule.isEnabled() && rule.getMethods().contains(method)) {
+                        PolicyTemplate template = policyManager.template(
+                                streamType, rule.getPolicy().getName(), rule.getPolicy().getConfiguration());
+                        if (template != null) {
+                            policyTemplates.add(template);
+                        }
+                    }
+                }
+            }
+
+            templates[method.ordinal()] = PolicyChainTemplate.of(policyTemplates);
+        }
+
+        return templates;
+    }
+
     protected abstract List<Policy> calculate(StreamType streamType, Request request, Response response,
                                               ExecutionContext executionContext);
 
@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.policy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable, ordered list of {@link PolicyTemplate}s from which the policies of a policy chain are created.
+ *
+ * When all the policies of the template are shared, the same list of policies is returned for every request.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public final class PolicyChainTemplate {
+
+    public static final PolicyChainTemplate EMPTY = new PolicyChainTemplate(new PolicyTemplate[0]);
+
+    private final PolicyTemplate[] templates;
+
+    private final List<Policy> sharedPolicies;
+
+    private PolicyChainTemplate(PolicyTemplate[] templates) {
+        this.templates = templates;
+
+        List<Policy> policies = new ArrayList<>(templates.length);
+        for (PolicyTemplate template : templates) {
+            if (! template.isShared()) {
+                policies = null;
+                break;
+            }
+            policies.add(template.create());
+        }
+
+        this.sharedPolicies = (policies != null) ? Collections.unmodifiableList(policies) : null;
+    }
+
+    public static PolicyChainTemplate of(List<PolicyTemplate> templates) {
+        if (templates == null || templates.isEmpty()) {
+            return EMPTY;
+        }
+
+        return new PolicyChainTemplate(templates.toArray(new PolicyTemplate[templates.size()]));
+    }
+
+    public boolean isEmpty() {
+        return templates.length == 0;
+    }
+
+    public List<Policy> policies() {
+        if (sharedPolicies != null) {
+            return sharedPolicies;
+        }
+
+        List<Policy> policies = new ArrayList<>(templates.length);
+        for (PolicyTemplate template : templates) {
+            policies.add(template.create());
+        }
+
+        return policies;
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.policy;
+
+import io.gravitee.gateway.api.ExecutionContext;
+import io.gravitee.gateway.api.Request;
+import io.gravitee.gateway.api.Response;
+import io.gravitee.policy.api.PolicyChain;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Invokes an annotated policy method (<code>@OnRequest</code>, <code>@OnResponse</code>, ...).
+ *
+ * The policy method is bound, once per policy class, to a {@link MethodHandle} which takes the arguments given by
+ * the policy chains (request, response, policy chain and execution context) and permutes them according to the
+ * declared parameter types of the method. Any other argument layout is mapped by type on each invocation.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public final class PolicyInvoker {
+
+    /**
+     * Arguments given by the policy chains, in order.
+     */
+    private static final Class<?>[] CHAIN_ARGUMENT_TYPES = new Class<?>[] {
+            Request.class, Response.class, PolicyChain.class, ExecutionContext.class };
+
+    private final Method method;
+
+    private final Class<?>[] parameterTypes;
+
+    /**
+     * (Object target, Object request, Object response, Object chain, Object context)Object
+     */
+    private final MethodHandle handle;
+
+    private PolicyInvoker(Method method) {
+        this.method = method;
+        this.parameterTypes = method.getParameterTypes();
+        this.handle = bind(method);
+    }
+
+    /**
+     * Invokers are kept along with the class declaring the method, so that they can be unloaded with the policy
+     * classloader.
+     */
+    private static final ClassValue<ConcurrentMap<Method, PolicyInvoker>> INVOKERS =
+            new ClassValue<ConcurrentMap<Method, PolicyInvoker>>() {
+                @Override
+                protected ConcurrentMap<Method, PolicyInvoker> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    public static PolicyInvoker of(Method method) {
+        return INVOKERS.get(method.getDeclaringClass()).computeIfAbsent(method, PolicyInvoker::new);
+    }
+
+    public Method method() {
+        return method;
+    }
+
+    public Object invoke(Object target, Object... args) throws PolicyException {
+        try {
+            if (args.length == 4 && args[0] instanceof Request && args[1] instanceof Response &&
+                    args[2] instanceof PolicyChain && args[3] instanceof ExecutionContext) {
+                return (Object) handle.invokeExact(target, args[0], args[1], args[2], args[3]);
+            }
+
+            Object[] parameters = new Object[parameterTypes.length];
+
+            // Map parameters according to parameter's type
+            for (int idx = 0; idx < parameterTypes.length; idx++) {
+                parameters[idx] = getParameterAssignableTo(parameterTypes[idx], args);
+            }
+
+            return method.invoke(target, parameters);
+        } catch (Error error) {
+            // Do not hide errors (ie. OutOfMemoryError) behind a policy failure
+            throw error;
+        } catch (Throwable t) {
+            throw new PolicyException(t);
+        }
+    }
+
+    private static MethodHandle bind(Method method) {
+        MethodHandle handle;
+        try {
+            if (! method.isAccessible()) {
+                method.setAccessible(true);
+            }
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException iae) {
+            throw new IllegalStateException("Unable to access policy method " + method, iae);
+        }
+
+        Class<?>[] parameterTypes = method.getParameterTypes();
+
+        // Erase every type to Object so that the handle can be invoked exactly whatever the policy class
+        handle = handle.asType(MethodType.genericMethodType(parameterTypes.length + 1));
+
+        // The trailing argument is bound to null and used for parameters which can not be mapped
+        MethodType chainType = MethodType.genericMethodType(CHAIN_ARGUMENT_TYPES.length + 2);
+        int nullArgument = CHAIN_ARGUMENT_TYPES.length + 1;
+
+        int[] reorder = new int[parameterTypes.length + 1];
+        reorder[0] = 0;
+        for (int idx = 0; idx < parameterTypes.length; idx++) {
+            reorder[idx + 1] = nullArgument;
+            for (int arg = 0; arg < CHAIN_ARGUMENT_TYPES.length; arg++) {
+                if (parameterTypes[idx].isAssignableFrom(CHAIN_ARGUMENT_TYPES[arg])) {
+                    reorder[idx + 1] = arg + 1;
+                    break;
+                }
+            }
+        }
+
+        handle = MethodHandles.permuteArguments(handle, chainType, reorder);
+        return MethodHandles.insertArguments(handle, nullArgument, (Object) null);
+    }
+
+    private static Object getParameterAssignableTo(Class<?> paramType, Object... args) {
+        for (Object arg : args) {
+            if (paramType.isAssignableFrom(arg.getClass())) {
+                return arg;
+            }
+        }
+
+        return null;
+    }
+}
@@ -24,4 +24,11 @@ import io.gravitee.common.component.LifecycleComponent;
 public interface PolicyManager extends LifecycleComponent<PolicyManager> {
 
     Policy create(StreamType streamType, String policy, String configuration);
+
+    /**
+     * Prepares a reusable template for the given policy and configuration.
+     *
+     * @return the template, or <code>null</code> if the policy does not apply to the given stream type.
+     */
+    PolicyTemplate template(StreamType streamType, String policy, String configuration);
 }
@@ -33,4 +33,17 @@ public interface PolicyMetadata {
     Class<? extends PolicyConfiguration> configuration();
 
     Method method(Class<? extends Annotation> type);
+
+    /**
+     * The invoker of the policy method annotated with the given type, prepared once per policy class.
+     */
+    default PolicyInvoker invoker(Class<? extends Annotation> type) {
+        Method method = method(type);
+        return (method != null) ? PolicyInvoker.of(method) : null;
+    }
+
+    /**
+     * Whether a single instance of the policy can be shared by concurrent requests.
+     */
+    default boolean threadSafe() { return false; }
 }
@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.policy;
+
+/**
+ * A policy prepared once, when the API is deployed, from its plugin and configuration.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public interface PolicyTemplate {
+
+    /**
+     * Returns the policy to add to a policy chain. Thread-safe policies are returned as a single shared instance,
+     * other policies are instantiated on each call.
+     */
+    Policy create();
+
+    /**
+     * Whether {@link #create()} always returns the same policy instance.
+     */
+    default boolean isShared() { return false; }
+}
@@ -40,10 +40,16 @@ import org.springframework.core.ResolvableType;
 import org.springframework.util.ClassUtils;
 
 import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 /**
@@ -64,8 +70,20 @@ public class DefaultPolicyManager extends AbstractLifecycleComponent<PolicyManag
     @Autowired
     private PolicyConfigurationFactory policyConfigurationFactory;
 
+    /**
+     * Fully-qualified names of the class-level annotations by which a policy declares that a single instance can be
+     * shared by concurrent requests.
+     */
+    private static final Set<String> THREAD_SAFE_ANNOTATIONS = new HashSet<>(Arrays.asList(
+            "javax.annotation.concurrent.ThreadSafe",
+            "net.jcip.annotations.ThreadSafe"));
+
+    private static final PolicyTemplate NO_TEMPLATE = () -> null;
+
     private final Map<String, RegisteredPolicy> policies = new HashMap<>();
 
+    private final ConcurrentMap<TemplateKey, PolicyTemplate> templates = new ConcurrentHashMap<>();
+
     @Override
     protected void doStart() throws Exception {
         // Init required policies
@@ -87,6 +105,7 @@ public class DefaultPolicyManager extends AbstractLifecycleComponent<PolicyManag
         });
 
         // Be sure to remove all references to policies
+        templates.clear();
         policies.clear();
     }
 
@@ -139,7 +158,8 @@ public class DefaultPolicyManager extends AbstractLifecycleComponent<PolicyManag
 
                 builder
                         .setPolicy(policyClass)
-                        .setMethods(new PolicyMethodResolver().resolve(policyClass));
+                        .setMethods(new PolicyMethodResolver().resolve(policyClass))
+                        .setThreadSafe(isThreadSafe(policyClass));
 
                 if (policyPlugin.configuration() != null) {
                     builder.setConfiguration((Class<? extends PolicyConfiguration>) ClassUtils.forName(policyPlugin.configuration().getName(), policyClassLoader));
@@ -166,26 +186,108 @@ public class DefaultPolicyManager extends AbstractLifecycleComponent<PolicyManag
 
     @Override
     public io.gravitee.gateway.policy.Policy create(StreamType streamType, String policy, String configuration) {
-        RegisteredPolicy registeredPolicy = policies.get(policy);
-        PolicyMetadata policyMetadata = (registeredPolicy != null) ? registeredPolicy.metadata : null;
+        PolicyTemplate template = template(streamType, policy, configuration);
+        return (template != null) ? template.create() : null;
+    }
+
+    @Override
+    public PolicyTemplate template(StreamType streamType, String policy, String configuration) {
+        PolicyTemplate template = templates.computeIfAbsent(
+                new TemplateKey(streamType, policy, configuration), this::createTemplate);
+
+        return (template != NO_TEMPLATE) ? template : null;
+    }
+
+    private PolicyTemplate createTemplate(TemplateKey key) {
+        RegisteredPolicy registeredPolicy = policies.get(key.policy);
+        if (registeredPolicy == null) {
+            throw new IllegalStateException("Policy [" + key.policy + "] has not been loaded");
+        }
+
+        PolicyMetadata policyMetadata = registeredPolicy.metadata;
 
-        if ((streamType == StreamType.ON_REQUEST &&
+        if ((key.streamType == StreamType.ON_REQUEST &&
                 (policyMetadata.method(OnRequest.class) != null || policyMetadata.method(OnRequestContent.class) != null)) ||
-                (streamType == StreamType.ON_RESPONSE && (
+                (key.streamType == StreamType.ON_RESPONSE && (
                         policyMetadata.method(OnResponse.class) != null || policyMetadata.method(OnResponseContent.class) != null))) {
-            PolicyConfiguration policyConfiguration = policyConfigurationFactory.create(
-                    policyMetadata.configuration(), configuration);
+            if (policyMetadata.threadSafe()) {
+                logger.debug("Policy {} is thread-safe, a single instance is shared by all requests", policyMetadata.id());
+                return new SharedPolicyTemplate(newPolicy(policyMetadata, key.configuration));
+            }
+
+            // A policy which is not thread-safe may also mutate its configuration: each instance gets the one
+            // provided by the configuration factory, as it would without template.
+            return () -> newPolicy(policyMetadata, key.configuration);
+        }
 
-            Object policyInst = policyFactory.create(policyMetadata, policyConfiguration);
+        return NO_TEMPLATE;
+    }
+
+    private io.gravitee.gateway.policy.Policy newPolicy(PolicyMetadata policyMetadata, String configuration) {
+        PolicyConfiguration policyConfiguration = policyConfigurationFactory.create(
+                policyMetadata.configuration(), configuration);
+        Object policyInst = policyFactory.create(policyMetadata, policyConfiguration);
+
+        logger.debug("Policy {} has been added to the policy chain", policyMetadata.id());
+        return PolicyImpl
+                .target(policyInst)
+                .definition(policyMetadata)
+                .build();
+    }
 
-            logger.debug("Policy {} has been added to the policy chain", policyMetadata.id());
-            return PolicyImpl
-                    .target(policyInst)
-                    .definition(policyMetadata)
-                    .build();
+    static boolean isThreadSafe(Class<?> policyClass) {
+        for (Annotation annotation : policyClass.getAnnotations()) {
+            if (THREAD_SAFE_ANNOTATIONS.contains(annotation.annotationType().getName())) {
+                return true;
+            }
         }
 
-        return null;
+        return false;
+    }
+
+    private static class SharedPolicyTemplate implements PolicyTemplate {
+        private final io.gravitee.gateway.policy.Policy policy;
+
+        SharedPolicyTemplate(io.gravitee.gateway.policy.Policy policy) {
+            this.policy = policy;
+        }
+
+        @Override
+        public io.gravitee.gateway.policy.Policy create() {
+            return policy;
+        }
+
+        @Override
+        public boolean isShared() {
+            return true;
+        }
+    }
+
+    private static class TemplateKey {
+        private final StreamType streamType;
+        private final String policy;
+        private final String configuration;
+
+        TemplateKey(StreamType streamType, String policy, String configuration) {
+            this.streamType = streamType;
+            this.policy = policy;
+            this.configuration = configuration;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            TemplateKey that = (TemplateKey) o;
+            return streamType == that.streamType &&
+                    Objects.equals(policy, that.policy) &&
+                    Objects.equals(configuration, that.configuration);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(streamType, policy, configuration);
+        }
     }
 
     private static class RegisteredPolicy {
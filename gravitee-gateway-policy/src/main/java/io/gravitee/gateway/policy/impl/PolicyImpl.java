@@ -18,12 +18,14 @@ package io.gravitee.gateway.policy.impl;
 import io.gravitee.gateway.api.stream.ReadWriteStream;
 import io.gravitee.gateway.policy.AbstractPolicy;
 import io.gravitee.gateway.policy.PolicyException;
+import io.gravitee.gateway.policy.PolicyInvoker;
 import io.gravitee.gateway.policy.PolicyMetadata;
 import io.gravitee.policy.api.annotations.OnRequest;
 import io.gravitee.policy.api.annotations.OnRequestContent;
 import io.gravitee.policy.api.annotations.OnResponse;
 import io.gravitee.policy.api.annotations.OnResponseContent;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 
 /**
@@ -46,17 +48,17 @@ public class PolicyImpl extends AbstractPolicy {
 
     @Override
     public void onRequest(Object ... args) throws PolicyException {
-        invoke(policyMetadata.method(OnRequest.class), args);
+        invoke(OnRequest.class, args);
     }
 
     @Override
     public void onResponse(Object ... args) throws PolicyException {
-        invoke(policyMetadata.method(OnResponse.class), args);
+        invoke(OnResponse.class, args);
     }
 
     @Override
     public ReadWriteStream<?> onResponseContent(Object ... args) throws PolicyException {
-        Object stream = invoke(policyMetadata.method(OnResponseContent.class), args);
+        Object stream = invoke(OnResponseContent.class, args);
         return (stream != null) ? (ReadWriteStream) stream : null;
     }
 
@@ -74,30 +76,24 @@ public class PolicyImpl extends AbstractPolicy {
 
     @Override
     public ReadWriteStream<?> onRequestContent(Object ... args) throws PolicyException {
-        Object stream = invoke(policyMetadata.method(OnRequestContent.class), args);
+        Object stream = invoke(OnRequestContent.class, args);
         return (stream != null) ? (ReadWriteStream) stream : null;
     }
 
-    private Object invoke(Method invokedMethod, Object ... args) throws PolicyException {
-        if (invokedMethod != null) {
-            Class<?>[] parametersType = invokedMethod.getParameterTypes();
-            Object[] parameters = new Object[parametersType.length];
+    private Object invoke(Class<? extends Annotation> type, Object ... args) throws PolicyException {
+        PolicyInvoker invoker = policyMetadata.invoker(type);
 
-            int idx = 0;
-
-            // Map parameters according to parameter's type
-            for (Class<?> paramType : parametersType) {
-                parameters[idx++] = getParameterAssignableTo(paramType, args);
+        if (invoker == null) {
+            // Metadata may not provide prepared invokers, fall back to the ones cached per policy method
+            Method invokedMethod = policyMetadata.method(type);
+            if (invokedMethod == null) {
+                return null;
             }
 
-            try {
-                return invokedMethod.invoke(policyInst, parameters);
-            } catch (Exception ex) {
-                throw new PolicyException(ex);
-            }
+            invoker = PolicyInvoker.of(invokedMethod);
         }
 
-        return null;
+        return invoker.invoke(policyInst, args);
     }
 
     public static Builder target(Object policyInstance) {
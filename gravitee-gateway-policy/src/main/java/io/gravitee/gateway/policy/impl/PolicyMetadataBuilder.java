@@ -15,11 +15,13 @@
  */
 package io.gravitee.gateway.policy.impl;
 
+import io.gravitee.gateway.policy.PolicyInvoker;
 import io.gravitee.gateway.policy.PolicyMetadata;
 import io.gravitee.policy.api.PolicyConfiguration;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -36,6 +38,8 @@ public class PolicyMetadataBuilder {
 
     private Map<Class<? extends Annotation>, Method> methods;
 
+    private boolean threadSafe;
+
     public PolicyMetadataBuilder setId(String id) {
         this.id = id;
         return this;
@@ -56,7 +60,17 @@ public class PolicyMetadataBuilder {
         return this;
     }
 
+    public PolicyMetadataBuilder setThreadSafe(boolean threadSafe) {
+        this.threadSafe = threadSafe;
+        return this;
+    }
+
     public PolicyMetadata build() {
+        Map<Class<? extends Annotation>, PolicyInvoker> invokers = new HashMap<>();
+        if (methods != null) {
+            methods.forEach((type, method) -> invokers.put(type, PolicyInvoker.of(method)));
+        }
+
         return new PolicyMetadata() {
             @Override
             public String id() {
@@ -77,6 +91,16 @@ public class PolicyMetadataBuilder {
             public Method method(Class<? extends Annotation> type) {
                 return methods.get(type);
             }
+
+            @Override
+            public PolicyInvoker invoker(Class<? extends Annotation> type) {
+                return invokers.get(type);
+            }
+
+            @Override
+            public boolean threadSafe() {
+                return threadSafe;
+            }
         };
     }
 }
@@ -25,6 +25,7 @@ import io.gravitee.gateway.core.processor.ProcessorFailure;
 import io.gravitee.gateway.core.processor.StreamableProcessor;
 import io.gravitee.gateway.policy.Policy;
 import io.gravitee.policy.api.PolicyResult;
+import io.netty.util.ReferenceCountUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -106,8 +107,11 @@ public abstract class StreamablePolicyChain extends PolicyChain {
     public StreamablePolicyChain write(Buffer chunk) {
         if (streamablePolicyHandlerChain != null) {
             streamablePolicyHandlerChain.write(chunk);
-        } else {
+        } else if (bodyHandler != null) {
             this.bodyHandler.handle(chunk);
+        } else {
+            // Nobody consumes this chunk, give it back to its pool (if any)
+            ReferenceCountUtil.release(chunk);
         }
 
         return this;
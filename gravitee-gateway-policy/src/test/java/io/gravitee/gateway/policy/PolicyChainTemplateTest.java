@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.policy;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class PolicyChainTemplateTest {
+
+    @Test
+    public void shouldBeEmpty() {
+        PolicyChainTemplate template = PolicyChainTemplate.of(Collections.emptyList());
+
+        Assert.assertTrue(template.isEmpty());
+        Assert.assertTrue(template.policies().isEmpty());
+    }
+
+    @Test
+    public void shouldReuseSharedPolicies() {
+        PolicyTemplate policyTemplate1 = sharedTemplate(mock(Policy.class));
+        PolicyTemplate policyTemplate2 = sharedTemplate(mock(Policy.class));
+
+        PolicyChainTemplate template = PolicyChainTemplate.of(Arrays.asList(policyTemplate1, policyTemplate2));
+
+        List<Policy> policies = template.policies();
+        Assert.assertEquals(2, policies.size());
+        Assert.assertSame(policies, template.policies());
+        Mockito.verify(policyTemplate1, Mockito.times(1)).create();
+    }
+
+    @Test
+    public void shouldCreateNonSharedPolicies() {
+        Policy sharedPolicy = mock(Policy.class);
+        PolicyTemplate policyTemplate1 = sharedTemplate(sharedPolicy);
+        PolicyTemplate policyTemplate2 = mock(PolicyTemplate.class);
+        when(policyTemplate2.create()).thenAnswer(invocation -> mock(Policy.class));
+
+        PolicyChainTemplate template = PolicyChainTemplate.of(Arrays.asList(policyTemplate1, policyTemplate2));
+
+        List<Policy> policies1 = template.policies();
+        List<Policy> policies2 = template.policies();
+
+        Assert.assertSame(sharedPolicy, policies1.get(0));
+        Assert.assertSame(sharedPolicy, policies2.get(0));
+        Assert.assertNotSame(policies1.get(1), policies2.get(1));
+    }
+
+    private PolicyTemplate sharedTemplate(Policy policy) {
+        PolicyTemplate template = mock(PolicyTemplate.class);
+        when(template.isShared()).thenReturn(true);
+        when(template.create()).thenReturn(policy);
+        return template;
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.policy;
+
+import io.gravitee.gateway.api.ExecutionContext;
+import io.gravitee.gateway.api.Request;
+import io.gravitee.gateway.api.Response;
+import io.gravitee.policy.api.PolicyChain;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class PolicyInvokerTest {
+
+    private final Request request = mock(Request.class);
+    private final Response response = mock(Response.class);
+    private final PolicyChain policyChain = mock(PolicyChain.class);
+    private final ExecutionContext executionContext = mock(ExecutionContext.class);
+
+    @Test
+    public void shouldPermuteChainArguments() throws Exception {
+        DummyPolicy policy = spy(new DummyPolicy());
+        PolicyInvoker invoker = PolicyInvoker.of(
+                DummyPolicy.class.getMethod("onRequest", PolicyChain.class, Request.class, Response.class));
+
+        invoker.invoke(policy, request, response, policyChain, executionContext);
+
+        verify(policy).onRequest(policyChain, request, response);
+    }
+
+    @Test
+    public void shouldMapOtherArgumentsByType() throws Exception {
+        DummyPolicy policy = spy(new DummyPolicy());
+        PolicyInvoker invoker = PolicyInvoker.of(
+                DummyPolicy.class.getMethod("onResponse", Request.class, Response.class, PolicyChain.class));
+
+        invoker.invoke(policy, policyChain, request);
+
+        verify(policy).onResponse(request, null, policyChain);
+    }
+
+    @Test
+    public void shouldReuseInvokerOfMethod() throws Exception {
+        PolicyInvoker invoker = PolicyInvoker.of(
+                DummyPolicy.class.getMethod("onRequest", PolicyChain.class, Request.class, Response.class));
+
+        Assert.assertSame(invoker, PolicyInvoker.of(
+                DummyPolicy.class.getMethod("onRequest", PolicyChain.class, Request.class, Response.class)));
+    }
+
+    @Test(expected = PolicyException.class)
+    public void shouldWrapPolicyFailure() throws Exception {
+        DummyPolicy policy = mock(DummyPolicy.class);
+        doThrow(new IllegalStateException()).when(policy).onRequest(policyChain, request, response);
+
+        PolicyInvoker invoker = PolicyInvoker.of(
+                DummyPolicy.class.getMethod("onRequest", PolicyChain.class, Request.class, Response.class));
+
+        invoker.invoke(policy, request, response, policyChain, executionContext);
+    }
+
+    @Test(expected = StackOverflowError.class)
+    public void shouldNotWrapError() throws Exception {
+        DummyPolicy policy = mock(DummyPolicy.class);
+        doThrow(new StackOverflowError()).when(policy).onRequest(policyChain, request, response);
+
+        PolicyInvoker invoker = PolicyInvoker.of(
+                DummyPolicy.class.getMethod("onRequest", PolicyChain.class, Request.class, Response.class));
+
+        invoker.invoke(policy, request, response, policyChain, executionContext);
+    }
+}
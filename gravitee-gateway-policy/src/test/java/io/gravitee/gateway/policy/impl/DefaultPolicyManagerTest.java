@@ -0,0 +1,50 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.policy.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class DefaultPolicyManagerTest {
+
+    @Test
+    public void shouldNotBeThreadSafeWithoutAnnotation() {
+        Assert.assertFalse(DefaultPolicyManager.isThreadSafe(StatefulPolicy.class));
+    }
+
+    @Test
+    public void shouldNotBeThreadSafeWithUnrelatedAnnotation() {
+        Assert.assertFalse(DefaultPolicyManager.isThreadSafe(UnrelatedThreadSafePolicy.class));
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface ThreadSafe {
+    }
+
+    static class StatefulPolicy {
+    }
+
+    @ThreadSafe
+    static class UnrelatedThreadSafePolicy {
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactor.handler;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An immutable, segment-based tree of {@link ReactorHandler}s indexed by their context path.
+ *
+ * A lookup walks the request path segment by segment and returns the handler registered for the longest
+ * matching context path. Children are stored in an open-addressing table keyed by the {@link String#hashCode()}
+ * of each segment, which is computed directly over the request path so that a lookup does not allocate.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public final class ContextPathTree {
+
+    private static final char SEPARATOR = '/';
+
+    private static final ContextPathTree EMPTY = new ContextPathTree(new Node(null, null, null));
+
+    private final Node root;
+
+    private ContextPathTree(Node root) {
+        this.root = root;
+    }
+
+    public static ContextPathTree empty() {
+        return EMPTY;
+    }
+
+    public static ContextPathTree build(Collection<ReactorHandler> handlers) {
+        if (handlers == null || handlers.isEmpty()) {
+            return EMPTY;
+        }
+
+        NodeBuilder root = new NodeBuilder();
+        for (ReactorHandler handler : handlers) {
+            String contextPath = handler.contextPath();
+            if (contextPath == null || contextPath.isEmpty() || contextPath.charAt(0) != SEPARATOR) {
+                continue;
+            }
+
+            NodeBuilder node = root;
+            int start = 1;
+            int length = contextPath.length();
+            while (start < length) {
+                int end = contextPath.indexOf(SEPARATOR, start);
+                if (end == -1) {
+                    end = length;
+                }
+                node = node.children.computeIfAbsent(contextPath.substring(start, end), s -> new NodeBuilder());
+                start = end + 1;
+            }
+            node.handler = handler;
+        }
+
+        return new ContextPathTree(root.build());
+    }
+
+    /**
+     * Returns the handler registered for the longest context path matching the given request path, or
+     * <code>null</code> if none. A context path matches when it is a segment-wise prefix of the request path,
+     * regardless of a trailing separator on the request path.
+     */
+    public ReactorHandler resolve(String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != SEPARATOR) {
+            return null;
+        }
+
+        Node node = root;
+        ReactorHandler handler = node.handler;
+        int start = 1;
+        int length = path.length();
+
+        while (start < length) {
+            int end = start;
+            int hash = 0;
+            char c;
+            while (end < length && (c = path.charAt(end)) != SEPARATOR) {
+                hash = 31 * hash + c;
+                end++;
+            }
+
+            node = node.child(path, start, end, hash);
+            if (node == null) {
+                break;
+            }
+
+            if (node.handler != null) {
+                handler = node.handler;
+            }
+            start = end + 1;
+        }
+
+        return handler;
+    }
+
+    private static final class Node {
+
+        private final ReactorHandler handler;
+        private final String[] keys;
+        private final Node[] children;
+
+        private Node(ReactorHandler handler, String[] keys, Node[] children) {
+            this.handler = handler;
+            this.keys = keys;
+            this.children = children;
+        }
+
+        private Node child(String path, int start, int end, int hash) {
+            if (keys == null) {
+                return null;
+            }
+
+            int len = end - start;
+            int mask = keys.length - 1;
+            int idx = spread(hash) & mask;
+            String key;
+            while ((key = keys[idx]) != null) {
+                if (key.length() == len && key.hashCode() == hash && path.regionMatches(start, key, 0, len)) {
+                    return children[idx];
+                }
+                idx = (idx + 1) & mask;
+            }
+
+            return null;
+        }
+    }
+
+    private static final class NodeBuilder {
+
+        private ReactorHandler handler;
+        private final Map<String, NodeBuilder> children = new LinkedHashMap<>();
+
+        private Node build() {
+            if (children.isEmpty()) {
+                return new Node(handler, null, null);
+            }
+
+            // Keep the load factor under 0.5 so that probe sequences stay short
+            int capacity = Integer.highestOneBit(children.size()) << 2;
+            int mask = capacity - 1;
+            String[] keys = new String[capacity];
+            Node[] nodes = new Node[capacity];
+
+            for (Map.Entry<String, NodeBuilder> entry : children.entrySet()) {
+                int idx = spread(entry.getKey().hashCode()) & mask;
+                while (keys[idx] != null) {
+                    idx = (idx + 1) & mask;
+                }
+                keys[idx] = entry.getKey();
+                nodes[idx] = entry.getValue().build();
+            }
+
+            return new Node(handler, keys, nodes);
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
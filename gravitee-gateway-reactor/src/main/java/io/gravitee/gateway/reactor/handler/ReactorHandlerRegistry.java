@@ -34,4 +34,10 @@ public interface ReactorHandlerRegistry {
     void clear();
 
     Collection<ReactorHandler> getReactorHandlers();
+
+    /**
+     * @return the registered handlers indexed by their context path, rebuilt each time a handler is registered or
+     * removed.
+     */
+    ContextPathTree getContextPathTree();
 }
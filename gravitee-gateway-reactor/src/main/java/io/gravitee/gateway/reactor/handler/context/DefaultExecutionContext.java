@@ -21,7 +21,8 @@ import io.gravitee.gateway.api.Response;
 import io.gravitee.gateway.api.expression.TemplateContext;
 import io.gravitee.gateway.api.expression.TemplateEngine;
 import io.gravitee.gateway.api.expression.TemplateVariableProvider;
-import io.gravitee.gateway.el.SpelTemplateEngine;
+import io.gravitee.gateway.el.CachedTemplateEngine;
+import io.gravitee.gateway.el.ExpressionCache;
 import org.springframework.context.ApplicationContext;
 
 import java.util.*;
@@ -44,9 +45,13 @@ public class DefaultExecutionContext implements ExecutionContext {
 
     private final ApplicationContext applicationContext;
 
-    private Collection<TemplateVariableProvider> providers;
+    private ExpressionCache expressionCache;
 
-    private SpelTemplateEngine spelTemplateEngine;
+    private Map<String, TemplateVariableProvider> providers = Collections.emptyMap();
+
+    private Collection<TemplateVariableProvider> eagerProviders = Collections.emptyList();
+
+    private TemplateEngine templateEngine;
 
     DefaultExecutionContext(final Request request, final Response response, ApplicationContext applicationContext) {
         this.request = request;
@@ -83,28 +88,32 @@ public class DefaultExecutionContext implements ExecutionContext {
 
     @Override
     public TemplateEngine getTemplateEngine() {
-        if (spelTemplateEngine == null) {
-            spelTemplateEngine = new SpelTemplateEngine();
+        if (templateEngine == null) {
+            templateEngine = new CachedTemplateEngine(expressionCache, providers);
 
-            TemplateContext templateContext = spelTemplateEngine.getTemplateContext();
+            TemplateContext templateContext = templateEngine.getTemplateContext();
             templateContext.setVariable(TEMPLATE_ATTRIBUTE_REQUEST, new EvaluableRequest(request));
             templateContext.setVariable(TEMPLATE_ATTRIBUTE_RESPONSE, new EvaluableResponse(response));
             templateContext.setVariable(TEMPLATE_ATTRIBUTE_CONTEXT, new EvaluableExecutionContext(this));
 
-            if (providers != null) {
-                providers.forEach(templateVariableProvider -> templateVariableProvider.provide(templateContext));
-            }
+            eagerProviders.forEach(templateVariableProvider -> templateVariableProvider.provide(templateContext));
         }
 
-        return spelTemplateEngine;
+        return templateEngine;
     }
 
     public Map<String, Object> getAttributes() {
         return this.attributes;
     }
 
-    void setProviders(Collection<TemplateVariableProvider> providers) {
+    void setExpressionCache(ExpressionCache expressionCache) {
+        this.expressionCache = expressionCache;
+    }
+
+    void setProviders(Map<String, TemplateVariableProvider> providers,
+                      Collection<TemplateVariableProvider> eagerProviders) {
         this.providers = providers;
+        this.eagerProviders = eagerProviders;
     }
 
     private class AttributeMap extends HashMap<String, Object> {
@@ -18,12 +18,17 @@ package io.gravitee.gateway.reactor.handler.context;
 import io.gravitee.gateway.api.ExecutionContext;
 import io.gravitee.gateway.api.Request;
 import io.gravitee.gateway.api.Response;
+import io.gravitee.gateway.api.expression.TemplateContext;
 import io.gravitee.gateway.api.expression.TemplateVariableProvider;
+import io.gravitee.gateway.el.ExpressionCache;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -37,16 +42,67 @@ public class ExecutionContextFactory implements InitializingBean {
     @Autowired
     private TemplateVariableProviderFactory templateVariableProviderFactory;
 
-    private List<TemplateVariableProvider> providers;
+    /**
+     * Template expressions are mostly read from the configuration of the API, the cache only has to hold a few of
+     * them.
+     */
+    private static final int EXPRESSION_CACHE_SIZE = 1000;
+
+    private ExpressionCache expressionCache;
+
+    /**
+     * Providers indexed by the name of the variables they provide, so that they are only invoked when an
+     * expression references them.
+     */
+    private final Map<String, TemplateVariableProvider> providers = new HashMap<>();
+
+    /**
+     * Providers whose variables are not known, they are invoked for each template engine.
+     */
+    private final List<TemplateVariableProvider> eagerProviders = new ArrayList<>();
 
     @Override
     public void afterPropertiesSet() throws Exception {
-        providers = templateVariableProviderFactory.getTemplateVariableProviders();
+        expressionCache = new ExpressionCache(applicationContext.getClassLoader(), EXPRESSION_CACHE_SIZE);
+
+        for (TemplateVariableProvider provider : templateVariableProviderFactory.getTemplateVariableProviders()) {
+            if (provider == null) {
+                continue;
+            }
+
+            VariableNamesCollector collector = new VariableNamesCollector();
+            provider.provide(collector);
+
+            if (collector.names.isEmpty()) {
+                eagerProviders.add(provider);
+            } else {
+                collector.names.forEach(name -> providers.put(name, provider));
+            }
+        }
     }
 
     public ExecutionContext create(Request request, Response response) {
         DefaultExecutionContext context = new DefaultExecutionContext(request, response, applicationContext);
-        context.setProviders(providers);
+        context.setExpressionCache(expressionCache);
+        context.setProviders(providers, eagerProviders);
         return context;
     }
+
+    /**
+     * Records the name of the variables set by a provider.
+     */
+    private static class VariableNamesCollector implements TemplateContext {
+
+        private final List<String> names = new ArrayList<>(2);
+
+        @Override
+        public void setVariable(String name, Object value) {
+            names.add(name);
+        }
+
+        @Override
+        public Object lookupVariable(String name) {
+            return null;
+        }
+    }
 }
@@ -17,11 +17,14 @@ package io.gravitee.gateway.reactor.handler.impl;
 
 import io.gravitee.common.spring.factory.SpringFactoriesLoader;
 import io.gravitee.gateway.reactor.Reactable;
+import io.gravitee.gateway.reactor.handler.ContextPathTree;
 import io.gravitee.gateway.reactor.handler.ReactorHandler;
 import io.gravitee.gateway.reactor.handler.ReactorHandlerFactory;
 import io.gravitee.gateway.reactor.handler.ReactorHandlerRegistry;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -37,6 +40,16 @@ public class DefaultReactorHandlerRegistry extends SpringFactoriesLoader<Reactor
     private final ConcurrentMap<String, ReactorHandler> handlers = new ConcurrentHashMap<>();
     private final ConcurrentMap<Object, String> contextPaths = new ConcurrentHashMap<>();
 
+    /**
+     * Immutable view of the registered handlers, replaced each time a handler is registered or removed.
+     */
+    private volatile Collection<ReactorHandler> snapshot = Collections.emptyList();
+
+    /**
+     * Tree of the registered handlers used to resolve the handler of a request, replaced along with the snapshot.
+     */
+    private volatile ContextPathTree contextPathTree = ContextPathTree.empty();
+
     @Override
     public void create(Reactable reactable) {
         logger.info("Creating a new handler for {}", reactable.item());
@@ -51,6 +64,7 @@ public class DefaultReactorHandlerRegistry extends SpringFactoriesLoader<Reactor
         logger.info("Registering a new handler for {} on path {}", handler.reactable(), handler.contextPath());
         handlers.put(handler.contextPath(), handler);
         contextPaths.put(handler.reactable(), handler.contextPath());
+        refresh();
     }
 
     private ReactorHandler prepare(Reactable reactable) {
@@ -83,6 +97,7 @@ public class DefaultReactorHandlerRegistry extends SpringFactoriesLoader<Reactor
             if (newHandler != null) {
                 ReactorHandler previousHandler = handlers.remove(contextPath);
 
+                // Registering the new handler refreshes the snapshot for both the removal and the addition
                 register(newHandler);
 
                 if (previousHandler != null) {
@@ -104,6 +119,7 @@ public class DefaultReactorHandlerRegistry extends SpringFactoriesLoader<Reactor
         String contextPath = contextPaths.remove(reactable);
         if (contextPath != null) {
             ReactorHandler handler = handlers.remove(contextPath);
+            refresh();
 
             if (handler != null) {
                 try {
@@ -128,11 +144,23 @@ public class DefaultReactorHandlerRegistry extends SpringFactoriesLoader<Reactor
             }
         });
         contextPaths.clear();
+        refresh();
     }
 
     @Override
     public Collection<ReactorHandler> getReactorHandlers() {
-        return handlers.values();
+        return snapshot;
+    }
+
+    @Override
+    public ContextPathTree getContextPathTree() {
+        return contextPathTree;
+    }
+
+    private synchronized void refresh() {
+        Collection<ReactorHandler> handlers = Collections.unmodifiableList(new ArrayList<>(this.handlers.values()));
+        contextPathTree = ContextPathTree.build(handlers);
+        snapshot = handlers;
     }
 
     private ReactorHandler create0(Reactable reactable) {
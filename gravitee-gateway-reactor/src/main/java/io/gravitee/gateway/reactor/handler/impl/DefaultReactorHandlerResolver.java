@@ -36,27 +36,13 @@ public class DefaultReactorHandlerResolver implements ReactorHandlerResolver {
 
     @Override
     public ReactorHandler resolve(Request request) {
-        StringBuilder path = new StringBuilder(request.path());
-
-        if (path.charAt(path.length() - 1) != '/') {
-            path.append('/');
-        }
-
-        String sPath = path.toString();
-
-        ReactorHandler handler = null;
-        for (ReactorHandler reactorHandler : handlerRegistry.getReactorHandlers()) {
-            if (sPath.startsWith(reactorHandler.contextPath())) {
-                handler = reactorHandler;
-                break;
-            }
-        }
+        String path = request.path();
+        ReactorHandler handler = handlerRegistry.getContextPathTree().resolve(path);
 
         if (handler != null) {
-            LOGGER.debug("Returning the first handler matching path {} : {}", sPath, handler);
-            return handler;
+            LOGGER.debug("Returning the handler matching path {} : {}", path, handler);
         }
 
-        return null;
+        return handler;
     }
 }
@@ -63,7 +63,7 @@ public class ReactorHandlerResolverTest {
                     }
                 }
         );
-        when(handlerRegistry.getReactorHandlers()).thenReturn(handlers);
+        when(handlerRegistry.getContextPathTree()).thenReturn(ContextPathTree.build(handlers));
 
         Request request = Mockito.mock(Request.class);
         when(request.path()).thenReturn("/teams");
@@ -81,7 +81,7 @@ public class ReactorHandlerResolverTest {
                     }
                 }
         );
-        when(handlerRegistry.getReactorHandlers()).thenReturn(handlers);
+        when(handlerRegistry.getContextPathTree()).thenReturn(ContextPathTree.build(handlers));
 
         Request request = Mockito.mock(Request.class);
         when(request.path()).thenReturn("/team");
@@ -100,7 +100,7 @@ public class ReactorHandlerResolverTest {
                     }
                 }
         );
-        when(handlerRegistry.getReactorHandlers()).thenReturn(handlers);
+        when(handlerRegistry.getContextPathTree()).thenReturn(ContextPathTree.build(handlers));
 
         Request request = Mockito.mock(Request.class);
         when(request.path()).thenReturn("/teams");
@@ -119,7 +119,7 @@ public class ReactorHandlerResolverTest {
                     }
                 }
         );
-        when(handlerRegistry.getReactorHandlers()).thenReturn(handlers);
+        when(handlerRegistry.getContextPathTree()).thenReturn(ContextPathTree.build(handlers));
 
         Request request = Mockito.mock(Request.class);
         when(request.path()).thenReturn("/team");
@@ -138,7 +138,7 @@ public class ReactorHandlerResolverTest {
                     }
                 }
         );
-        when(handlerRegistry.getReactorHandlers()).thenReturn(handlers);
+        when(handlerRegistry.getContextPathTree()).thenReturn(ContextPathTree.build(handlers));
 
         Request request = Mockito.mock(Request.class);
         when(request.path()).thenReturn("/teamss");
@@ -157,7 +157,7 @@ public class ReactorHandlerResolverTest {
                     }
                 }
         );
-        when(handlerRegistry.getReactorHandlers()).thenReturn(handlers);
+        when(handlerRegistry.getContextPathTree()).thenReturn(ContextPathTree.build(handlers));
 
         Request request = Mockito.mock(Request.class);
         when(request.path()).thenReturn("/teams/");
@@ -176,7 +176,7 @@ public class ReactorHandlerResolverTest {
                     }
                 }
         );
-        when(handlerRegistry.getReactorHandlers()).thenReturn(handlers);
+        when(handlerRegistry.getContextPathTree()).thenReturn(ContextPathTree.build(handlers));
 
         Request request = Mockito.mock(Request.class);
         Mockito.when(request.path()).thenReturn("/teamss/");
@@ -185,6 +185,45 @@ public class ReactorHandlerResolverTest {
         Assert.assertNull(handler);
     }
 
+    @Test
+    public void test_multipleContextPath_longestPrefix() {
+        Collection<ReactorHandler> handlers = new ArrayList<>(
+                new ArrayList<ReactorHandler>() {
+                    {
+                        add(createMockHandler("/teams"));
+                        add(createMockHandler("/teams/members"));
+                        add(createMockHandler("/teams/members/v2"));
+                    }
+                }
+        );
+        when(handlerRegistry.getContextPathTree()).thenReturn(ContextPathTree.build(handlers));
+
+        Request request = Mockito.mock(Request.class);
+        when(request.path()).thenReturn("/teams/members/1234");
+
+        ReactorHandler handler = handlerResolver.resolve(request);
+        Assert.assertEquals("/teams/members/", handler.contextPath());
+    }
+
+    @Test
+    public void test_rootContextPath() {
+        Collection<ReactorHandler> handlers = new ArrayList<>(
+                new ArrayList<ReactorHandler>() {
+                    {
+                        add(createMockHandler(""));
+                        add(createMockHandler("/teams"));
+                    }
+                }
+        );
+        when(handlerRegistry.getContextPathTree()).thenReturn(ContextPathTree.build(handlers));
+
+        Request request = Mockito.mock(Request.class);
+        when(request.path()).thenReturn("/team");
+
+        ReactorHandler handler = handlerResolver.resolve(request);
+        Assert.assertEquals("/", handler.contextPath());
+    }
+
     private ReactorHandler createMockHandler(String contextPath) {
         ReactorHandler handler = mock(ReactorHandler.class);
         when(handler.contextPath()).thenReturn(contextPath + '/');
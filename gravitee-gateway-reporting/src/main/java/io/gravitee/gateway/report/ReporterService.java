@@ -15,13 +15,14 @@
  */
 package io.gravitee.gateway.report;
 
+import io.gravitee.common.service.Service;
 import io.gravitee.reporter.api.Reportable;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-public interface ReporterService {
+public interface ReporterService extends Service {
 
     void report(Reportable reportable);
 }
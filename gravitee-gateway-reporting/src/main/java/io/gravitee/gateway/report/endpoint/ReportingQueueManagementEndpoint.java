@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.report.endpoint;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.common.http.MediaType;
+import io.gravitee.gateway.report.ReporterService;
+import io.gravitee.gateway.report.endpoint.model.ReportingQueueEntity;
+import io.gravitee.gateway.report.impl.ReporterServiceImpl;
+import io.gravitee.node.management.http.endpoint.ManagementEndpoint;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Exposes the depth of the reporting queues and the number of reportables dropped so far.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class ReportingQueueManagementEndpoint implements Handler<RoutingContext>, ManagementEndpoint {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(ReportingQueueManagementEndpoint.class);
+
+    @Autowired
+    private ReporterService reporterService;
+
+    @Override
+    public HttpMethod method() {
+        return HttpMethod.GET;
+    }
+
+    @Override
+    public String path() {
+        return "/reporting/queue";
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerResponse response = ctx.response();
+
+        try {
+            if (!(reporterService instanceof ReporterServiceImpl)) {
+                response.setStatusCode(HttpStatusCode.NOT_FOUND_404);
+            } else {
+                ReporterServiceImpl service = (ReporterServiceImpl) reporterService;
+
+                ReportingQueueEntity entity = new ReportingQueueEntity();
+                entity.setEnabled(service.isEnabled());
+                entity.setBackPressure(service.getBackPressure().name());
+                entity.setCapacity(service.getCapacity());
+                entity.setDepth(service.getDepth());
+                entity.setQueued(service.getQueued());
+                entity.setDropped(service.getDropped());
+                entity.setReported(service.getReported());
+
+                response.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+                response.setStatusCode(HttpStatusCode.OK_200);
+                response.setChunked(true);
+                response.write(Json.prettyMapper.writeValueAsString(entity));
+            }
+        } catch (JsonProcessingException jpe) {
+            response.setStatusCode(HttpStatusCode.INTERNAL_SERVER_ERROR_500);
+            LOGGER.error("Unable to transform data object to JSON", jpe);
+        }
+
+        response.end();
+    }
+}
@@ -15,21 +15,278 @@
  */
 package io.gravitee.gateway.report.impl;
 
+import io.gravitee.common.service.AbstractService;
 import io.gravitee.gateway.report.ReporterService;
+import io.gravitee.gateway.report.impl.queue.BackPressure;
+import io.gravitee.gateway.report.impl.queue.ReportableQueue;
 import io.gravitee.reporter.api.Reportable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
+ * Hands reportables over to the reporters from a dedicated thread, so that a slow reporter does not add latency
+ * to the requests, nor block an event loop.
+ *
+ * Reportables are queued in bounded, lock-free queues: each thread reporting (usually an event loop) is assigned
+ * its own queue, which is drained by batches. When a queue is full, reportables are dropped according to the
+ * configured {@link BackPressure}.
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class ReporterServiceImpl implements ReporterService {
+public class ReporterServiceImpl extends AbstractService implements ReporterService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReporterServiceImpl.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long DROP_WARNING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
 
     @Autowired
     private io.gravitee.node.reporter.ReporterService reporterService;
 
+    @Value("${reporting.queue.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reporting.queue.capacity:4096}")
+    private int capacity;
+
+    /**
+     * Number of queues, defaults to the number of event loops.
+     */
+    @Value("${reporting.queue.partitions:0}")
+    private int partitions;
+
+    @Value("${reporting.queue.batchSize:256}")
+    private int batchSize;
+
+    @Value("${reporting.queue.backPressure:DROP_NEWEST}")
+    private BackPressure backPressure;
+
+    private ReportableQueue[] queues;
+
+    private final AtomicInteger nextQueue = new AtomicInteger();
+
+    private final ThreadLocal<ReportableQueue> threadQueue =
+            ThreadLocal.withInitial(() -> queues[Math.floorMod(nextQueue.getAndIncrement(), queues.length)]);
+
+    private volatile Thread drainer;
+
+    private volatile boolean running;
+
+    private volatile boolean parked;
+
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder reported = new LongAdder();
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (enabled) {
+            queues = new ReportableQueue[(partitions > 0) ? partitions : Runtime.getRuntime().availableProcessors() * 2];
+            for (int i = 0; i < queues.length; i++) {
+                queues[i] = new ReportableQueue(capacity);
+            }
+
+            running = true;
+            Thread thread = new Thread(this::drain, "gravitee-reporter");
+            thread.setDaemon(true);
+            drainer = thread;
+            thread.start();
+
+            LOGGER.info("Reportables are queued in {} queues of {} elements ({} when full)",
+                    queues.length, queues[0].capacity(), backPressure);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        Thread thread = drainer;
+
+        if (thread != null) {
+            // From now on, reportables are handed over directly to the reporters
+            drainer = null;
+
+            running = false;
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+
+            // Report the reportables queued while the drainer was stopping
+            flush();
+        }
+
+        super.doStop();
+    }
+
     @Override
     public void report(Reportable reportable) {
-        reporterService.report(reportable);
+        Thread thread = drainer;
+
+        if (thread == null) {
+            reporterService.report(reportable);
+            return;
+        }
+
+        if (enqueue(threadQueue.get(), reportable)) {
+            queued.increment();
+
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+        } else {
+            dropped.increment();
+        }
+    }
+
+    private boolean enqueue(ReportableQueue queue, Reportable reportable) {
+        switch (backPressure) {
+            case DROP_OLDEST:
+                while (!queue.offer(reportable)) {
+                    if (queue.poll() != null) {
+                        dropped.increment();
+                    }
+                }
+                return true;
+            case SAMPLE:
+                int half = queue.capacity() >> 1;
+                int room = queue.capacity() - queue.size();
+                if (room < half && ThreadLocalRandom.current().nextInt(half) >= room) {
+                    return false;
+                }
+                return queue.offer(reportable);
+            default:
+                return queue.offer(reportable);
+        }
+    }
+
+    private void drain() {
+        List<Reportable> batch = new ArrayList<>(batchSize);
+        long lastDropped = 0;
+        long lastWarning = System.nanoTime();
+
+        // Keep on draining once stopped, until the queues are empty
+        while (true) {
+            for (ReportableQueue queue : queues) {
+                Reportable reportable;
+                while (batch.size() < batchSize && (reportable = queue.poll()) != null) {
+                    batch.add(reportable);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                report(batch);
+                batch.clear();
+            } else if (running) {
+                parked = true;
+                if (isEmpty()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                parked = false;
+            } else {
+                break;
+            }
+
+            long now = System.nanoTime();
+            if (now - lastWarning > DROP_WARNING_INTERVAL_NANOS) {
+                long totalDropped = dropped.sum();
+                if (totalDropped > lastDropped) {
+                    LOGGER.warn("{} reportables have been dropped as reporters do not keep up with the traffic",
+                            totalDropped - lastDropped);
+                    lastDropped = totalDropped;
+                }
+                lastWarning = now;
+            }
+        }
+    }
+
+    private void report(List<Reportable> batch) {
+        for (Reportable reportable : batch) {
+            try {
+                reporterService.report(reportable);
+            } catch (Exception ex) {
+                LOGGER.error("An error occurs while reporting {}", reportable.getClass().getSimpleName(), ex);
+            }
+        }
+
+        reported.add(batch.size());
+    }
+
+    private void flush() {
+        List<Reportable> batch = new ArrayList<>();
+        for (ReportableQueue queue : queues) {
+            Reportable reportable;
+            while ((reportable = queue.poll()) != null) {
+                batch.add(reportable);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            report(batch);
+        }
+    }
+
+    private boolean isEmpty() {
+        for (ReportableQueue queue : queues) {
+            if (queue.size() > 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public boolean isEnabled() {
+        return drainer != null;
+    }
+
+    public BackPressure getBackPressure() {
+        return backPressure;
+    }
+
+    public int getCapacity() {
+        return (queues == null) ? 0 : queues.length * queues[0].capacity();
+    }
+
+    /**
+     * @return the number of reportables waiting to be reported.
+     */
+    public int getDepth() {
+        if (queues == null) {
+            return 0;
+        }
+
+        int depth = 0;
+        for (ReportableQueue queue : queues) {
+            depth += queue.size();
+        }
+        return depth;
+    }
+
+    public long getQueued() {
+        return queued.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getReported() {
+        return reported.sum();
+    }
+
+    @Override
+    protected String name() {
+        return "Reporter service";
     }
 }
@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.report.impl.queue;
+
+/**
+ * What to do with reportables while reporters do not keep up with the traffic.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public enum BackPressure {
+
+    /**
+     * Drop the oldest queued reportable to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Drop the new reportable while the queue is full.
+     */
+    DROP_NEWEST,
+
+    /**
+     * Once the queue is half full, queue new reportables with a probability decreasing with the remaining room.
+     */
+    SAMPLE
+}
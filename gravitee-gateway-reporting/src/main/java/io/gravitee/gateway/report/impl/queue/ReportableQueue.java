@@ -0,0 +1,113 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.report.impl.queue;
+
+import io.gravitee.reporter.api.Reportable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free ring buffer of {@link Reportable}s.
+ *
+ * Each slot holds a sequence number telling whether it is ready to be written or read for a given lap, so that
+ * producers and consumers only contend on their own index (see D. Vyukov's bounded MPMC queue). Although it is
+ * drained by a single thread, a producer may also poll it to drop the oldest reportable when it is full.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class ReportableQueue {
+
+    private final int capacity;
+    private final int mask;
+
+    private final AtomicReferenceArray<Reportable> buffer;
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    public ReportableQueue(int capacity) {
+        this.capacity = (capacity <= 1) ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return <code>false</code> if the queue is full.
+     */
+    public boolean offer(Reportable reportable) {
+        long position = tail.get();
+
+        for (;;) {
+            int index = (int) position & mask;
+            long delta = sequences.get(index) - position;
+
+            if (delta == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer.lazySet(index, reportable);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+            } else if (delta < 0) {
+                return false;
+            }
+
+            position = tail.get();
+        }
+    }
+
+    /**
+     * @return the oldest reportable, or <code>null</code> if the queue is empty.
+     */
+    public Reportable poll() {
+        long position = head.get();
+
+        for (;;) {
+            int index = (int) position & mask;
+            long delta = sequences.get(index) - (position + 1);
+
+            if (delta == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    Reportable reportable = buffer.get(index);
+                    buffer.lazySet(index, null);
+                    sequences.lazySet(index, position + capacity);
+                    return reportable;
+                }
+            } else if (delta < 0) {
+                return null;
+            }
+
+            position = head.get();
+        }
+    }
+
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(capacity, size));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -16,6 +16,8 @@
 package io.gravitee.gateway.report.spring;
 
 import io.gravitee.gateway.report.ReporterService;
+import io.gravitee.gateway.report.endpoint.NodeReportingEndpointInitializer;
+import io.gravitee.gateway.report.endpoint.ReportingQueueManagementEndpoint;
 import io.gravitee.gateway.report.impl.ReporterServiceImpl;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,4 +33,14 @@ public class ReporterConfiguration {
     public ReporterService reporterService() {
         return new ReporterServiceImpl();
     }
+
+    @Bean
+    public ReportingQueueManagementEndpoint reportingQueueManagementEndpoint() {
+        return new ReportingQueueManagementEndpoint();
+    }
+
+    @Bean
+    public NodeReportingEndpointInitializer nodeReportingEndpointInitializer() {
+        return new NodeReportingEndpointInitializer();
+    }
 }
@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.report.impl.queue;
+
+import io.gravitee.reporter.api.Reportable;
+import io.gravitee.reporter.api.http.Metrics;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class ReportableQueueTest {
+
+    @Test
+    public void shouldBeBounded() {
+        ReportableQueue queue = new ReportableQueue(4);
+
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(queue.offer(Metrics.on(i).build()));
+        }
+
+        Assert.assertFalse(queue.offer(Metrics.on(4).build()));
+        Assert.assertEquals(4, queue.size());
+    }
+
+    @Test
+    public void shouldPollInOrder() {
+        ReportableQueue queue = new ReportableQueue(4);
+
+        // Go round the ring a few times
+        for (int i = 0; i < 10; i++) {
+            queue.offer(Metrics.on(i).build());
+            Assert.assertEquals(i, ((Metrics) queue.poll()).timestamp().toEpochMilli());
+        }
+
+        Assert.assertNull(queue.poll());
+        Assert.assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void shouldRoundCapacity() {
+        Assert.assertEquals(8, new ReportableQueue(5).capacity());
+        Assert.assertEquals(8, new ReportableQueue(8).capacity());
+    }
+
+    @Test
+    public void shouldNotLoseReportables() throws InterruptedException {
+        ReportableQueue queue = new ReportableQueue(64);
+        int producers = 4;
+        int count = 5_000;
+
+        CountDownLatch latch = new CountDownLatch(producers);
+        AtomicInteger rejected = new AtomicInteger();
+
+        for (int p = 0; p < producers; p++) {
+            int offset = p * count;
+            new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    Reportable reportable = Metrics.on(offset + i).build();
+                    while (!queue.offer(reportable)) {
+                        rejected.incrementAndGet();
+                        Thread.yield();
+                    }
+                }
+                latch.countDown();
+            }).start();
+        }
+
+        Set<Long> timestamps = new HashSet<>();
+        while (timestamps.size() < producers * count) {
+            Reportable reportable = queue.poll();
+            if (reportable != null) {
+                Assert.assertTrue(timestamps.add(((Metrics) reportable).timestamp().toEpochMilli()));
+            }
+        }
+
+        latch.await();
+        Assert.assertNull(queue.poll());
+    }
+}
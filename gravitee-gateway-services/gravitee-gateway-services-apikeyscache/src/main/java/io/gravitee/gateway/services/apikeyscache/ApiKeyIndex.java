@@ -0,0 +1,210 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.services.apikeyscache;
+
+import io.gravitee.repository.management.model.ApiKey;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory index of the api-keys kept by the refreshers.
+ *
+ * Each key is mapped to a compact record (plan, application, subscription and dates). Plan and application
+ * identifiers are shared by many keys, so a single instance of each is kept as long as a key refers to it. The index
+ * is never evicted nor spilled to disk: it only contains what the refreshers put into it, and lookups never block.
+ *
+ * The memory footprint is an estimation based on the usual layout of a 64-bit JVM with compressed oops.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class ApiKeyIndex {
+
+    private static final int NODE_SIZE = 32;
+    private static final int RECORD_SIZE = 48;
+    private static final int IDENTIFIER_SIZE = 24;
+
+    private final ConcurrentMap<String, Record> records = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Identifier> identifiers = new ConcurrentHashMap<>();
+
+    private final AtomicLong footprint = new AtomicLong();
+
+    public ApiKey get(String key) {
+        Record record = records.get(key);
+        if (record == null) {
+            return null;
+        }
+
+        ApiKey apiKey = new ApiKey();
+        apiKey.setKey(key);
+        apiKey.setPlan(record.plan);
+        apiKey.setApplication(record.application);
+        apiKey.setSubscription(record.subscription);
+        apiKey.setExpireAt(toDate(record.expireAt));
+        apiKey.setCreatedAt(toDate(record.createdAt));
+        apiKey.setUpdatedAt(toDate(record.updatedAt));
+
+        return apiKey;
+    }
+
+    public void save(ApiKey apiKey) {
+        String key = apiKey.getKey();
+        Record record = new Record(
+                share(apiKey.getPlan()),
+                share(apiKey.getApplication()),
+                apiKey.getSubscription(),
+                toTime(apiKey.getExpireAt()),
+                toTime(apiKey.getCreatedAt()),
+                toTime(apiKey.getUpdatedAt()));
+
+        Record previous = records.put(key, record);
+        footprint.addAndGet(sizeOf(key, record));
+        if (previous != null) {
+            release(key, previous);
+        }
+    }
+
+    public void remove(String key) {
+        Record previous = records.remove(key);
+        if (previous != null) {
+            release(key, previous);
+        }
+    }
+
+    public void clear() {
+        records.clear();
+        identifiers.clear();
+        footprint.set(0);
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * @return the estimated number of bytes retained by the index.
+     */
+    public long footprint() {
+        return footprint.get();
+    }
+
+    /**
+     * @return the estimated number of bytes retained by the index for a single api-key.
+     */
+    public long footprintPerKey() {
+        int size = records.size();
+        return (size == 0) ? 0 : footprint.get() / size;
+    }
+
+    private String share(String identifier) {
+        if (identifier == null) {
+            return null;
+        }
+
+        return identifiers.compute(identifier, (value, shared) -> {
+            if (shared == null) {
+                footprint.addAndGet(NODE_SIZE + IDENTIFIER_SIZE + sizeOf(value));
+                shared = new Identifier(value);
+            }
+            shared.references++;
+            return shared;
+        }).value;
+    }
+
+    private void unshare(String identifier) {
+        if (identifier == null) {
+            return;
+        }
+
+        identifiers.computeIfPresent(identifier, (value, shared) -> {
+            if (--shared.references == 0) {
+                footprint.addAndGet(-(NODE_SIZE + IDENTIFIER_SIZE + sizeOf(value)));
+                return null;
+            }
+            return shared;
+        });
+    }
+
+    private void release(String key, Record record) {
+        footprint.addAndGet(-sizeOf(key, record));
+        unshare(record.plan);
+        unshare(record.application);
+    }
+
+    private static long toTime(Date date) {
+        return (date != null) ? date.getTime() : Record.NO_DATE;
+    }
+
+    private static Date toDate(long time) {
+        return (time != Record.NO_DATE) ? new Date(time) : null;
+    }
+
+    private static long sizeOf(String key, Record record) {
+        return NODE_SIZE + sizeOf(key) + RECORD_SIZE + sizeOf(record.subscription);
+    }
+
+    static long sizeOf(String value) {
+        if (value == null) {
+            return 0;
+        }
+
+        // String header and fields, plus the backing char array
+        return 24 + align(16 + 2L * value.length());
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private static final class Record {
+
+        private static final long NO_DATE = Long.MIN_VALUE;
+
+        private final String plan;
+        private final String application;
+        private final String subscription;
+        private final long expireAt;
+        private final long createdAt;
+        private final long updatedAt;
+
+        private Record(String plan, String application, String subscription, long expireAt, long createdAt,
+                       long updatedAt) {
+            this.plan = plan;
+            this.application = application;
+            this.subscription = subscription;
+            this.expireAt = expireAt;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+        }
+    }
+
+    /**
+     * An identifier shared by the records, counting the records referring to it.
+     */
+    private static final class Identifier {
+
+        private final String value;
+        private int references;
+
+        private Identifier(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -20,8 +20,6 @@ import io.gravitee.gateway.handlers.api.definition.Plan;
 import io.gravitee.repository.management.api.ApiKeyRepository;
 import io.gravitee.repository.management.api.search.ApiKeyCriteria;
 import io.gravitee.repository.management.model.ApiKey;
-import net.sf.ehcache.Ehcache;
-import net.sf.ehcache.Element;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,7 +39,7 @@ public class ApiKeyRefresher implements Runnable {
 
     private ApiKeyRepository apiKeyRepository;
 
-    private Ehcache cache;
+    private ApiKeyIndex index;
 
     private final Api api;
 
@@ -134,11 +132,11 @@ public class ApiKeyRefresher implements Runnable {
 
     private void saveOrUpdate(ApiKey apiKey) {
         if (apiKey.isRevoked()) {
-            logger.debug("Remove a revoked api-key from cache [key: {}] [plan: {}] [app: {}]", apiKey.getKey(), apiKey.getPlan(), apiKey.getApplication());
-            cache.remove(apiKey.getKey());
+            logger.debug("Remove a revoked api-key from index [key: {}] [plan: {}] [app: {}]", apiKey.getKey(), apiKey.getPlan(), apiKey.getApplication());
+            index.remove(apiKey.getKey());
         } else {
-            logger.debug("Cache an api-key [key: {}] [plan: {}] [app: {}]", apiKey.getKey(), apiKey.getPlan(), apiKey.getApplication());
-            cache.put(new Element(apiKey.getKey(), apiKey));
+            logger.debug("Index an api-key [key: {}] [plan: {}] [app: {}]", apiKey.getKey(), apiKey.getPlan(), apiKey.getApplication());
+            index.save(apiKey);
         }
     }
 
@@ -182,7 +180,7 @@ public class ApiKeyRefresher implements Runnable {
         this.apiKeyRepository = apiKeyRepository;
     }
 
-    public void setCache(Ehcache cache) {
-        this.cache = cache;
+    public void setIndex(ApiKeyIndex index) {
+        this.index = index;
     }
 }
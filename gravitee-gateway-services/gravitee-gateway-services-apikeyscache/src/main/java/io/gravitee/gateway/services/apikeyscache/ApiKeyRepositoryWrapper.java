@@ -19,7 +19,6 @@ import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiKeyRepository;
 import io.gravitee.repository.management.api.search.ApiKeyCriteria;
 import io.gravitee.repository.management.model.ApiKey;
-import net.sf.ehcache.Ehcache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,18 +35,20 @@ public class ApiKeyRepositoryWrapper implements ApiKeyRepository {
     private static final Logger logger = LoggerFactory.getLogger(ApiKeyRepositoryWrapper.class);
 
     private final ApiKeyRepository wrapped;
-    private final Ehcache cache;
+    private final ApiKeyIndex index;
 
-    ApiKeyRepositoryWrapper(ApiKeyRepository wrapped, Ehcache cache) {
+    ApiKeyRepositoryWrapper(ApiKeyRepository wrapped, ApiKeyIndex index) {
         this.wrapped = wrapped;
-        this.cache = cache;
+        this.index = index;
     }
 
+    /**
+     * Looks the api-key up in the index. The revoked api-keys are removed from the index by the refreshers, so an
+     * api-key which is found is never revoked and has no revocation date.
+     */
     @Override
     public Optional<ApiKey> findById(String apiKey) throws TechnicalException {
-        return Optional
-                .ofNullable(cache.get(apiKey))
-                .map(element -> (ApiKey) element.getObjectValue());
+        return Optional.ofNullable(index.get(apiKey));
     }
 
     @Override
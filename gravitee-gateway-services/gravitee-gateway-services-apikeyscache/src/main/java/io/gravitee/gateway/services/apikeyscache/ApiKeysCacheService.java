@@ -27,7 +27,6 @@ import io.gravitee.gateway.services.apikeyscache.handler.ApiKeyHandler;
 import io.gravitee.gateway.services.apikeyscache.handler.ApiKeysServiceHandler;
 import io.gravitee.repository.management.api.ApiKeyRepository;
 import io.vertx.ext.web.Router;
-import net.sf.ehcache.Cache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -65,7 +64,7 @@ public class ApiKeysCacheService extends AbstractService implements EventListene
     private EventManager eventManager;
 
     @Autowired
-    private Cache cache;
+    private ApiKeyIndex index;
 
     private ApiKeyRepository apiKeyRepository;
 
@@ -96,7 +95,7 @@ public class ApiKeysCacheService extends AbstractService implements EventListene
 
             LOGGER.debug("Register API key repository implementation {}", ApiKeyRepositoryWrapper.class.getName());
             beanFactory.registerSingleton(ApiKeyRepository.class.getName(),
-                    new ApiKeyRepositoryWrapper(this.apiKeyRepository, cache));
+                    new ApiKeyRepositoryWrapper(this.apiKeyRepository, index));
 
             eventManager.subscribeForEvents(this, ReactorEvent.class);
 
@@ -114,7 +113,7 @@ public class ApiKeysCacheService extends AbstractService implements EventListene
 
             // Create handlers
             // Set API-keys handler
-            ApiKeysServiceHandler apiKeysHandler = new ApiKeysServiceHandler((ScheduledThreadPoolExecutor) executorService);
+            ApiKeysServiceHandler apiKeysHandler = new ApiKeysServiceHandler((ScheduledThreadPoolExecutor) executorService, index);
             applicationContext.getAutowireCapableBeanFactory().autowireBean(apiKeysHandler);
             router.get(PATH).produces(MediaType.APPLICATION_JSON).handler(apiKeysHandler);
 
@@ -134,9 +133,8 @@ public class ApiKeysCacheService extends AbstractService implements EventListene
                 executorService.shutdown();
             }
 
-            LOGGER.info("Clear API keys from in-memory cache before stopping service");
-            cache.removeAll();
-            cache.dispose();
+            LOGGER.info("Clear API keys from in-memory index before stopping service");
+            index.clear();
         }
     }
 
@@ -169,7 +167,7 @@ public class ApiKeysCacheService extends AbstractService implements EventListene
     private void startRefresher(Api api) {
         if (api.isEnabled()) {
             ApiKeyRefresher refresher = new ApiKeyRefresher(api);
-            refresher.setCache(cache);
+            refresher.setIndex(index);
             refresher.setApiKeyRepository(apiKeyRepository);
             refresher.initialize();
 
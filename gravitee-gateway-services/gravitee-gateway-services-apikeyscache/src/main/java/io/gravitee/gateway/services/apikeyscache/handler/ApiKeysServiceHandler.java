@@ -20,6 +20,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.common.http.MediaType;
+import io.gravitee.gateway.services.apikeyscache.ApiKeyIndex;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.Json;
@@ -39,8 +40,11 @@ public class ApiKeysServiceHandler implements Handler<RoutingContext> {
 
     private final ScheduledThreadPoolExecutor executorService;
 
-    public ApiKeysServiceHandler(ScheduledThreadPoolExecutor executorService) {
+    private final ApiKeyIndex index;
+
+    public ApiKeysServiceHandler(ScheduledThreadPoolExecutor executorService, ApiKeyIndex index) {
         this.executorService = executorService;
+        this.index = index;
     }
 
     @Override
@@ -52,7 +56,7 @@ public class ApiKeysServiceHandler implements Handler<RoutingContext> {
 
         try {
             Json.prettyMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-            response.write(Json.prettyMapper.writeValueAsString(new ExecutorStatistics()));
+            response.write(Json.prettyMapper.writeValueAsString(new ServiceStatistics()));
         } catch (JsonProcessingException jpe) {
             response.setStatusCode(HttpStatusCode.INTERNAL_SERVER_ERROR_500);
             LOGGER.error("Unable to transform data object to JSON", jpe);
@@ -61,7 +65,7 @@ public class ApiKeysServiceHandler implements Handler<RoutingContext> {
         response.end();
     }
 
-    private class ExecutorStatistics {
+    private class ServiceStatistics {
 
         public int getCorePoolSize() {
             return ApiKeysServiceHandler.this.executorService.getCorePoolSize();
@@ -90,5 +94,17 @@ public class ApiKeysServiceHandler implements Handler<RoutingContext> {
         public long getCompletedTaskCount() {
             return ApiKeysServiceHandler.this.executorService.getCompletedTaskCount();
         }
+
+        public int getKeys() {
+            return ApiKeysServiceHandler.this.index.size();
+        }
+
+        public long getFootprint() {
+            return ApiKeysServiceHandler.this.index.footprint();
+        }
+
+        public long getFootprintPerKey() {
+            return ApiKeysServiceHandler.this.index.footprintPerKey();
+        }
     }
 }
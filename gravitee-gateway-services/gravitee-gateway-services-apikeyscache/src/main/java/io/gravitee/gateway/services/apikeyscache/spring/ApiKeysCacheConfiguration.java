@@ -15,16 +15,10 @@
  */
 package io.gravitee.gateway.services.apikeyscache.spring;
 
-import net.sf.ehcache.Cache;
-import net.sf.ehcache.CacheManager;
-import net.sf.ehcache.config.CacheConfiguration;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import io.gravitee.gateway.services.apikeyscache.ApiKeyIndex;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.io.File;
-
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
@@ -32,35 +26,8 @@ import java.io.File;
 @Configuration
 public class ApiKeysCacheConfiguration {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ApiKeysCacheConfiguration.class);
-
-    private static final String API_KEY_CACHE_NAME = "apikey";
-
     @Bean
-    public Cache cache() {
-        CacheManager cacheManager = cacheManager();
-        Cache apiKeyCache = cacheManager.getCache(API_KEY_CACHE_NAME);
-        if (apiKeyCache == null) {
-            LOGGER.warn("EHCache cache for apikey not found. Fallback to default EHCache configuration");
-            CacheConfiguration cacheConfiguration = new CacheConfiguration(API_KEY_CACHE_NAME, 1000);
-            cacheManager.addCache(new Cache(cacheConfiguration));
-        }
-
-        return cacheManager.getCache(API_KEY_CACHE_NAME);
-    }
-
-    @Bean
-    public CacheManager cacheManager() {
-        String graviteeHome = System.getProperty("gravitee.home");
-        String ehCacheConfiguration = graviteeHome + File.separator + "config" + File.separator + "ehcache.xml";
-
-        LOGGER.info("Loading EHCache configuration from {}", ehCacheConfiguration);
-        File ehCacheConfigurationFile = new File(ehCacheConfiguration);
-        if (ehCacheConfigurationFile.exists()) {
-            return CacheManager.newInstance(ehCacheConfigurationFile.getAbsolutePath());
-        }
-
-        LOGGER.warn("No configuration file can be found for EHCache");
-        throw new IllegalStateException("No configuration file can be found for EHCache");
+    public ApiKeyIndex apiKeyIndex() {
+        return new ApiKeyIndex();
     }
 }
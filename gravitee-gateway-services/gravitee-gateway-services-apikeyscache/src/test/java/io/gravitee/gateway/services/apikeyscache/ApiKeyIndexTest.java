@@ -0,0 +1,164 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.services.apikeyscache;
+
+import io.gravitee.repository.management.model.ApiKey;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Date;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class ApiKeyIndexTest {
+
+    private ApiKeyIndex index;
+
+    @Before
+    public void setUp() {
+        index = new ApiKeyIndex();
+    }
+
+    @Test
+    public void shouldGetSavedApiKey() {
+        Date expireAt = new Date();
+        index.save(apiKey("key", "plan", "app", "subscription", expireAt));
+
+        ApiKey apiKey = index.get("key");
+
+        Assert.assertNotNull(apiKey);
+        Assert.assertEquals("key", apiKey.getKey());
+        Assert.assertEquals("plan", apiKey.getPlan());
+        Assert.assertEquals("app", apiKey.getApplication());
+        Assert.assertEquals("subscription", apiKey.getSubscription());
+        Assert.assertEquals(expireAt, apiKey.getExpireAt());
+        Assert.assertFalse(apiKey.isRevoked());
+    }
+
+    @Test
+    public void shouldGetApiKeyDates() {
+        ApiKey saved = apiKey("key", "plan", "app", "subscription", null);
+        saved.setCreatedAt(new Date(1000));
+        saved.setUpdatedAt(new Date(2000));
+        index.save(saved);
+
+        ApiKey apiKey = index.get("key");
+
+        Assert.assertEquals(new Date(1000), apiKey.getCreatedAt());
+        Assert.assertEquals(new Date(2000), apiKey.getUpdatedAt());
+    }
+
+    @Test
+    public void shouldGetApiKeyWithoutExpiration() {
+        index.save(apiKey("key", "plan", "app", "subscription", null));
+
+        Assert.assertNull(index.get("key").getExpireAt());
+    }
+
+    @Test
+    public void shouldNotGetUnknownApiKey() {
+        Assert.assertNull(index.get("unknown"));
+    }
+
+    @Test
+    public void shouldUpdateApiKey() {
+        index.save(apiKey("key", "plan", "app", "subscription", null));
+        index.save(apiKey("key", "plan2", "app", "subscription", null));
+
+        Assert.assertEquals(1, index.size());
+        Assert.assertEquals("plan2", index.get("key").getPlan());
+    }
+
+    @Test
+    public void shouldRemoveApiKey() {
+        index.save(apiKey("key", "plan", "app", "subscription", null));
+        index.remove("key");
+
+        Assert.assertNull(index.get("key"));
+        Assert.assertEquals(0, index.size());
+        Assert.assertEquals(0, index.footprintPerKey());
+    }
+
+    @Test
+    public void shouldShareIdentifiers() {
+        index.save(apiKey("key1", new String("plan"), new String("app"), "subscription1", null));
+        index.save(apiKey("key2", new String("plan"), new String("app"), "subscription2", null));
+
+        Assert.assertSame(index.get("key1").getPlan(), index.get("key2").getPlan());
+        Assert.assertSame(index.get("key1").getApplication(), index.get("key2").getApplication());
+    }
+
+    @Test
+    public void shouldReportFootprint() {
+        Assert.assertEquals(0, index.footprint());
+
+        index.save(apiKey("key1", "plan", "app", "subscription1", null));
+        long first = index.footprint();
+        index.save(apiKey("key2", "plan", "app", "subscription2", null));
+        long second = index.footprint();
+
+        Assert.assertTrue(first > 0);
+        // Identifiers are shared, so the second key does not account for them
+        Assert.assertTrue(second - first < first);
+        Assert.assertEquals(second / 2, index.footprintPerKey());
+
+        index.remove("key2");
+        Assert.assertEquals(first, index.footprint());
+    }
+
+    @Test
+    public void shouldReleaseIdentifiersOfRemovedApiKeys() {
+        index.save(apiKey("key1", "plan", "app", "subscription1", null));
+        index.save(apiKey("key2", "plan", "app", "subscription2", null));
+        index.save(apiKey("key2", "plan2", "app2", "subscription2", null));
+
+        index.remove("key1");
+        index.remove("key2");
+
+        Assert.assertEquals(0, index.footprint());
+    }
+
+    @Test
+    public void shouldKeepFootprintOnUpdate() {
+        index.save(apiKey("key", "plan", "app", "subscription", null));
+        long footprint = index.footprint();
+        index.save(apiKey("key", "plan", "app", "subscription", new Date()));
+
+        Assert.assertEquals(footprint, index.footprint());
+    }
+
+    @Test
+    public void shouldClear() {
+        index.save(apiKey("key", "plan", "app", "subscription", null));
+        index.clear();
+
+        Assert.assertEquals(0, index.size());
+        Assert.assertEquals(0, index.footprint());
+    }
+
+    private static ApiKey apiKey(String key, String plan, String application, String subscription, Date expireAt) {
+        ApiKey apiKey = new ApiKey();
+        apiKey.setKey(key);
+        apiKey.setPlan(plan);
+        apiKey.setApplication(application);
+        apiKey.setSubscription(subscription);
+        apiKey.setExpireAt(expireAt);
+        return apiKey;
+    }
+}
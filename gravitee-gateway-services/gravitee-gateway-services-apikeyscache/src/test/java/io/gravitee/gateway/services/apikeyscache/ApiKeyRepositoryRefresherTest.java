@@ -21,8 +21,6 @@ import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiKeyRepository;
 import io.gravitee.repository.management.api.search.ApiKeyCriteria;
 import io.gravitee.repository.management.model.ApiKey;
-import net.sf.ehcache.Ehcache;
-import net.sf.ehcache.Element;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -45,7 +43,7 @@ public class ApiKeyRepositoryRefresherTest {
     private ApiKeyRepository apiKeyRepository;
 
     @Mock
-    private Ehcache cache;
+    private ApiKeyIndex index;
 
     @Mock
     private Api api;
@@ -56,7 +54,7 @@ public class ApiKeyRepositoryRefresherTest {
     @Before
     public void setUp() {
         refresher = new ApiKeyRefresher(api);
-        refresher.setCache(cache);
+        refresher.setIndex(index);
         refresher.setApiKeyRepository(apiKeyRepository);
     }
 
@@ -150,7 +148,7 @@ public class ApiKeyRepositoryRefresherTest {
     }
 
     @Test
-    public void shouldRefreshWithRevokedApiKeyAndPutIntoCache() throws TechnicalException {
+    public void shouldRefreshWithRevokedApiKeyAndPutIntoIndex() throws TechnicalException {
         Mockito.when(plan.getSecurity()).thenReturn(io.gravitee.repository.management.model.Plan.PlanSecurityType.API_KEY.name());
         List<Plan> plans = Collections.singletonList(plan);
         Mockito.when(api.getPlans()).thenReturn(plans);
@@ -189,11 +187,11 @@ public class ApiKeyRepositoryRefresherTest {
             }
         }));
 
-        Mockito.verify(cache, Mockito.times(2)).put(Matchers.any(Element.class));
+        Mockito.verify(index, Mockito.times(2)).save(apiKey1);
     }
 
     @Test
-    public void shouldRefreshWithRevokedApiKeyAndRemoveFromCache() throws TechnicalException {
+    public void shouldRefreshWithRevokedApiKeyAndRemoveFromIndex() throws TechnicalException {
         String apiKey = "1234-4567-7890";
 
         Mockito.when(plan.getSecurity()).thenReturn(io.gravitee.repository.management.model.Plan.PlanSecurityType.API_KEY.name());
@@ -240,9 +238,9 @@ public class ApiKeyRepositoryRefresherTest {
             }
         }));
 
-        InOrder inOrderCache = Mockito.inOrder(cache, cache);
+        InOrder inOrderIndex = Mockito.inOrder(index, index);
 
-        inOrderCache.verify(cache).put(Matchers.any(Element.class));
-        inOrderCache.verify(cache).remove(apiKey);
+        inOrderIndex.verify(index).save(apiKey1);
+        inOrderIndex.verify(index).remove(apiKey);
     }
 }
@@ -19,8 +19,6 @@ import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiKeyRepository;
 import io.gravitee.repository.management.api.search.ApiKeyCriteria;
 import io.gravitee.repository.management.model.ApiKey;
-import net.sf.ehcache.Ehcache;
-import net.sf.ehcache.Element;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -46,11 +44,11 @@ public class ApiKeyRepositoryWrapperTest {
     private ApiKeyRepository wrappedRepository;
 
     @Mock
-    private Ehcache cache;
+    private ApiKeyIndex index;
 
     @Before
     public void setUp() {
-        repository = new ApiKeyRepositoryWrapper(wrappedRepository, cache);
+        repository = new ApiKeyRepositoryWrapper(wrappedRepository, index);
     }
 
     @Test(expected = IllegalStateException.class)
@@ -88,7 +86,7 @@ public class ApiKeyRepositoryWrapperTest {
     public void shouldFindById_empty() throws TechnicalException {
         String apiKey = "1234-4567-7890";
 
-        Mockito.when(cache.get(apiKey)).thenReturn(null);
+        Mockito.when(index.get(apiKey)).thenReturn(null);
         Optional<ApiKey> optApiKey = repository.findById(apiKey);
 
         Assert.assertNotNull(optApiKey);
@@ -96,11 +94,11 @@ public class ApiKeyRepositoryWrapperTest {
     }
 
     @Test
-    public void shouldFindById_fromCache() throws TechnicalException {
+    public void shouldFindById_fromIndex() throws TechnicalException {
         String apiKey = "1234-4567-7890";
         ApiKey mockApiKey = Mockito.mock(ApiKey.class);
 
-        Mockito.when(cache.get(apiKey)).thenReturn(new Element(apiKey, mockApiKey));
+        Mockito.when(index.get(apiKey)).thenReturn(mockApiKey);
         Optional<ApiKey> optApiKey = repository.findById(apiKey);
 
         Assert.assertNotNull(optApiKey);
@@ -41,7 +41,13 @@ public class EndpointStatusDecorator {
         this.endpoint = endpoint;
     }
 
-    public void updateStatus(boolean success) {
+    /**
+     * @return <code>true</code> if the endpoint is no longer available, or has become available again. An endpoint
+     * is available as long as its status is not {@link Endpoint.Status#DOWN}.
+     */
+    public boolean updateStatus(boolean success) {
+        boolean wasAvailable = endpoint.getStatus() != Endpoint.Status.DOWN;
+
         // Calculate the endpoint status
         if (success) {
             counter.rise();
@@ -51,6 +57,8 @@ public class EndpointStatusDecorator {
 
         // Set status
         endpoint.setStatus(counter.status());
+
+        return wasAvailable != (endpoint.getStatus() != Endpoint.Status.DOWN);
     }
 
     private class Counter {
@@ -18,6 +18,7 @@ package io.gravitee.gateway.services.healthcheck.http;
 import io.gravitee.alert.api.event.Event;
 import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.definition.model.Endpoint;
 import io.gravitee.definition.model.HttpClientSslOptions;
 import io.gravitee.definition.model.HttpProxy;
 import io.gravitee.definition.model.endpoint.HttpEndpoint;
@@ -74,6 +75,7 @@ public class HttpEndpointRuleHandler implements Handler<Long> {
     private final Vertx vertx;
     private final EndpointStatusDecorator endpointStatus;
     private Handler<EndpointStatus> statusHandler;
+    private Handler<Endpoint> availabilityHandler;
 
     private AlertEngineService alertEngineService;
     private Node node;
@@ -403,7 +405,7 @@ public class HttpEndpointRuleHandler implements Handler<Long> {
     private void report(final EndpointStatus endpointStatus) {
         final int previousStatusCode = rule.endpoint().getStatus().code();
         final String previousStatusName = rule.endpoint().getStatus().name();
-        this.endpointStatus.updateStatus(endpointStatus.isSuccess());
+        final boolean availabilityChanged = this.endpointStatus.updateStatus(endpointStatus.isSuccess());
         endpointStatus.setState(rule.endpoint().getStatus().code());
         endpointStatus.setAvailable(!rule.endpoint().getStatus().isDown());
         endpointStatus.setResponseTime((long) endpointStatus.getSteps().stream().mapToLong(Step::getResponseTime).average().getAsDouble());
@@ -429,6 +431,10 @@ public class HttpEndpointRuleHandler implements Handler<Long> {
             alertEngineService.send(event.build());
         }
 
+        if (availabilityChanged && availabilityHandler != null) {
+            availabilityHandler.handle(rule.endpoint());
+        }
+
         statusHandler.handle(endpointStatus);
     }
 
@@ -436,6 +442,13 @@ public class HttpEndpointRuleHandler implements Handler<Long> {
         this.statusHandler = statusHandler;
     }
 
+    /**
+     * @param availabilityHandler handler called when the endpoint goes down or comes back up.
+     */
+    public void setAvailabilityHandler(Handler<Endpoint> availabilityHandler) {
+        this.availabilityHandler = availabilityHandler;
+    }
+
     public void setAlertEngineService(AlertEngineService alertEngineService) {
         this.alertEngineService = alertEngineService;
     }
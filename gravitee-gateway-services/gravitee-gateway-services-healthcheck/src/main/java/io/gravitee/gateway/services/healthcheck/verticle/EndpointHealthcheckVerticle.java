@@ -22,9 +22,13 @@ import io.gravitee.common.util.ChangeListener;
 import io.gravitee.common.util.ObservableSet;
 import io.gravitee.definition.model.Endpoint;
 import io.gravitee.definition.model.services.schedule.Trigger;
+import io.gravitee.gateway.core.endpoint.lifecycle.LoadBalancedEndpointGroup;
+import io.gravitee.gateway.handlers.api.ApiReactorHandler;
 import io.gravitee.gateway.handlers.api.definition.Api;
 import io.gravitee.gateway.reactor.Reactable;
 import io.gravitee.gateway.reactor.ReactorEvent;
+import io.gravitee.gateway.reactor.handler.ReactorHandler;
+import io.gravitee.gateway.reactor.handler.ReactorHandlerRegistry;
 import io.gravitee.gateway.services.healthcheck.EndpointHealthcheckResolver;
 import io.gravitee.gateway.services.healthcheck.EndpointRule;
 import io.gravitee.gateway.services.healthcheck.http.HttpEndpointRuleHandler;
@@ -58,6 +62,8 @@ public class EndpointHealthcheckVerticle extends AbstractVerticle implements Eve
     private EndpointHealthcheckResolver endpointResolver;
     @Autowired
     private AlertEngineService alertEngineService;
+    @Autowired
+    private ReactorHandlerRegistry reactorHandlerRegistry;
 
     @Autowired
     private Node node;
@@ -133,6 +139,7 @@ public class EndpointHealthcheckVerticle extends AbstractVerticle implements Eve
     private void addTrigger(Api api, EndpointRule rule) {
         HttpEndpointRuleHandler runner = new HttpEndpointRuleHandler(vertx, rule);
         runner.setStatusHandler(statusReporter);
+        runner.setAvailabilityHandler(endpoint -> refreshLoadBalancers(api));
         runner.setAlertEngineService(alertEngineService);
         runner.setNode(node);
         runner.setPort(port);
@@ -146,6 +153,18 @@ public class EndpointHealthcheckVerticle extends AbstractVerticle implements Eve
                 rule.trigger().getRate(), rule.trigger().getUnit());
     }
 
+    /**
+     * Load balancers only select available endpoints, they have to be refreshed when an endpoint goes down or comes
+     * back up.
+     */
+    private void refreshLoadBalancers(Api api) {
+        for (ReactorHandler handler : reactorHandlerRegistry.getReactorHandlers()) {
+            if (handler instanceof ApiReactorHandler && api.getId().equals(((Api) handler.reactable()).getId())) {
+                ((ApiReactorHandler) handler).groupManager().groups().forEach(LoadBalancedEndpointGroup::refresh);
+            }
+        }
+    }
+
     private void removeTriggers(Api api) {
         List<EndpointRuleTrigger> triggers = apiTimers.remove(api);
         if (triggers != null) {
@@ -153,6 +153,39 @@ public class EndpointStatusDecoratorTest {
         Assert.assertEquals(Endpoint.Status.TRANSITIONALLY_DOWN, endpoint.getStatus());
     }
 
+    @Test
+    public void testEndpointStatus_availabilityChanged() {
+        Endpoint endpoint = createEndpoint();
+        EndpointStatusDecorator manager = new EndpointStatusDecorator(endpoint);
+
+        Assert.assertFalse(manager.updateStatus(false));
+        Assert.assertFalse(manager.updateStatus(false));
+        Assert.assertTrue(manager.updateStatus(false));
+        Assert.assertFalse(manager.updateStatus(false));
+
+        Assert.assertTrue(manager.updateStatus(true));
+        Assert.assertFalse(manager.updateStatus(true));
+    }
+
+    @Test
+    public void testEndpointStatus_availabilityChangedWhileTransitionallyUp() {
+        Endpoint endpoint = createEndpoint();
+        EndpointStatusDecorator manager = new EndpointStatusDecorator(endpoint);
+
+        manager.updateStatus(false);
+        manager.updateStatus(false);
+        manager.updateStatus(false);
+        Assert.assertEquals(Endpoint.Status.DOWN, endpoint.getStatus());
+
+        // DOWN -> TRANSITIONALLY_UP: available again
+        Assert.assertTrue(manager.updateStatus(true));
+        Assert.assertEquals(Endpoint.Status.TRANSITIONALLY_UP, endpoint.getStatus());
+
+        // TRANSITIONALLY_UP -> DOWN: no longer available
+        Assert.assertTrue(manager.updateStatus(false));
+        Assert.assertEquals(Endpoint.Status.DOWN, endpoint.getStatus());
+    }
+
     private Endpoint createEndpoint() {
         return new HttpEndpoint("default", "http://localhost:9099");
     }
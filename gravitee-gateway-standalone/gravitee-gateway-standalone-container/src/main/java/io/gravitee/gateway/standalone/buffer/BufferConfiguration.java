@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.standalone.buffer;
+
+import io.gravitee.gateway.buffer.netty.BufferFactoryImpl;
+import io.gravitee.gateway.buffer.netty.BufferUtils;
+import io.gravitee.gateway.buffer.netty.PooledBufferFactoryImpl;
+import io.netty.util.ResourceLeakDetector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the factory of the buffers owned by the gateway, as defined in the <code>buffer</code> section of gravitee.yml.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+@Configuration
+public class BufferConfiguration implements InitializingBean {
+
+    private final Logger logger = LoggerFactory.getLogger(BufferConfiguration.class);
+
+    private static final String TYPE_POOLED = "pooled";
+
+    @Value("${buffer.type:unpooled}")
+    private String type;
+
+    @Value("${buffer.direct:false}")
+    private boolean direct;
+
+    @Value("${buffer.leakDetection:#{null}}")
+    private String leakDetection;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (leakDetection != null && !leakDetection.isEmpty()) {
+            ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.valueOf(leakDetection.toUpperCase()));
+        }
+
+        if (TYPE_POOLED.equalsIgnoreCase(type)) {
+            logger.info("Using pooled buffers for the content kept by the gateway (direct: {}, leak detection: {})",
+                    direct, ResourceLeakDetector.getLevel());
+            BufferUtils.setFactory(new PooledBufferFactoryImpl(direct));
+        } else {
+            BufferUtils.setFactory(new BufferFactoryImpl());
+        }
+    }
+}
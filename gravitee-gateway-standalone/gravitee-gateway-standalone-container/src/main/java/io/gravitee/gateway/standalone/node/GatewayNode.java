@@ -18,6 +18,7 @@ package io.gravitee.gateway.standalone.node;
 import io.gravitee.common.component.LifecycleComponent;
 import io.gravitee.gateway.env.GatewayConfiguration;
 import io.gravitee.gateway.reactor.Reactor;
+import io.gravitee.gateway.report.ReporterService;
 import io.gravitee.gateway.standalone.vertx.VertxEmbeddedContainer;
 import io.gravitee.node.container.AbstractNode;
 import io.gravitee.plugin.alert.AlertEngineService;
@@ -64,6 +65,7 @@ public class GatewayNode extends AbstractNode {
     public List<Class<? extends LifecycleComponent>> components() {
         List<Class<? extends LifecycleComponent>> components = super.components();
 
+        components.add(ReporterService.class);
         components.add(Reactor.class);
         components.add(VertxEmbeddedContainer.class);
         components.add(AlertEngineService.class);
@@ -25,6 +25,7 @@ import io.gravitee.gateway.env.GatewayConfiguration;
 import io.gravitee.gateway.handlers.api.spring.ApiHandlerConfiguration;
 import io.gravitee.gateway.reactor.spring.ReactorConfiguration;
 import io.gravitee.gateway.report.spring.ReporterConfiguration;
+import io.gravitee.gateway.standalone.buffer.BufferConfiguration;
 import io.gravitee.gateway.standalone.node.GatewayNode;
 import io.gravitee.gateway.standalone.vertx.VertxReactorConfiguration;
 import io.gravitee.node.api.Node;
@@ -45,6 +46,7 @@ import org.springframework.context.annotation.Import;
  */
 @Configuration
 @Import({
+        BufferConfiguration.class,
         VertxConfiguration.class,
         ReactorConfiguration.class,
         VertxReactorConfiguration.class,
@@ -15,6 +15,7 @@
  */
 package io.gravitee.gateway.standalone.vertx;
 
+import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpServerOptions;
 import org.springframework.beans.factory.annotation.Value;
 
@@ -60,6 +61,18 @@ public class VertxHttpServerConfiguration {
     @Value("${http.tcpKeepAlive:true}")
     private boolean tcpKeepAlive;
 
+    @Value("${http.http2.clearText:" + HttpServerOptions.DEFAULT_HTTP2_CLEAR_TEXT_ENABLED + "}")
+    private boolean http2ClearText;
+
+    @Value("${http.http2.maxConcurrentStreams:" + HttpServerOptions.DEFAULT_INITIAL_SETTINGS_MAX_CONCURRENT_STREAMS + "}")
+    private long http2MaxConcurrentStreams;
+
+    @Value("${http.http2.initialWindowSize:" + Http2Settings.DEFAULT_INITIAL_WINDOW_SIZE + "}")
+    private int http2InitialWindowSize;
+
+    @Value("${http.http2.connectionWindowSize:" + HttpServerOptions.DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE + "}")
+    private int http2ConnectionWindowSize;
+
     public int getPort() {
         return port;
     }
@@ -155,4 +168,36 @@ public class VertxHttpServerConfiguration {
     public void setAlpn(boolean alpn) {
         this.alpn = alpn;
     }
+
+    public boolean isHttp2ClearText() {
+        return http2ClearText;
+    }
+
+    public void setHttp2ClearText(boolean http2ClearText) {
+        this.http2ClearText = http2ClearText;
+    }
+
+    public long getHttp2MaxConcurrentStreams() {
+        return http2MaxConcurrentStreams;
+    }
+
+    public void setHttp2MaxConcurrentStreams(long http2MaxConcurrentStreams) {
+        this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+    }
+
+    public int getHttp2InitialWindowSize() {
+        return http2InitialWindowSize;
+    }
+
+    public void setHttp2InitialWindowSize(int http2InitialWindowSize) {
+        this.http2InitialWindowSize = http2InitialWindowSize;
+    }
+
+    public int getHttp2ConnectionWindowSize() {
+        return http2ConnectionWindowSize;
+    }
+
+    public void setHttp2ConnectionWindowSize(int http2ConnectionWindowSize) {
+        this.http2ConnectionWindowSize = http2ConnectionWindowSize;
+    }
 }
@@ -17,6 +17,7 @@ package io.gravitee.gateway.standalone.vertx;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.http.ClientAuth;
+import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.net.JksOptions;
@@ -74,6 +75,13 @@ public class VertxHttpServerFactory implements FactoryBean<HttpServer> {
         options.setIdleTimeout(httpServerConfiguration.getIdleTimeout());
         options.setTcpKeepAlive(httpServerConfiguration.isTcpKeepAlive());
 
+        // HTTP/2 configuration (h2 is negotiated with ALPN, h2c with prior knowledge or by upgrading an HTTP/1.1 request)
+        options.setHttp2ClearTextEnabled(httpServerConfiguration.isHttp2ClearText());
+        options.setHttp2ConnectionWindowSize(httpServerConfiguration.getHttp2ConnectionWindowSize());
+        options.setInitialSettings(new Http2Settings()
+                .setMaxConcurrentStreams(httpServerConfiguration.getHttp2MaxConcurrentStreams())
+                .setInitialWindowSize(httpServerConfiguration.getHttp2InitialWindowSize()));
+
         return vertx.createHttpServer(options);
     }
 
@@ -24,6 +24,7 @@ import io.gravitee.common.utils.UUID;
 import io.gravitee.gateway.api.Request;
 import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.api.handler.Handler;
+import io.gravitee.gateway.buffer.netty.BufferFactoryImpl;
 import io.gravitee.reporter.api.http.Metrics;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpServerRequest;
@@ -40,6 +41,8 @@ import java.util.Map;
  */
 class VertxHttpServerRequest implements Request {
 
+    private static final BufferFactoryImpl BUFFER_FACTORY = new BufferFactoryImpl();
+
     private final String id;
     private final long timestamp;
 
@@ -177,7 +180,7 @@ class VertxHttpServerRequest implements Request {
     @Override
     public Request bodyHandler(Handler<Buffer> bodyHandler) {
         httpServerRequest.handler(event -> {
-            bodyHandler.handle(Buffer.buffer(event.getBytes()));
+            bodyHandler.handle(BUFFER_FACTORY.wrap(event.getByteBuf()));
             metrics.setRequestContentLength(metrics.getRequestContentLength() + event.length());
         });
 
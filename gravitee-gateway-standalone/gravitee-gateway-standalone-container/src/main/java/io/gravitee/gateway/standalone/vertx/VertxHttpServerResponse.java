@@ -21,9 +21,11 @@ import io.gravitee.gateway.api.Response;
 import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.api.handler.Handler;
 import io.gravitee.gateway.api.stream.WriteStream;
+import io.gravitee.gateway.buffer.netty.BufferUtils;
 import io.gravitee.reporter.api.http.Metrics;
-import io.netty.buffer.ByteBuf;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -37,8 +39,15 @@ class VertxHttpServerResponse implements Response {
 
     private final Metrics metrics;
 
-    VertxHttpServerResponse(final HttpServerResponse httpServerResponse, final Metrics metrics) {
-        this.httpServerResponse = httpServerResponse;
+    /**
+     * With HTTP/2, each response is a stream of a multiplexed connection: flow-control (and so writeQueueFull) is
+     * handled per stream, and connection-specific headers must not be sent.
+     */
+    private final boolean http2;
+
+    VertxHttpServerResponse(final HttpServerRequest httpServerRequest, final Metrics metrics) {
+        this.httpServerResponse = httpServerRequest.response();
+        this.http2 = httpServerRequest.version() == HttpVersion.HTTP_2;
         this.metrics = metrics;
     }
 
@@ -65,21 +74,24 @@ class VertxHttpServerResponse implements Response {
                 writeHeaders();
 
                 // Vertx requires to set the chunked flag if transfer_encoding header as the "chunked" value
-                String transferEncodingHeader = headers().getFirst(HttpHeaders.TRANSFER_ENCODING);
-                if (HttpHeadersValues.TRANSFER_ENCODING_CHUNKED.equalsIgnoreCase(transferEncodingHeader)) {
-                    httpServerResponse.setChunked(true);
-                } else if (transferEncodingHeader == null) {
-                    String connectionHeader = headers().getFirst(HttpHeaders.CONNECTION);
-                    String contentLengthHeader = headers().getFirst(HttpHeaders.CONTENT_LENGTH);
-                    if (HttpHeadersValues.CONNECTION_CLOSE.equalsIgnoreCase(connectionHeader)
-                            && contentLengthHeader == null) {
+                // HTTP/2 streams are framed and do not rely on chunked encoding
+                if (!http2) {
+                    String transferEncodingHeader = headers().getFirst(HttpHeaders.TRANSFER_ENCODING);
+                    if (HttpHeadersValues.TRANSFER_ENCODING_CHUNKED.equalsIgnoreCase(transferEncodingHeader)) {
                         httpServerResponse.setChunked(true);
+                    } else if (transferEncodingHeader == null) {
+                        String connectionHeader = headers().getFirst(HttpHeaders.CONNECTION);
+                        String contentLengthHeader = headers().getFirst(HttpHeaders.CONTENT_LENGTH);
+                        if (HttpHeadersValues.CONNECTION_CLOSE.equalsIgnoreCase(connectionHeader)
+                                && contentLengthHeader == null) {
+                            httpServerResponse.setChunked(true);
+                        }
                     }
                 }
             }
 
             metrics.setResponseContentLength(metrics.getResponseContentLength() + chunk.length());
-            httpServerResponse.write(io.vertx.core.buffer.Buffer.buffer((ByteBuf) chunk.getNativeBuffer()));
+            httpServerResponse.write(io.vertx.core.buffer.Buffer.buffer(BufferUtils.detach(chunk)));
         }
         return this;
     }
@@ -111,6 +123,22 @@ class VertxHttpServerResponse implements Response {
     }
 
     private void writeHeaders() {
-        headers.forEach(httpServerResponse::putHeader);
+        if (http2) {
+            headers.forEach((name, values) -> {
+                if (!isConnectionSpecificHeader(name)) {
+                    httpServerResponse.putHeader(name, values);
+                }
+            });
+        } else {
+            headers.forEach(httpServerResponse::putHeader);
+        }
+    }
+
+    private static boolean isConnectionSpecificHeader(String name) {
+        return HttpHeaders.CONNECTION.equalsIgnoreCase(name)
+                || HttpHeaders.KEEP_ALIVE.equalsIgnoreCase(name)
+                || HttpHeaders.PROXY_CONNECTION.equalsIgnoreCase(name)
+                || HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(name)
+                || HttpHeaders.UPGRADE.equalsIgnoreCase(name);
     }
 }
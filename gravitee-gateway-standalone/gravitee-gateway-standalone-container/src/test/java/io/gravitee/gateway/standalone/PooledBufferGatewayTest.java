@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.standalone;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.gravitee.definition.model.Endpoint;
+import io.gravitee.definition.model.EndpointGroup;
+import io.gravitee.definition.model.endpoint.HttpEndpoint;
+import io.gravitee.gateway.handlers.api.definition.Api;
+import io.gravitee.gateway.standalone.junit.annotation.ApiConfiguration;
+import io.gravitee.gateway.standalone.junit.annotation.ApiDescriptor;
+import io.gravitee.gateway.standalone.servlet.EchoServlet;
+import io.gravitee.gateway.standalone.utils.StringUtils;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.util.ResourceLeakDetector;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.fluent.Request;
+import org.apache.http.entity.ContentType;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Replays requests to another endpoint with pooled buffers and a paranoid leak detection (see gravitee-02), and fails
+ * if one of the pooled buffers has not been released.
+ *
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+@ApiDescriptor(
+        value = "/io/gravitee/gateway/standalone/failover-replay.json",
+        home = "/gravitee-02/")
+@ApiConfiguration(
+        servlet = EchoServlet.class,
+        contextPath = "/echo")
+public class PooledBufferGatewayTest extends AbstractGatewayTest {
+
+    private static final Logger LEAK_LOGGER = (Logger) LoggerFactory.getLogger(ResourceLeakDetector.class);
+
+    private static final ListAppender<ILoggingEvent> LEAKS = new ListAppender<>();
+
+    private static ResourceLeakDetector.Level level;
+
+    @BeforeClass
+    public static void init() {
+        level = ResourceLeakDetector.getLevel();
+        LEAKS.start();
+        LEAK_LOGGER.addAppender(LEAKS);
+    }
+
+    @AfterClass
+    public static void destroy() {
+        LEAK_LOGGER.detachAppender(LEAKS);
+        LEAKS.stop();
+        ResourceLeakDetector.setLevel(level);
+    }
+
+    @Override
+    public void after(Api api) {
+        // Requests sent to this endpoint are refused, and replayed to the echo endpoint
+        EndpointGroup group = api.getProxy().getGroups().iterator().next();
+        HttpEndpoint echo = (HttpEndpoint) group.getEndpoints().iterator().next();
+        HttpEndpoint unreachable = new HttpEndpoint("unreachable", "http://localhost:1/echo");
+        unreachable.setHttpClientOptions(echo.getHttpClientOptions());
+
+        Set<Endpoint> endpoints = new LinkedHashSet<>(group.getEndpoints());
+        endpoints.add(unreachable);
+        group.setEndpoints(endpoints);
+    }
+
+    @Test
+    public void call_replayed_content_without_leak() throws Exception {
+        InputStream is = this.getClass().getClassLoader().getResourceAsStream("case1/request_content.json");
+        String content = StringUtils.copy(is);
+
+        for (int i = 0 ; i < 10 ; i++) {
+            HttpResponse response = Request.Put("http://localhost:8082/echo/my_team")
+                    .bodyString(content, ContentType.APPLICATION_JSON)
+                    .execute().returnResponse();
+
+            assertEquals(HttpStatus.SC_OK, response.getStatusLine().getStatusCode());
+            assertEquals(content, StringUtils.copy(response.getEntity().getContent()));
+        }
+
+        // Leaks are reported when a new buffer is tracked, once the leaked ones have been garbage collected
+        for (int i = 0 ; i < 10 ; i++) {
+            System.gc();
+            Thread.sleep(100);
+            PooledByteBufAllocator.DEFAULT.heapBuffer(1).release();
+        }
+
+        // Only consider the buffers created by the gateway from the pool
+        List<String> leaks = LEAKS.list.stream()
+                .map(ILoggingEvent::getFormattedMessage)
+                .filter(message -> message.contains("PooledBufferFactoryImpl"))
+                .collect(Collectors.toList());
+
+        assertTrue("Pooled buffers have not been released: " + leaks, leaks.isEmpty());
+    }
+}
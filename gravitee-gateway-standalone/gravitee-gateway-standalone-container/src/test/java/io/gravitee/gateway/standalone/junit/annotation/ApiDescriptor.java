@@ -31,4 +31,9 @@ public @interface ApiDescriptor {
     String value();
 
     boolean enhanceHttpPort() default true;
+
+    /**
+     * The gravitee home, containing the configuration used to start the gateway.
+     */
+    String home() default "/gravitee-01/";
 }
@@ -56,7 +56,8 @@ public class ApiDeployerStatement extends Statement {
 
     @Override
     public void evaluate() throws Throwable {
-        URL home = ApiDeployerStatement.class.getResource("/gravitee-01/");
+        ApiDescriptor apiDescriptor = target.getClass().getAnnotation(ApiDescriptor.class);
+        URL home = ApiDeployerStatement.class.getResource(apiDescriptor.home());
         System.setProperty("gravitee.home", URLDecoder.decode(home.getPath(), "UTF-8"));
 
         container = new GatewayContainer();
@@ -76,7 +77,7 @@ public class ApiDeployerStatement extends Statement {
         Thread.sleep(1000);
 
         ApiManager apiManager = container.applicationContext().getBean(ApiManager.class);
-        Api api = loadApi(target.getClass().getAnnotation(ApiDescriptor.class).value());
+        Api api = loadApi(apiDescriptor.value());
 
         try {
             apiManager.deploy(api);
@@ -53,4 +53,12 @@ public class EchoServlet extends HttpServlet {
         String content = StringUtils.copy(req.getInputStream());
         resp.getOutputStream().print(content);
     }
+
+    @Override
+    protected void doPut(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        resp.addHeader("method", "PUT");
+
+        String content = StringUtils.copy(req.getInputStream());
+        resp.getOutputStream().print(content);
+    }
 }
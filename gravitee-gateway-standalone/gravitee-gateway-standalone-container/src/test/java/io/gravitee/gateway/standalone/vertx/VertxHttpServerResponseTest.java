@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.standalone.vertx;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpHeadersValues;
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.reporter.api.http.Metrics;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author David BRASSELY (david.brassely at graviteesource.com)
+ * @author GraviteeSource Team
+ */
+public class VertxHttpServerResponseTest {
+
+    @Mock
+    private HttpServerRequest httpServerRequest;
+
+    @Mock
+    private HttpServerResponse httpServerResponse;
+
+    private final Metrics metrics = Metrics.on(System.currentTimeMillis()).build();
+
+    @Before
+    public void init() {
+        MockitoAnnotations.initMocks(this);
+        when(httpServerRequest.response()).thenReturn(httpServerResponse);
+    }
+
+    @Test
+    public void shouldWriteChunkedResponse_http1() {
+        when(httpServerRequest.version()).thenReturn(HttpVersion.HTTP_1_1);
+
+        VertxHttpServerResponse response = new VertxHttpServerResponse(httpServerRequest, metrics);
+        response.headers().set(HttpHeaders.TRANSFER_ENCODING, HttpHeadersValues.TRANSFER_ENCODING_CHUNKED);
+        response.write(Buffer.buffer("chunk"));
+
+        verify(httpServerResponse).setChunked(true);
+        verify(httpServerResponse).putHeader(eq(HttpHeaders.TRANSFER_ENCODING), any(Iterable.class));
+    }
+
+    @Test
+    public void shouldNotWriteConnectionSpecificHeaders_http2() {
+        when(httpServerRequest.version()).thenReturn(HttpVersion.HTTP_2);
+
+        VertxHttpServerResponse response = new VertxHttpServerResponse(httpServerRequest, metrics);
+        response.headers().set(HttpHeaders.TRANSFER_ENCODING, HttpHeadersValues.TRANSFER_ENCODING_CHUNKED);
+        response.headers().set(HttpHeaders.CONNECTION, HttpHeadersValues.CONNECTION_CLOSE);
+        response.headers().set(HttpHeaders.CONTENT_TYPE, "text/plain");
+        response.write(Buffer.buffer("chunk"));
+
+        verify(httpServerResponse, never()).setChunked(anyBoolean());
+        verify(httpServerResponse).putHeader(eq(HttpHeaders.CONTENT_TYPE), any(Iterable.class));
+        verify(httpServerResponse, never()).putHeader(eq(HttpHeaders.TRANSFER_ENCODING), any(Iterable.class));
+        verify(httpServerResponse, never()).putHeader(eq(HttpHeaders.CONNECTION), any(Iterable.class));
+    }
+
+    @Test
+    public void shouldHonorStreamWriteQueue_http2() {
+        when(httpServerRequest.version()).thenReturn(HttpVersion.HTTP_2);
+        when(httpServerResponse.writeQueueFull()).thenReturn(true);
+
+        VertxHttpServerResponse response = new VertxHttpServerResponse(httpServerRequest, metrics);
+
+        Assert.assertTrue(response.writeQueueFull());
+    }
+}